@@ -105,6 +105,7 @@ public class AeonMobileDriver extends AeonWebDriver implements IMobileDriver {
 
     @Override
     public void switchToWebView(IByWeb selector) {
+        clearFramePath();
         adapter.switchToWebView(selector);
     }
 
@@ -125,6 +126,7 @@ public class AeonMobileDriver extends AeonWebDriver implements IMobileDriver {
 
     @Override
     public void closeApp() {
+        clearFramePath();
         adapter.closeApp();
     }
 }
@@ -4,10 +4,18 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
 import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithReturn;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebControlCommand;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebControlCommandWithReturn;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunner;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunnerFactory;
 import com.ultimatesoftware.aeon.core.common.helpers.AjaxWaiter;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 import com.ultimatesoftware.aeon.core.testabstraction.product.WebConfiguration;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * The facade for the WebCommand Execution layer.
  */
@@ -15,6 +23,11 @@ public class WebCommandExecutionFacade implements ICommandExecutionFacade {
 
     private IDelegateRunnerFactory delegateRunnerFactory;
     private AjaxWaiter ajaxWaiter;
+    private final Duration readOnlySkipWindow;
+
+    // Set when an ajax wait before a read-only command found the page idle, cleared by any mutating command.
+    private volatile boolean pageQuiet;
+    private volatile long pageQuietSinceNanos;
 
     /**
      * Initializes a new instance of the {@link WebCommandExecutionFacade} class.
@@ -23,8 +36,21 @@ public class WebCommandExecutionFacade implements ICommandExecutionFacade {
      * @param ajaxWaiter            The ajax waiter.
      */
     public WebCommandExecutionFacade(IDelegateRunnerFactory delegateRunnerFactory, AjaxWaiter ajaxWaiter) {
+        this(delegateRunnerFactory, ajaxWaiter, Duration.ZERO);
+    }
+
+    /**
+     * Initializes a new instance of the {@link WebCommandExecutionFacade} class.
+     *
+     * @param delegateRunnerFactory The delegate runner factory.
+     * @param ajaxWaiter            The ajax waiter.
+     * @param readOnlySkipWindow    How long after an ajax wait found the page idle read-only commands skip the wait,
+     *                              as long as no mutating command ran in between.
+     */
+    public WebCommandExecutionFacade(IDelegateRunnerFactory delegateRunnerFactory, AjaxWaiter ajaxWaiter, Duration readOnlySkipWindow) {
         this.delegateRunnerFactory = delegateRunnerFactory;
         this.ajaxWaiter = ajaxWaiter;
+        this.readOnlySkipWindow = readOnlySkipWindow;
     }
 
     /**
@@ -52,14 +78,33 @@ public class WebCommandExecutionFacade implements ICommandExecutionFacade {
      * @param command        The command to execute.
      */
     public void execute(AutomationInfo automationInfo, Command command) {
+        execute(automationInfo, command, null);
+    }
+
+    /**
+     * Executes a command, retrying it for a timeout of its own instead of the configured timeout.
+     *
+     * @param automationInfo The automation info.
+     * @param command        The command to execute.
+     * @param timeout        How long the command is retried, or null for the configured timeout.
+     */
+    @Override
+    public void execute(AutomationInfo automationInfo, Command command, Duration timeout) {
         if (command == null) {
             throw new IllegalArgumentException("command");
         }
-        if (command instanceof WebControlCommand
-                && automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)) {
-            ajaxWaiter.waitForAsync();
+        boolean readOnly = command.isReadOnly();
+        waitForAjaxResponses(automationInfo, command instanceof WebControlCommand, readOnly);
+        try {
+            IDelegateRunner delegateRunner = delegateRunnerFactory.createInstance(automationInfo);
+            if (timeout == null) {
+                delegateRunner.execute(command.getCommandDelegate(), readOnly);
+            } else {
+                delegateRunner.execute(command.getCommandDelegate(), readOnly, timeout);
+            }
+        } finally {
+            commandExecuted(automationInfo.getDriver(), readOnly);
         }
-        delegateRunnerFactory.createInstance(automationInfo).execute(command.getCommandDelegate());
     }
 
     /**
@@ -70,13 +115,102 @@ public class WebCommandExecutionFacade implements ICommandExecutionFacade {
      * @return The return value of the command.
      */
     public Object execute(AutomationInfo automationInfo, CommandWithReturn command) {
+        return execute(automationInfo, command, null);
+    }
+
+    /**
+     * Executes a command, retrying it for a timeout of its own instead of the configured timeout.
+     *
+     * @param automationInfo The automation info.
+     * @param command        The command to execute.
+     * @param timeout        How long the command is retried, or null for the configured timeout.
+     * @return The return value of the command.
+     */
+    @Override
+    public Object execute(AutomationInfo automationInfo, CommandWithReturn command, Duration timeout) {
         if (command == null) {
             throw new IllegalArgumentException("command");
         }
-        if (command instanceof WebControlCommandWithReturn
-                && automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)) {
-            ajaxWaiter.waitForAsync();
+        boolean readOnly = command.isReadOnly();
+        waitForAjaxResponses(automationInfo, command instanceof WebControlCommandWithReturn, readOnly);
+        try {
+            IDelegateRunner delegateRunner = delegateRunnerFactory.createInstance(automationInfo);
+            if (timeout == null) {
+                return delegateRunner.execute(command.getCommandDelegate(), readOnly);
+            }
+
+            return delegateRunner.execute(command.getCommandDelegate(), readOnly, timeout);
+        } finally {
+            commandExecuted(automationInfo.getDriver(), readOnly);
+        }
+    }
+
+    /**
+     * Executes a batch of commands as a single command, waiting for ajax responses once before the first step and
+     * once after the last step that is not read-only. The steps share the frames the driver is switched to.
+     *
+     * @param automationInfo The automation info.
+     * @param batch          The commands to execute.
+     * @return The return value of every command, null for commands without a return value.
+     */
+    @Override
+    public List<Object> execute(AutomationInfo automationInfo, CommandBatch batch) {
+        if (batch == null) {
+            throw new IllegalArgumentException("batch");
+        }
+        boolean readOnly = batch.isReadOnly();
+        boolean webControlBatch = batch.getCommands().stream()
+                .anyMatch(command -> command instanceof WebControlCommand || command instanceof WebControlCommandWithReturn);
+        waitForAjaxResponses(automationInfo, webControlBatch, readOnly);
+        AtomicBoolean settled = new AtomicBoolean();
+        try {
+            return CommandBatch.getResults(delegateRunnerFactory.createInstance(automationInfo)
+                    .execute(batch.getCommandDelegate(driver -> {
+                        settled.set(true);
+                        commandExecuted(driver, false);
+                        waitForAjaxResponses(automationInfo, webControlBatch, false);
+                    }), readOnly));
+        } finally {
+            if (!settled.get()) {
+                commandExecuted(automationInfo.getDriver(), readOnly);
+            }
+        }
+    }
+
+    // A mutating command may have replaced any control on the page, so controls found so far cannot be reused.
+    private static void commandExecuted(IDriver driver, boolean readOnly) {
+        if (!(driver instanceof IWebDriver)) {
+            return;
+        }
+
+        IWebDriver webDriver = (IWebDriver) driver;
+        if (!readOnly) {
+            WebControlCache cache = webDriver.getControlCache();
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+
+        webDriver.commandExecuted(readOnly);
+    }
+
+    private void waitForAjaxResponses(AutomationInfo automationInfo, boolean webControlCommand, boolean readOnly) {
+        if (!readOnly) {
+            pageQuiet = false;
+        }
+
+        if (!webControlCommand
+                || !automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)) {
+            return;
+        }
+
+        // A read-only command cannot have started new requests, so the page is still idle shortly after the last wait.
+        if (readOnly && pageQuiet && System.nanoTime() - pageQuietSinceNanos < readOnlySkipWindow.toNanos()) {
+            return;
         }
-        return delegateRunnerFactory.createInstance(automationInfo).execute(command.getCommandDelegate());
+
+        boolean idle = ajaxWaiter.waitForAsync();
+        pageQuietSinceNanos = System.nanoTime();
+        pageQuiet = idle && readOnly;
     }
 }
@@ -4,7 +4,6 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.interfaces.IWeb
 import com.ultimatesoftware.aeon.core.common.interfaces.IBy;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.Control;
-import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 
@@ -46,24 +45,11 @@ public class WebCommandInitializer implements ICommandInitializer {
      * @return The {@link Control} of the found element.
      */
     public final Control findElement(IDriver driver, IBy selector) {
-        IWebDriver webDriver = (IWebDriver) driver;
-        WebControl element = finder.findElement(webDriver, (IByWeb) selector);
-        webDriver.scrollElementIntoView(element);
-        return element;
+        return finder.findElementInView((IWebDriver) driver, (IByWeb) selector);
     }
 
     @Override
     public Consumer<IDriver> setContext() {
-        return driver -> {
-            IWebDriver webDriver = (IWebDriver) driver;
-            webDriver.switchToDefaultContent();
-            if (switchMechanism != null) {
-                webDriver.focusWindow();
-
-                for (IByWeb selector : switchMechanism) {
-                    webDriver.switchToFrame(selector);
-                }
-            }
-        };
+        return driver -> ((IWebDriver) driver).switchToFramePath(switchMechanism);
     }
 }
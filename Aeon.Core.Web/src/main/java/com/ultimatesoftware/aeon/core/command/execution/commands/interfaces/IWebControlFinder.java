@@ -18,4 +18,13 @@ public interface IWebControlFinder {
      * @return The {@link WebControl} of the found element.
      */
     WebControl findElement(IWebDriver driver, IByWeb selector);
+
+    /**
+     * Finds a web element utilizing a web driver and scrolls it into view if the driver is configured to.
+     *
+     * @param driver   The facade for the framework abstraction layer.
+     * @param selector The selector for the Element.
+     * @return The {@link WebControl} of the found element.
+     */
+    WebControl findElementInView(IWebDriver driver, IByWeb selector);
 }
@@ -46,4 +46,9 @@ public class DatesApproximatelyEqualCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.datesApproximatelyEqual(control, attributeName, expectedDate, acceptableDelta);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
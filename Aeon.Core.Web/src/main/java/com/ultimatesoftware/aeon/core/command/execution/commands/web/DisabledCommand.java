@@ -27,4 +27,9 @@ public class DisabledCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.isElementDisabled(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
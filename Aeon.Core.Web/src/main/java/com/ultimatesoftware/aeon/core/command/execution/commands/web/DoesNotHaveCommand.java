@@ -42,4 +42,9 @@ public class DoesNotHaveCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.doesNotHave(control, messages, childSelector, option, attribute);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -42,4 +42,9 @@ public class DoesNotHaveLikeCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.doesNotHaveLike(control, messages, childSelector, option, attribute);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
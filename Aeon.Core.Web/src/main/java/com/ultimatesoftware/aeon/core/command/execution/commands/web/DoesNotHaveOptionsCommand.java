@@ -62,4 +62,9 @@ public class DoesNotHaveOptionsCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.doesNotHaveOptions(control, options, optgroup, select);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -33,4 +33,9 @@ public class EnabledCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.isElementEnabled(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
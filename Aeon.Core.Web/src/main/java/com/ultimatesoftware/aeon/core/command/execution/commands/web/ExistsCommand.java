@@ -35,4 +35,9 @@ public class ExistsCommand extends WebControlCommand {
         getCommandInitializer().findElement(driver, control.getSelector());
         driver.exists(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
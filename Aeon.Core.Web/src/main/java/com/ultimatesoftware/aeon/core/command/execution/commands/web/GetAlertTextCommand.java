@@ -27,4 +27,9 @@ public class GetAlertTextCommand extends CommandWithReturn {
     protected String commandDelegate(IDriver driver) {
         return ((IWebDriver) driver).getAlertText();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -28,4 +28,9 @@ public class GetAllCookiesCommand extends CommandWithReturn {
     protected Object commandDelegate(IDriver driver) {
         return ((IWebDriver) driver).getAllCookies();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
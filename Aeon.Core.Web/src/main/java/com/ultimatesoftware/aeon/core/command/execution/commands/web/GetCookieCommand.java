@@ -34,4 +34,9 @@ public class GetCookieCommand extends CommandWithReturn {
     protected Object commandDelegate(IDriver driver) {
         return ((IWebDriver) driver).getCookie(name);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
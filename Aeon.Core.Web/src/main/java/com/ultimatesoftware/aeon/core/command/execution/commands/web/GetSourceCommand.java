@@ -20,4 +20,9 @@ public class GetSourceCommand extends CommandWithReturn {
     protected Object commandDelegate(IDriver driver) {
         return driver.getSource();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
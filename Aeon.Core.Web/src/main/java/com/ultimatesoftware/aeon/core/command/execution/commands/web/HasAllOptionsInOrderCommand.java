@@ -42,4 +42,9 @@ public class HasAllOptionsInOrderCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.hasAllOptionsInOrder(control, compare, optGroup);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
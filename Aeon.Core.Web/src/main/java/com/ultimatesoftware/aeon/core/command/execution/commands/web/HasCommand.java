@@ -42,4 +42,9 @@ public class HasCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.has(control, messages, childSelector, option, attribute);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -42,4 +42,9 @@ public class HasLikeCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.hasLike(control, messages, childSelector, option, attribute);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
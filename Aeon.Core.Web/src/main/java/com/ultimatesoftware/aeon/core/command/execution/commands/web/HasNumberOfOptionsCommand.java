@@ -54,4 +54,9 @@ public class HasNumberOfOptionsCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.hasNumberOfOptions(control, number, optGroup);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -43,4 +43,9 @@ public class HasOnlyCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.hasOnly(control, messages, childSelector, option, attribute);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
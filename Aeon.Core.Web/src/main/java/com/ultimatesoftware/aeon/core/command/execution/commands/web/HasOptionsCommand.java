@@ -61,4 +61,9 @@ public class HasOptionsCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.hasOptions(control, options, optGroup, select);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
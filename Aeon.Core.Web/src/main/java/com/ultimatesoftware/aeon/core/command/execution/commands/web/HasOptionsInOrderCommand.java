@@ -60,4 +60,9 @@ public class HasOptionsInOrderCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.hasOptionsInOrder(control, options, optgroup, select);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -45,4 +45,9 @@ public class NotExistsCommand extends Command {
         }
         ((IWebDriver) driver).notExists(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
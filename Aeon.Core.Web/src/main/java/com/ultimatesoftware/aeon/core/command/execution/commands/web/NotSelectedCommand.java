@@ -33,4 +33,9 @@ public class NotSelectedCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.notSelected(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -33,4 +33,9 @@ public class NotVisibleCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.notVisible(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -33,4 +33,9 @@ public class SelectedCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.selected(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -26,4 +26,9 @@ public class VerifyAlertExistsCommand extends Command {
     protected void driverDelegate(IDriver driver) {
         ((IWebDriver) driver).verifyAlertExists();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -24,4 +24,9 @@ public class VerifyAlertNotExistsCommand extends Command {
     protected void driverDelegate(IDriver driver) {
         ((IWebDriver) driver).verifyAlertNotExists();
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -28,4 +28,9 @@ public class VerifyAlertTextCommand extends Command {
     protected void driverDelegate(IDriver driver) {
         ((IWebDriver) driver).verifyAlertText(comparingText);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -31,4 +31,9 @@ public class VerifyAlertTextLikeCommand extends Command {
     protected void driverDelegate(IDriver driver) {
         ((IWebDriver) driver).verifyAlertTextLike(comparingText, caseSensitive);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -28,4 +28,9 @@ public class VerifyTitleCommand extends Command {
     protected void driverDelegate(IDriver driver) {
         ((IWebDriver) driver).verifyTitle(comparingText);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -30,4 +30,9 @@ public class VerifyUrlCommand extends Command {
     protected void driverDelegate(IDriver driver) {
         ((IWebDriver) driver).verifyURL(comparingURL);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -33,4 +33,9 @@ public class VisibleCommand extends WebControlCommand {
     protected void commandDelegate(IWebDriver driver, WebControl control) {
         driver.visible(control);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
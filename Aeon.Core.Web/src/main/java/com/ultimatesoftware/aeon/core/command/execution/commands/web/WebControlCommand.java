@@ -4,6 +4,7 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
 import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.ICommandInitializer;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 
@@ -48,7 +49,17 @@ public abstract class WebControlCommand extends Command {
 
         IWebDriver webDriver = (IWebDriver) driver;
         WebControl control = (WebControl) getCommandInitializer().findElement(driver, selector);
-        commandDelegate(webDriver, control);
+        try {
+            commandDelegate(webDriver, control);
+        } catch (RuntimeException e) {
+            WebControlCache cache = webDriver.getControlCache();
+            if (cache == null || !cache.invalidate(e)) {
+                throw e;
+            }
+
+            control = (WebControl) getCommandInitializer().findElement(driver, selector);
+            commandDelegate(webDriver, control);
+        }
     }
 
     /**
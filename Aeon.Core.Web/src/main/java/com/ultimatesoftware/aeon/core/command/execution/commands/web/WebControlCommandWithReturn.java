@@ -4,6 +4,7 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithRetu
 import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.ICommandInitializer;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 
@@ -36,7 +37,17 @@ public abstract class WebControlCommandWithReturn extends CommandWithReturn {
     protected Object commandDelegate(IDriver driver) {
         IWebDriver webDriver = (IWebDriver) driver;
         WebControl control = (WebControl) getCommandInitializer().findElement(webDriver, selector);
-        return commandDelegateOverride(driver, control);
+        try {
+            return commandDelegateOverride(driver, control);
+        } catch (RuntimeException e) {
+            WebControlCache cache = webDriver.getControlCache();
+            if (cache == null || !cache.invalidate(e)) {
+                throw e;
+            }
+
+            control = (WebControl) getCommandInitializer().findElement(webDriver, selector);
+            return commandDelegateOverride(driver, control);
+        }
     }
 
     /**
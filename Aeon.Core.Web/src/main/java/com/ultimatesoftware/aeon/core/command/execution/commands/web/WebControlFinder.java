@@ -4,6 +4,7 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.interfaces.IWeb
 import com.ultimatesoftware.aeon.core.command.execution.commands.interfaces.IWebSelectorFinder;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 
 
@@ -31,14 +32,42 @@ public class WebControlFinder implements IWebControlFinder {
     }
 
     /**
-     * Finds a web element utilizing a web driver.
+     * Finds a web element utilizing a web driver, reusing the control found last time if the driver caches controls.
      *
      * @param driver   The web driver.
      * @param selector The selector for the element.
      * @return the web control object.
      */
     public final WebControl findElement(IWebDriver driver, IByWeb selector) {
-        WebControl control = driver.findElement(selectorFinder.findSelector(driver, selector));
+        return findElement(driver, selector, false);
+    }
+
+    /**
+     * Finds a web element utilizing a web driver and scrolls it into view if the driver is configured to.
+     * <p>
+     * A control that is not cached is scrolled into view by the same call that finds it.
+     *
+     * @param driver   The web driver.
+     * @param selector The selector for the element.
+     * @return the web control object.
+     */
+    public final WebControl findElementInView(IWebDriver driver, IByWeb selector) {
+        return findElement(driver, selector, true);
+    }
+
+    private WebControl findElement(IWebDriver driver, IByWeb selector, boolean inView) {
+        WebControlCache cache = driver.getControlCache();
+        WebControl control = cache == null ? null : cache.get(selector);
+        if (control != null && inView) {
+            driver.scrollElementIntoView(control);
+        } else if (control == null) {
+            IByWeb resolvedSelector = selectorFinder.findSelector(driver, selector);
+            control = inView ? driver.findElementInView(resolvedSelector) : driver.findElement(resolvedSelector);
+            if (cache != null) {
+                cache.put(selector, control);
+            }
+        }
+
         control.setSelector(selector);
         return control;
     }
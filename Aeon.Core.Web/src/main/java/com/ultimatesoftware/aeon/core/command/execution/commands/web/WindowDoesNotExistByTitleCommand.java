@@ -28,4 +28,9 @@ public class WindowDoesNotExistByTitleCommand extends CommandWithReturn {
     protected Object commandDelegate(IDriver driver) {
         return ((IWebDriver) driver).windowDoesNotExistByTitle(windowTitle);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -28,4 +28,9 @@ public class WindowDoesNotExistByUrlCommand extends CommandWithReturn {
     protected Object commandDelegate(IDriver driver) {
         return ((IWebDriver) driver).windowDoesNotExistByUrl(url);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
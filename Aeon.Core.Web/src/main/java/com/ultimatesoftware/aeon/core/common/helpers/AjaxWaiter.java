@@ -18,8 +18,16 @@ import java.util.stream.Collectors;
 public class AjaxWaiter {
 
     private static Logger log = LoggerFactory.getLogger(AjaxWaiter.class);
+
+    // The minimized content of ajax-waiter.js, read once per JVM.
+    private static volatile String ajaxWaiterScript;
+
     private IWebDriver webDriver;
     private Duration timeout;
+    private volatile boolean useAsyncScript;
+    private final QuiescenceSignals signals;
+    private volatile String waitForIdleScript;
+    private volatile String pollScript;
 
     /**
      * Constructor for an AjaxWaiter.
@@ -29,8 +37,38 @@ public class AjaxWaiter {
      *                an ajax response.
      */
     public AjaxWaiter(IDriver driver, Duration timeout) {
+        this(driver, timeout, true);
+    }
+
+    /**
+     * Constructor for an AjaxWaiter.
+     *
+     * @param driver         The specified driver that receives ajax responses.
+     * @param timeout        The amount of time, in milliseconds, that the driver will wait before processing
+     *                       an ajax response.
+     * @param useAsyncScript Whether to wait with a single asynchronous script that is notified once the page is idle,
+     *                       instead of polling the ajax counter.
+     */
+    public AjaxWaiter(IDriver driver, Duration timeout, boolean useAsyncScript) {
+        this(driver, timeout, useAsyncScript, QuiescenceSignals.DEFAULT);
+    }
+
+    /**
+     * Constructor for an AjaxWaiter.
+     *
+     * @param driver         The specified driver that receives ajax responses.
+     * @param timeout        The amount of time, in milliseconds, that the driver will wait before processing
+     *                       an ajax response.
+     * @param useAsyncScript Whether to wait with a single asynchronous script that is notified once the page is idle,
+     *                       instead of polling the ajax counter.
+     * @param signals        The page activity, besides XMLHttpRequests, to wait for.
+     */
+    public AjaxWaiter(IDriver driver, Duration timeout, boolean useAsyncScript, QuiescenceSignals signals) {
         this.webDriver = (IWebDriver) driver;
         this.timeout = timeout;
+        this.useAsyncScript = useAsyncScript;
+        this.signals = signals;
+        prepareScripts();
     }
 
     /**
@@ -67,50 +105,153 @@ public class AjaxWaiter {
      */
     public void setTimeout(long millis) {
         this.timeout = Duration.ofMillis(millis);
+        prepareScripts();
+    }
+
+    /**
+     * Gets whether the ajax waiter waits with an asynchronous script.
+     *
+     * @return False if asynchronous scripts are disabled or not supported by the driver.
+     */
+    public boolean isUsingAsyncScript() {
+        return useAsyncScript;
     }
 
     /**
      * Waits for all ajax responses until timeout.
+     * <p>
+     * The ajax waiter is injected by the same script that reads it whenever the page does not have it yet,
+     * so a page navigation does not cost additional round trips.
+     *
+     * @return True if the page was idle when the wait returned, false if the wait timed out or the ajax waiter
+     * had to be injected first.
+     */
+    public boolean waitForAsync() {
+        if (useAsyncScript) {
+            try {
+                return getPendingCount(webDriver.executeAsyncScript(waitForIdleScript)) == 0;
+            } catch (ScriptExecutionException e) {
+                if (isAsyncScriptUnsupported(e)) {
+                    log.info("Asynchronous scripts are not supported, falling back to polling for ajax responses");
+                    useAsyncScript = false;
+                } else {
+                    log.debug("Asynchronous wait for ajax responses failed, polling instead: {}", e.getMessage());
+                }
+            }
+        }
+
+        return pollAjaxCounter();
+    }
+
+    /**
+     * Checks whether a failed asynchronous script means that the driver does not support asynchronous scripts at all,
+     * as opposed to a failure of this wait only, such as a navigation or a script timeout.
+     *
+     * @param e The exception thrown by the asynchronous script.
+     * @return True if the driver does not support asynchronous scripts.
      */
-    public void waitForAsync() {
+    private static boolean isAsyncScriptUnsupported(ScriptExecutionException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            // Selenium reports unknown commands with an UnsupportedCommandException, which is not on this class path.
+            if (cause instanceof UnsupportedOperationException
+                    || cause.getClass().getSimpleName().equals("UnsupportedCommandException")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Polls the pending activity count of the injected ajax waiter until it is zero.
+     *
+     * @return True if the page is idle.
+     */
+    private boolean pollAjaxCounter() {
         long count;
         LocalDateTime end = LocalDateTime.now().plus(timeout);
         do {
             try {
-                count = (long) webDriver.executeScript("return aeon.ajaxCounter;");
+                count = getPendingCount(webDriver.executeScript(pollScript));
             } catch (ScriptExecutionException e) {
-                injectJS();
-                return;
+                log.error("Could not inject JS");
+                throw e;
+            }
+            if (count < 0) {
+                return false;
             }
             Sleep.getInstance().waitInternal();
         } while (count != 0 && LocalDateTime.now().isBefore(end));
+
+        return count == 0;
     }
 
     /**
-     * Injects JS into the webDriver.
+     * Converts the result of a wait script to the pending activity count.
+     *
+     * @param result The result of the script.
+     * @return The pending activity count, or -1 if the ajax waiter was injected by the script.
      */
-    private void injectJS() {
-        try {
-            String injectScriptTag = "var a = document.createElement('script');a.text=\"" +
-                    getAjaxWaiterJS() + "\";a.setAttribute('id', 'aeonAjaxWaiter');document.body.appendChild(a);";
-            webDriver.executeScript(injectScriptTag);
-
-            // ajaxJsonpElementTimeout defines a timeout for JSONP request on the HTML page.
-            // This is set to be less than the timeout so that page interactions can be executed.
-            webDriver.executeScript("aeon.ajaxJsonpElementTimeout = " + (timeout.toMillis() - 2000));
+    private long getPendingCount(Object result) {
+        long count = ((Number) result).longValue();
+        if (count < 0) {
             log.info("Injected JS");
-        } catch (ScriptExecutionException e) {
-            log.error("Could not inject JS");
-            throw e;
         }
+
+        return count;
+    }
+
+    /**
+     * Builds the scripts sent on every wait, so that they are only rebuilt when the timeout changes.
+     */
+    private void prepareScripts() {
+        waitForIdleScript = "var done = arguments[arguments.length - 1];" +
+                getInjectIfMissingScript("done(-1); return;") +
+                "var finished = false;" +
+                "var finish = function (count) { if (!finished) { finished = true; done(count); } };" +
+                "setTimeout(function () { finish(aeon.pendingCount()); }, " + timeout.toMillis() + ");" +
+                "aeon.whenIdle(finish);";
+        pollScript = getInjectIfMissingScript("return -1;") + "return aeon.pendingCount();";
+    }
+
+    /**
+     * Gets a script that injects and configures the ajax waiter if the page does not have it.
+     *
+     * @param afterInjection The script that runs right after injection.
+     * @return The script.
+     */
+    private String getInjectIfMissingScript(String afterInjection) {
+        // ajaxJsonpElementTimeout defines a timeout for JSONP request on the HTML page.
+        // This is set to be less than the timeout so that page interactions can be executed.
+        return "if (typeof aeon === 'undefined' || typeof aeon.whenIdle !== 'function') {" +
+                "var a = document.createElement('script');a.text=\"" + getAjaxWaiterJS() +
+                "\";a.setAttribute('id', 'aeonAjaxWaiter');document.body.appendChild(a);" +
+                "aeon.ajaxJsonpElementTimeout = " + (timeout.toMillis() - 2000) + ";" +
+                "aeon.configure(" + signals.toJavaScript() + ");" +
+                afterInjection + "}";
+    }
+
+    /**
+     * Gets the minimized Ajax Waiter as a string, reading it from the class path on first use.
+     *
+     * @return the content of the ajax waiter script.
+     */
+    static String getAjaxWaiterJS() {
+        String script = ajaxWaiterScript;
+        if (script == null) {
+            script = StringUtils.minimizeWhiteSpace(readAjaxWaiterJS());
+            ajaxWaiterScript = script;
+        }
+
+        return script;
     }
 
     /**
-     * Gets the Ajax Waiter as a string.
+     * Reads the Ajax Waiter from the class path.
      *
      * @return the content of the buffered reader as a string.
      */
-    private String getAjaxWaiterJS() {
+    private static String readAjaxWaiterJS() {
         try (InputStream scriptReader = AjaxWaiter.class.getResourceAsStream("/ajax-waiter.js")) {
             return new BufferedReader(new InputStreamReader(scriptReader)).lines().collect(Collectors.joining("\n"));
         } catch (FileNotFoundException e) {
@@ -0,0 +1,110 @@
+package com.ultimatesoftware.aeon.core.common.helpers;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * The page activity, besides XMLHttpRequests, that the {@link AjaxWaiter} waits for before a command is executed.
+ * <p>
+ * Pending fetch requests, short timers and animation frames are counted like ajax requests. DOM mutations and
+ * web socket messages have no end, so the page is only considered settled once none was seen for the quiet window.
+ */
+public class QuiescenceSignals {
+
+    /**
+     * Waits for XMLHttpRequests and fetch requests only.
+     */
+    public static final QuiescenceSignals DEFAULT = new QuiescenceSignals(true, false, false, false, false, Duration.ofMillis(100));
+
+    private final boolean fetch;
+    private final boolean timers;
+    private final boolean animationFrames;
+    private final boolean domMutations;
+    private final boolean webSockets;
+    private final Duration quietWindow;
+
+    /**
+     * Initializes a new instance of the {@link QuiescenceSignals} class.
+     *
+     * @param fetch           Whether to wait for pending fetch requests.
+     * @param timers          Whether to wait for pending timers of up to one second.
+     * @param animationFrames Whether to wait for requested animation frames.
+     * @param domMutations    Whether to wait until the DOM did not change for the quiet window.
+     * @param webSockets      Whether to wait until no web socket message was sent or received for the quiet window.
+     * @param quietWindow     The time without DOM mutations or web socket messages after which the page is settled.
+     */
+    public QuiescenceSignals(boolean fetch, boolean timers, boolean animationFrames, boolean domMutations,
+                             boolean webSockets, Duration quietWindow) {
+        this.fetch = fetch;
+        this.timers = timers;
+        this.animationFrames = animationFrames;
+        this.domMutations = domMutations;
+        this.webSockets = webSockets;
+        this.quietWindow = quietWindow;
+    }
+
+    /**
+     * Gets whether pending fetch requests are waited for.
+     *
+     * @return True if fetch requests are tracked.
+     */
+    public boolean isFetch() {
+        return fetch;
+    }
+
+    /**
+     * Gets whether pending timers are waited for.
+     *
+     * @return True if timers are tracked.
+     */
+    public boolean isTimers() {
+        return timers;
+    }
+
+    /**
+     * Gets whether requested animation frames are waited for.
+     *
+     * @return True if animation frames are tracked.
+     */
+    public boolean isAnimationFrames() {
+        return animationFrames;
+    }
+
+    /**
+     * Gets whether DOM mutations delay the command.
+     *
+     * @return True if DOM mutations are tracked.
+     */
+    public boolean isDomMutations() {
+        return domMutations;
+    }
+
+    /**
+     * Gets whether web socket messages delay the command.
+     *
+     * @return True if web socket messages are tracked.
+     */
+    public boolean isWebSockets() {
+        return webSockets;
+    }
+
+    /**
+     * Gets the time without DOM mutations or web socket messages after which the page is settled.
+     *
+     * @return The quiet window.
+     */
+    public Duration getQuietWindow() {
+        return quietWindow;
+    }
+
+    /**
+     * Gets the signals as the settings object understood by {@code aeon.configure} of the injected ajax waiter.
+     *
+     * @return A JavaScript object literal.
+     */
+    public String toJavaScript() {
+        return String.format(Locale.ROOT,
+                "{fetch: %b, timers: %b, animationFrames: %b, domMutations: %b, webSockets: %b, quietWindow: %d}",
+                fetch, timers, animationFrames, domMutations, webSockets, quietWindow.toMillis());
+    }
+}
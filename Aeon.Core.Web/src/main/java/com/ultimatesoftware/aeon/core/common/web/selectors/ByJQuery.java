@@ -7,6 +7,7 @@ import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -26,6 +27,14 @@ public class ByJQuery implements IByWeb, IByJQuery {
      * Gets the previous function.
      */
     private ByJQuery predecessor;
+    /**
+     * The script of the chain, built on first use.
+     */
+    private String script;
+    /**
+     * The chain as a CSS selector, compiled on first use, empty if the chain cannot be expressed in CSS.
+     */
+    private Optional<JQueryCssSelector> cssSelector;
     /**
      * Defining constant strings.
      */
@@ -95,15 +104,16 @@ public class ByJQuery implements IByWeb, IByJQuery {
             return appendee;
         }
 
+        // Only the copies are changed, so that the scripts cached by the appendices stay valid.
         List<ByJQuery> jqAppendices =
                 Arrays.stream(appendices).map(ByJQuery::new).collect(Collectors.toList());
 
         for (int i = 0; i < jqAppendices.size() - 1; ++i) {
-            changeLastPredecessor(appendices[i], appendices[i + 1]);
+            changeLastPredecessor(jqAppendices.get(i), jqAppendices.get(i + 1));
         }
 
-        changeLastPredecessor(appendee, appendices[appendices.length - 1]);
-        return appendices[appendices.length - 1];
+        changeLastPredecessor(appendee, jqAppendices.get(jqAppendices.size() - 1));
+        return jqAppendices.get(jqAppendices.size() - 1);
     }
 
     private static void changeLastPredecessor(ByJQuery appendee, ByJQuery changee) {
@@ -216,6 +226,16 @@ public class ByJQuery implements IByWeb, IByJQuery {
      */
     @Override
     public String toString() {
+        String result = script;
+        if (result == null) {
+            result = buildScript();
+            script = result;
+        }
+
+        return result;
+    }
+
+    private String buildScript() {
         List<String> parameterStrings = new ArrayList<>();
         parameters.forEach(x -> parameterStrings.add(x.toString()));
         String joinedParameters = String.join(",", parameterStrings);
@@ -241,7 +261,8 @@ public class ByJQuery implements IByWeb, IByJQuery {
     public final String toString(JQueryStringType type) {
         switch (type) {
             case AS_SUBCHAIN:
-                return toString().replaceFirst("\\$\\(", "find(");
+                String chain = toString();
+                return chain.startsWith("$(") ? "find(" + chain.substring(2) : chain.replaceFirst("\\$\\(", "find(");
             case BLUR_ELEMENT:
                 return String.format("var a=%1$s;if(a.length>0){a[0].focus();a[0].blur();}", toString());
             case CLICK_INVISIBLE_ELEMENT:
@@ -281,6 +302,86 @@ public class ByJQuery implements IByWeb, IByJQuery {
         }
     }
 
+    /**
+     * Expresses the chain as a CSS selector, so that it can be resolved without jquery.
+     * <p>
+     * Chains of {@code $}, {@code find}, {@code children} and {@code filter} with plain CSS selectors can be expressed,
+     * optionally ending with {@code eq}, {@code first} or {@code last}.
+     *
+     * @return The CSS selector, or null if the chain uses jquery specific functions or selectors.
+     */
+    public final JQueryCssSelector toCssSelector() {
+        Optional<JQueryCssSelector> result = cssSelector;
+        if (result == null) {
+            result = Optional.ofNullable(compileCssSelector());
+            cssSelector = result;
+        }
+
+        return result.orElse(null);
+    }
+
+    private JQueryCssSelector compileCssSelector() {
+        List<Object> arguments = new ArrayList<>();
+        parameters.forEach(x -> arguments.add(x.getObject()));
+        String previous = predecessor == null ? null : predecessor.compileCss();
+        switch (function) {
+            case "eq":
+                return previous != null && arguments.size() == 1 && arguments.get(0) instanceof Integer ?
+                        new JQueryCssSelector(previous, (Integer) arguments.get(0)) : null;
+            case "first":
+                return previous != null && arguments.isEmpty() ? new JQueryCssSelector(previous, 0) : null;
+            case "last":
+                return previous != null && arguments.isEmpty() ? new JQueryCssSelector(previous, -1) : null;
+            default:
+                String css = compileCss();
+                return css == null ? null : new JQueryCssSelector(css, null);
+        }
+    }
+
+    private String compileCss() {
+        List<Object> arguments = new ArrayList<>();
+        parameters.forEach(x -> arguments.add(x.getObject()));
+        String previous = predecessor == null ? null : predecessor.compileCss();
+        if (predecessor != null && previous == null) {
+            return null;
+        }
+
+        if (function.equals("children") && arguments.isEmpty()) {
+            return previous == null ? null : previous + " > *";
+        }
+
+        if (arguments.size() != 1 || !(arguments.get(0) instanceof String) || !isPlainCss((String) arguments.get(0))) {
+            return null;
+        }
+
+        String selector = ((String) arguments.get(0)).trim();
+        switch (function) {
+            case "$":
+                return predecessor == null && !startsWithCombinator(selector) ? selector : null;
+            case "find":
+                return previous == null ? null : previous + " " + selector;
+            case "children":
+                return previous != null && isCompound(selector) ? previous + " > " + selector : null;
+            case FILTER:
+                return previous != null && isCompound(selector) && "#.[".indexOf(selector.charAt(0)) >= 0 ? previous + selector : null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isPlainCss(String selector) {
+        // Pseudo classes, selector lists and the != attribute selector may be specific to jquery.
+        return !selector.trim().isEmpty() && selector.indexOf(':') < 0 && selector.indexOf(',') < 0 && !selector.contains("!=");
+    }
+
+    private static boolean isCompound(String selector) {
+        return selector.chars().noneMatch(x -> Character.isWhitespace(x) || x == '>' || x == '+' || x == '~');
+    }
+
+    private static boolean startsWithCombinator(String selector) {
+        return "> +~".indexOf(selector.charAt(0)) >= 0;
+    }
+
     /**
      * Add elements to the set of matched elements.
      *
@@ -0,0 +1,68 @@
+package com.ultimatesoftware.aeon.core.common.web.selectors;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A jquery chain expressed as a CSS selector, optionally followed by picking one of the matched elements.
+ */
+public final class JQueryCssSelector {
+
+    private final String selector;
+    private final Integer index;
+
+    /**
+     * Initializes a new instance of the {@link JQueryCssSelector} class.
+     *
+     * @param selector The CSS selector.
+     * @param index    The index of the matched element to pick, negative indexes count from the end, or null to pick all.
+     */
+    JQueryCssSelector(String selector, Integer index) {
+        this.selector = selector;
+        this.index = index;
+    }
+
+    /**
+     * Gets the CSS selector.
+     *
+     * @return The CSS selector.
+     */
+    public String getSelector() {
+        return selector;
+    }
+
+    /**
+     * Gets the index of the matched element to pick.
+     *
+     * @return The index, negative indexes count from the end, or null if all matched elements are picked.
+     */
+    public Integer getIndex() {
+        return index;
+    }
+
+    /**
+     * Picks the elements of the jquery chain from the elements matched by the CSS selector, like jquery's {@code eq} does.
+     *
+     * @param matches The elements matched by the CSS selector, in document order.
+     * @param <T>     The type of the elements.
+     * @return The picked elements.
+     */
+    public <T> List<T> select(List<T> matches) {
+        if (index == null) {
+            return matches;
+        }
+
+        int position = index < 0 ? matches.size() + index : index;
+        return position >= 0 && position < matches.size() ? Collections.singletonList(matches.get(position)) : Collections.emptyList();
+    }
+
+    /**
+     * Returns a {@link String} that represents the current {@link Object}.
+     *
+     * @return A {@link String} that represents the current {@link Object}.
+     */
+    @Override
+    public String toString() {
+        return index == null ? selector : String.format("%1$s [%2$d]", selector, index);
+    }
+}
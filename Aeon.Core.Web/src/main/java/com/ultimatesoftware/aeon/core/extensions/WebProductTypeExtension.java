@@ -6,8 +6,11 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.
 import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.WebCommandInitializer;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebControlFinder;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebSelectorFinder;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.BackoffRetryPolicy;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.DelegateRunnerFactory;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.ThrottledDelegateRunner;
 import com.ultimatesoftware.aeon.core.common.helpers.AjaxWaiter;
+import com.ultimatesoftware.aeon.core.common.helpers.QuiescenceSignals;
 import com.ultimatesoftware.aeon.core.common.interfaces.IBy;
 import com.ultimatesoftware.aeon.core.common.web.WebSelectOption;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
@@ -15,10 +18,13 @@ import com.ultimatesoftware.aeon.core.common.web.selectors.By;
 import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
 import com.ultimatesoftware.aeon.core.testabstraction.product.WebConfiguration;
 import org.pf4j.Extension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Constructor;
 import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -27,6 +33,8 @@ import java.util.Map;
 @Extension
 public class WebProductTypeExtension implements IProductTypeExtension {
 
+    private static Logger log = LoggerFactory.getLogger(WebProductTypeExtension.class);
+
     String commandPackage = "com.ultimatesoftware.aeon.core.command.execution.commands.web.";
 
     @Override
@@ -35,12 +43,33 @@ public class WebProductTypeExtension implements IProductTypeExtension {
 
         long timeout = (long) configuration.getDouble(Configuration.Keys.TIMEOUT, 10);
         long throttle = (long) configuration.getDouble(Configuration.Keys.THROTTLE, 100);
+        long readOnlyThrottle = (long) configuration.getDouble(Configuration.Keys.THROTTLE_READ_ONLY, throttle);
+        ThrottledDelegateRunner.ThrottleMode throttleMode = parseThrottleMode(configuration.getString(Configuration.Keys.THROTTLE_MODE, null));
         long ajaxTimeout = (long) configuration.getDouble(WebConfiguration.Keys.AJAX_TIMEOUT, 20);
-
-        DelegateRunnerFactory delegateRunnerFactory = new DelegateRunnerFactory(Duration.ofMillis(throttle), Duration.ofSeconds(timeout));
-        AjaxWaiter ajaxWaiter = new AjaxWaiter(automationInfo.getDriver(), Duration.ofSeconds(ajaxTimeout));
-
-        WebCommandExecutionFacade commandExecutionFacade = new WebCommandExecutionFacade(delegateRunnerFactory, ajaxWaiter);
+        boolean asyncAjaxWaiter = configuration.getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES_ASYNC, true);
+        QuiescenceSignals quiescenceSignals = new QuiescenceSignals(
+                configuration.getBoolean(WebConfiguration.Keys.WAIT_FOR_FETCH, true),
+                configuration.getBoolean(WebConfiguration.Keys.WAIT_FOR_TIMERS, false),
+                configuration.getBoolean(WebConfiguration.Keys.WAIT_FOR_ANIMATION_FRAMES, false),
+                configuration.getBoolean(WebConfiguration.Keys.WAIT_FOR_DOM_MUTATIONS, false),
+                configuration.getBoolean(WebConfiguration.Keys.WAIT_FOR_WEB_SOCKETS, false),
+                Duration.ofMillis((long) configuration.getDouble(WebConfiguration.Keys.QUIET_WINDOW, 100)));
+        long readOnlySkipWindow = (long) configuration.getDouble(WebConfiguration.Keys.READ_ONLY_SKIP_WINDOW, 500);
+
+        BackoffRetryPolicy retryPolicy = new BackoffRetryPolicy(
+                Duration.ofMillis((long) configuration.getDouble(
+                        Configuration.Keys.RETRY_INITIAL_INTERVAL, BackoffRetryPolicy.DEFAULT_INITIAL_INTERVAL.toMillis())),
+                Duration.ofMillis((long) configuration.getDouble(
+                        Configuration.Keys.RETRY_MAX_INTERVAL, BackoffRetryPolicy.DEFAULT_MAX_INTERVAL.toMillis())),
+                configuration.getDouble(Configuration.Keys.RETRY_MULTIPLIER, BackoffRetryPolicy.DEFAULT_MULTIPLIER),
+                configuration.getDouble(Configuration.Keys.RETRY_JITTER, BackoffRetryPolicy.DEFAULT_JITTER),
+                BackoffRetryPolicy.parseExceptionPolicies(configuration.getString(Configuration.Keys.RETRY_EXCEPTION_POLICIES, null)));
+
+        DelegateRunnerFactory delegateRunnerFactory = new DelegateRunnerFactory(
+                Duration.ofMillis(throttle), Duration.ofSeconds(timeout), retryPolicy, throttleMode, Duration.ofMillis(readOnlyThrottle));
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(automationInfo.getDriver(), Duration.ofSeconds(ajaxTimeout), asyncAjaxWaiter, quiescenceSignals);
+
+        WebCommandExecutionFacade commandExecutionFacade = new WebCommandExecutionFacade(delegateRunnerFactory, ajaxWaiter, Duration.ofMillis(readOnlySkipWindow));
         automationInfo.setCommandExecutionFacade(commandExecutionFacade);
 
         return commandExecutionFacade;
@@ -185,6 +214,19 @@ public class WebProductTypeExtension implements IProductTypeExtension {
         return params;
     }
 
+    private ThrottledDelegateRunner.ThrottleMode parseThrottleMode(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return ThrottledDelegateRunner.ThrottleMode.FIXED;
+        }
+
+        try {
+            return ThrottledDelegateRunner.ThrottleMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown throttle mode '{}', using {}.", value, ThrottledDelegateRunner.ThrottleMode.FIXED);
+            return ThrottledDelegateRunner.ThrottleMode.FIXED;
+        }
+    }
+
     private ICommandInitializer parseICommandInitializer(IByWeb... switchMechanism) {
         return new WebCommandInitializer(new WebControlFinder(new WebSelectorFinder()), switchMechanism);
     }
@@ -3,6 +3,7 @@ package com.ultimatesoftware.aeon.core.framework.abstraction.adapters;
 import com.ultimatesoftware.aeon.core.common.CompareType;
 import com.ultimatesoftware.aeon.core.common.ComparisonOption;
 import com.ultimatesoftware.aeon.core.common.KeyboardKey;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.exceptions.*;
 import com.ultimatesoftware.aeon.core.common.interfaces.IBy;
 import com.ultimatesoftware.aeon.core.common.web.ClientRects;
@@ -81,6 +82,15 @@ public interface IWebAdapter extends IAdapter {
      */
     WebControl findElement(IBy findBy);
 
+    /**
+     * Finds the first Element using the given mechanism and scrolls it into view in the same call.
+     *
+     * @param findBy The locating mechanism to use.
+     * @return The first matching Element on the current product.
+     * @throws NoSuchElementException If there is no such element.
+     */
+    WebControl findElementInView(IByWeb findBy);
+
     /**
      * Finds all Elements within the current product
      * using the given mechanism.
@@ -263,9 +273,18 @@ public interface IWebAdapter extends IAdapter {
     /**
      * Gets a screenshot of the currently focus browser window.
      *
-     * @return Image of the browser window.
+     * @return The screenshot of the browser window, in the encoding it was taken in.
      */
-    Image getScreenshot();
+    Screenshot getScreenshot();
+
+    /**
+     * Gets a screenshot of the region around an element of the currently focused browser window.
+     *
+     * @param element The element.
+     * @param padding The number of pixels around the element to include.
+     * @return The screenshot of the region, or of the browser window if the element is not in view.
+     */
+    Screenshot getScreenshot(WebControl element, int padding);
 
     /**
      * Gets the source of the current browser window.
@@ -800,4 +819,15 @@ public interface IWebAdapter extends IAdapter {
      * @param path    The path of the file to select.
      */
     void selectFile(WebControl control, String path);
+
+    /**
+     * Called by the driver after every command, on the thread that executed it.
+     * <p>
+     * Work that needs the browser session between commands, such as reading its logs, is done here, as the session
+     * must not be used by two threads at once.
+     *
+     * @param readOnly Whether the command only read state.
+     */
+    default void commandExecuted(boolean readOnly) {
+    }
 }
@@ -0,0 +1,159 @@
+package com.ultimatesoftware.aeon.core.framework.abstraction.controls.web;
+
+import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers the web controls found during a session, so that consecutive commands on the same element
+ * do not have to find it again.
+ * <p>
+ * Controls are keyed by the frames the driver is switched to and by their selector. Nothing is cached while
+ * the frames are unknown. The cache has to be cleared whenever the cached controls may have gone stale.
+ * <p>
+ * A cache belongs to the driver of one session, whose commands run one after another, so it is not thread-safe.
+ * <p>
+ * Selectors that pick an element by its position, such as {@code :first} or {@code eq(1)}, are never cached, as the
+ * element they match changes whenever the page adds or reorders elements, which does not make the cached one stale.
+ */
+public class WebControlCache {
+
+    // Matched by name so that the cache does not depend on the driver.
+    private static final String STALE_CONTROL_EXCEPTION = "StaleElementReferenceException";
+
+    private static final Pattern POSITIONAL_SELECTOR = Pattern.compile(
+            ":(first|last|nth|only|eq|lt|gt|odd|even)\\b|\\.(eq|first|last|slice|get)\\(");
+
+    private final boolean enabled;
+    private final Map<String, WebControl> controls = new HashMap<>();
+    private List<String> framePath;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Initializes a new instance of the {@link WebControlCache} class.
+     *
+     * @param enabled Whether controls are cached, a disabled cache never returns a control.
+     */
+    public WebControlCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets whether controls are cached.
+     *
+     * @return True if controls are cached.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the frames the driver is switched to.
+     *
+     * @param framePath The frames, from the outermost to the innermost, or null if unknown.
+     */
+    public void setFramePath(List<String> framePath) {
+        this.framePath = framePath;
+    }
+
+    /**
+     * Gets a control cached in the current frames.
+     *
+     * @param selector The selector the control was found by.
+     * @return The cached control, or null if it is not cached.
+     */
+    public WebControl get(IByWeb selector) {
+        if (!enabled || framePath == null || isPositional(selector)) {
+            return null;
+        }
+
+        WebControl control = controls.get(getKey(selector));
+        if (control == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+
+        return control;
+    }
+
+    /**
+     * Caches a control found in the current frames.
+     *
+     * @param selector The selector the control was found by.
+     * @param control  The control.
+     */
+    public void put(IByWeb selector, WebControl control) {
+        if (enabled && framePath != null && !isPositional(selector)) {
+            controls.put(getKey(selector), control);
+        }
+    }
+
+    /**
+     * Removes all cached controls.
+     */
+    public void clear() {
+        controls.clear();
+    }
+
+    /**
+     * Clears the cache after a command on a control failed.
+     *
+     * @param exception The exception the command failed with.
+     * @return True if the control had gone stale, so that the command can be retried with a control found again.
+     */
+    public boolean invalidate(RuntimeException exception) {
+        if (!enabled) {
+            return false;
+        }
+
+        clear();
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (isStaleControlException(cause)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the number of lookups that returned a cached control.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups that did not find a cached control.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    private static boolean isStaleControlException(Throwable exception) {
+        for (Class<?> type = exception.getClass(); type != null; type = type.getSuperclass()) {
+            if (STALE_CONTROL_EXCEPTION.equals(type.getSimpleName())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isPositional(IByWeb selector) {
+        return POSITIONAL_SELECTOR.matcher(selector.toString()).find();
+    }
+
+    private String getKey(IByWeb selector) {
+        return framePath + "|" + selector.getClass().getName() + "|" + selector;
+    }
+}
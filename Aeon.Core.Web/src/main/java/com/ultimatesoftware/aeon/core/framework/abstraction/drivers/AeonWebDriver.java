@@ -3,6 +3,7 @@ package com.ultimatesoftware.aeon.core.framework.abstraction.drivers;
 import com.ultimatesoftware.aeon.core.common.CompareType;
 import com.ultimatesoftware.aeon.core.common.ComparisonOption;
 import com.ultimatesoftware.aeon.core.common.KeyboardKey;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.web.ClientRects;
 import com.ultimatesoftware.aeon.core.common.web.WebSelectOption;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IBrowserType;
@@ -11,40 +12,103 @@ import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IAdapter;
 import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IWebAdapter;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.IWebCookie;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
 import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
 import com.ultimatesoftware.aeon.core.testabstraction.product.WebConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.awt.*;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Web framework adapter.
  */
 public class AeonWebDriver implements IWebDriver {
 
+    private static final int DEFAULT_ELEMENT_SCREENSHOT_PADDING = 50;
+
+    private static Logger log = LoggerFactory.getLogger(AeonWebDriver.class);
+
     private IWebAdapter adapter;
     private Configuration configuration;
 
+    // The frames the adapter is switched to, or null if unknown, and whether the window was focused on the way.
+    private List<String> currentFramePath;
+    private boolean windowFocused;
+    private WebControlCache controlCache = new WebControlCache(false);
+
+    // The element last looked for, to focus the screenshot of a failed command on it.
+    private IByWeb lastSelector;
+    private LocalDateTime lastSelectorTime;
+
     @Override
     public IDriver configure(IAdapter adapter, Configuration configuration) {
         this.adapter = (IWebAdapter) adapter;
         this.configuration = configuration;
+        this.controlCache = new WebControlCache(configuration.getBoolean(WebConfiguration.Keys.CACHE_ELEMENTS, false));
+        setFramePath(null);
         return this;
     }
 
+    @Override
+    public WebControlCache getControlCache() {
+        return controlCache;
+    }
+
+    @Override
+    public void commandExecuted(boolean readOnly) {
+        // The frame path is kept: a command that reloaded the page fails to find its element in the stale frame,
+        // which forgets the path, so that the command switches again when it is retried.
+        adapter.commandExecuted(readOnly);
+    }
+
     @Override
     public WebControl findElement(IByWeb selector) {
-        return adapter.findElement(selector);
+        rememberSelector(selector);
+        try {
+            return adapter.findElement(selector);
+        } catch (RuntimeException e) {
+            // The page may have navigated away from the frame, so switch again on the next command.
+            setFramePath(null);
+            throw e;
+        }
+    }
+
+    @Override
+    public WebControl findElementInView(IByWeb selector) {
+        if (!configuration.getBoolean(WebConfiguration.Keys.SCROLL_ELEMENT_INTO_VIEW, false)) {
+            return findElement(selector);
+        }
+
+        rememberSelector(selector);
+        try {
+            return adapter.findElementInView(selector);
+        } catch (RuntimeException e) {
+            setFramePath(null);
+            throw e;
+        }
     }
 
     @Override
     public Collection<WebControl> findElements(IByWeb selector) {
-        return adapter.findElements(selector);
+        rememberSelector(selector);
+        try {
+            return adapter.findElements(selector);
+        } catch (RuntimeException e) {
+            setFramePath(null);
+            throw e;
+        }
     }
 
     @Override
@@ -77,7 +141,9 @@ public class AeonWebDriver implements IWebDriver {
 
     @Override
     public void switchToDefaultContent() {
+        setFramePath(null);
         adapter.switchToDefaultContent();
+        setFramePath(Collections.emptyList());
     }
 
     @Override
@@ -87,9 +153,53 @@ public class AeonWebDriver implements IWebDriver {
 
     @Override
     public void switchToFrame(IByWeb selector) {
+        setFramePath(null);
         adapter.switchToFrame(selector);
     }
 
+    @Override
+    public void switchToFramePath(IByWeb... frames) {
+        List<String> framePath = frames == null
+                ? Collections.emptyList()
+                : Arrays.stream(frames).map(IByWeb::toString).collect(Collectors.toList());
+        boolean focusWindow = frames != null;
+        if (framePath.equals(currentFramePath) && (windowFocused || !focusWindow)) {
+            return;
+        }
+
+        setFramePath(null);
+        adapter.switchToDefaultContent();
+        if (focusWindow) {
+            adapter.focusWindow();
+            for (IByWeb frame : frames) {
+                adapter.switchToFrame(frame);
+            }
+        }
+
+        setFramePath(framePath);
+        windowFocused = focusWindow;
+    }
+
+    /**
+     * Forgets the frame the adapter is switched to and the controls found so far, so that the next frame path is
+     * switched from the main document.
+     */
+    protected void clearFramePath() {
+        setFramePath(null);
+        controlCache.clear();
+    }
+
+    private void setFramePath(List<String> framePath) {
+        currentFramePath = framePath;
+        windowFocused = false;
+        controlCache.setFramePath(framePath);
+    }
+
+    private void rememberSelector(IByWeb selector) {
+        lastSelector = selector;
+        lastSelectorTime = LocalDateTime.now();
+    }
+
     @Override
     public String getElementTagName(WebControl element) {
         return adapter.getElementTagName(element);
@@ -127,16 +237,19 @@ public class AeonWebDriver implements IWebDriver {
 
     @Override
     public void goBack() {
+        clearFramePath();
         adapter.back();
     }
 
     @Override
     public void goForward() {
+        clearFramePath();
         adapter.forward();
     }
 
     @Override
     public String goToUrl(URL url) {
+        clearFramePath();
         return adapter.goToUrl(url);
     }
 
@@ -147,6 +260,7 @@ public class AeonWebDriver implements IWebDriver {
 
     @Override
     public void refresh() {
+        clearFramePath();
         adapter.refresh();
     }
 
@@ -177,16 +291,19 @@ public class AeonWebDriver implements IWebDriver {
 
     @Override
     public void switchToMainWindow(String mainWindowHandle, Boolean waitForAllPopupWindowsToClose) {
+        clearFramePath();
         adapter.switchToMainWindow(mainWindowHandle, waitForAllPopupWindowsToClose);
     }
 
     @Override
     public String switchToWindowByTitle(String title) {
+        clearFramePath();
         return adapter.switchToWindowByTitle(title);
     }
 
     @Override
     public String switchToWindowByUrl(String url) {
+        clearFramePath();
         return adapter.switchToWindowByUrl(url);
     }
 
@@ -196,10 +313,39 @@ public class AeonWebDriver implements IWebDriver {
     }
 
     @Override
-    public Image getScreenshot() {
+    public Screenshot getScreenshot() {
         return adapter.getScreenshot();
     }
 
+    /**
+     * Gets the screenshot that is reported for a command that failed.
+     * <p>
+     * When element screenshots are enabled, the screenshot shows the region around the element the failed command
+     * looked for last. The whole window is shown if the command did not look for an element, the element is inside
+     * a frame, the frames the adapter is switched to are unknown or the element cannot be found.
+     *
+     * @param commandStarted When the failed command started.
+     * @return The screenshot.
+     */
+    @Override
+    public Screenshot getFailureScreenshot(LocalDateTime commandStarted) {
+        IByWeb selector = lastSelector;
+        boolean lookedForElement = selector != null && !lastSelectorTime.isBefore(commandStarted);
+        // An unknown frame path, e.g. after a failed frame switch, may just as well be inside a frame.
+        boolean insideFrame = currentFramePath == null || !currentFramePath.isEmpty();
+        if (!lookedForElement || insideFrame || !configuration.getBoolean(WebConfiguration.Keys.ELEMENT_SCREENSHOT, false)) {
+            return getScreenshot();
+        }
+
+        int padding = (int) configuration.getDouble(WebConfiguration.Keys.ELEMENT_SCREENSHOT_PADDING, DEFAULT_ELEMENT_SCREENSHOT_PADDING);
+        try {
+            return adapter.getScreenshot(adapter.findElement(selector), padding);
+        } catch (RuntimeException e) {
+            log.debug("Could not take a screenshot of {}: {}", selector, e.getMessage());
+            return getScreenshot();
+        }
+    }
+
     @Override
     public String getSource() {
         return adapter.getPageSource();
@@ -207,11 +353,13 @@ public class AeonWebDriver implements IWebDriver {
 
     @Override
     public void close() {
+        clearFramePath();
         adapter.close();
     }
 
     @Override
     public void quit() {
+        clearFramePath();
         adapter.quit();
     }
 
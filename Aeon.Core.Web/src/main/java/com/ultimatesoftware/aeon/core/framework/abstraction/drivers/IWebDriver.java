@@ -10,6 +10,7 @@ import com.ultimatesoftware.aeon.core.common.web.interfaces.IBrowserType;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.IWebCookie;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
 
 import java.awt.*;
 import java.net.URL;
@@ -38,6 +39,15 @@ public interface IWebDriver extends IDriver {
      */
     WebControl findElement(IByWeb selector);
 
+    /**
+     * Finds the first Element using the given mechanism and scrolls it into view if scrolling elements into view is enabled.
+     *
+     * @param selector The locating mechanism to use.
+     * @return The first matching Element on the current product.
+     * @throws NoSuchElementException If there is no such element.
+     */
+    WebControl findElementInView(IByWeb selector);
+
     /**
      * Finds all Elements within the current product
      * using the given mechanism.
@@ -117,6 +127,30 @@ public interface IWebDriver extends IDriver {
      */
     void switchToFrame(IByWeb selector);
 
+    /**
+     * Selects the frame reached by switching to each of the given frames, starting from the main document.
+     * Nothing is switched if the driver is already in that frame.
+     *
+     * @param frames The locating mechanisms of the frames, from the outermost to the innermost, or null to select
+     *               the main document without focusing the window.
+     */
+    void switchToFramePath(IByWeb... frames);
+
+    /**
+     * Gets the cache of the controls found during this session.
+     *
+     * @return The control cache.
+     */
+    WebControlCache getControlCache();
+
+    /**
+     * Called by the command execution layer after every command.
+     *
+     * @param readOnly Whether the command only read state.
+     */
+    default void commandExecuted(boolean readOnly) {
+    }
+
     /**
      * Gets the HTML Tag type of the given element.
      *
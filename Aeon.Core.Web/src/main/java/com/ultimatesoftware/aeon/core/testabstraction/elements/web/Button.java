@@ -3,6 +3,8 @@ package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * The class to model button elements.
  */
@@ -28,4 +30,9 @@ public class Button extends WebElement {
     public Button(AutomationInfo automationInfo, IByWeb selector, IByWeb... switchMechanism) {
         super(automationInfo, selector, switchMechanism);
     }
+
+    @Override
+    public Button withTimeout(Duration timeout) {
+        return new Button(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
@@ -5,6 +5,8 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.*;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * The class to model checkbox elements.
  */
@@ -69,4 +71,9 @@ public class Checkbox extends WebElement {
                 selector,
                 new WebCommandInitializer(new WebControlFinder(new WebSelectorFinder()), switchMechanism)));
     }
+
+    @Override
+    public Checkbox withTimeout(Duration timeout) {
+        return new Checkbox(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
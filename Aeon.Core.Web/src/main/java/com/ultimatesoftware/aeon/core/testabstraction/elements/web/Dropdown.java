@@ -8,6 +8,8 @@ import com.ultimatesoftware.aeon.core.common.ComparisonOption;
 import com.ultimatesoftware.aeon.core.common.web.WebSelectOption;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * Model class for dropdown elements.
  */
@@ -276,4 +278,9 @@ public class Dropdown extends WebElement {
                 ComparisonOption.RAW,
                 attribute));
     }
+
+    @Override
+    public Dropdown withTimeout(Duration timeout) {
+        return new Dropdown(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
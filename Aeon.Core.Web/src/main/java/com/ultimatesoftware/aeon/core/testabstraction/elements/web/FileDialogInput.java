@@ -7,6 +7,8 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebControlF
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebSelectorFinder;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 
 /**
  * Handles file dialog interactions.
@@ -46,4 +48,9 @@ public class FileDialogInput extends WebElement {
                         new WebCommandInitializer(new WebControlFinder(new WebSelectorFinder()), switchMechanism),
                         path));
     }
+
+    @Override
+    public FileDialogInput withTimeout(Duration timeout) {
+        return new FileDialogInput(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
@@ -3,6 +3,8 @@ package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * Image class.
  */
@@ -28,4 +30,9 @@ public class Image extends WebElement {
     public Image(AutomationInfo automationInfo, IByWeb selector, IByWeb... switchMechanism) {
         super(automationInfo, selector, switchMechanism);
     }
+
+    @Override
+    public Image withTimeout(Duration timeout) {
+        return new Image(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
@@ -3,6 +3,8 @@ package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * Model class for labels.
  */
@@ -28,4 +30,9 @@ public class Label extends WebElement {
     public Label(AutomationInfo automationInfo, IByWeb selector, IByWeb... switchMechanism) {
         super(automationInfo, selector, switchMechanism);
     }
+
+    @Override
+    public Label withTimeout(Duration timeout) {
+        return new Label(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
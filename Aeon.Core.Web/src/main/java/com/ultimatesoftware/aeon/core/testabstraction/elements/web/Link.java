@@ -3,6 +3,8 @@ package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * Model class for links.
  */
@@ -37,4 +39,9 @@ public class Link extends WebElement {
     public Link(IByWeb selector) {
         this(null, selector);
     }
+
+    @Override
+    public Link withTimeout(Duration timeout) {
+        return new Link(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
@@ -3,6 +3,8 @@ package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * Model class for list items.
  */
@@ -28,4 +30,9 @@ public class ListItem extends WebElement {
     public ListItem(AutomationInfo automationInfo, IByWeb selector, IByWeb... switchMechanism) {
         super(automationInfo, selector, switchMechanism);
     }
+
+    @Override
+    public ListItem withTimeout(Duration timeout) {
+        return new ListItem(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
@@ -5,6 +5,8 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.*;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * Model class for radio buttons.
  */
@@ -60,4 +62,9 @@ public class RadioButton extends WebElement {
                         selector,
                         new WebCommandInitializer(new WebControlFinder(new WebSelectorFinder()), switchMechanism)));
     }
+
+    @Override
+    public RadioButton withTimeout(Duration timeout) {
+        return new RadioButton(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
@@ -3,6 +3,8 @@ package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * The class to model Tab elements.
  */
@@ -28,4 +30,9 @@ public class Tab extends WebElement {
     public Tab(AutomationInfo automationInfo, IByWeb selector, IByWeb... switchMechanism) {
         super(automationInfo, selector, switchMechanism);
     }
+
+    @Override
+    public Tab withTimeout(Duration timeout) {
+        return new Tab(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
 }
@@ -1,6 +1,7 @@
 package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
+import com.ultimatesoftware.aeon.core.command.execution.CommandBatch;
 import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.WebCommandInitializer;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.ClearCommand;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.SetCommand;
@@ -9,6 +10,8 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebSelector
 import com.ultimatesoftware.aeon.core.common.web.WebSelectOption;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 
+import java.time.Duration;
+
 /**
  * Model class for text boxes.
  */
@@ -41,12 +44,18 @@ public class TextBox extends WebElement {
      * @param value The new value to be set on the field.
      */
     public void set(String value) {
-        automationInfo.getCommandExecutionFacade().execute(automationInfo,
-                new SetCommand(
-                        selector,
-                        new WebCommandInitializer(new WebControlFinder(new WebSelectorFinder()), switchMechanism),
-                        WebSelectOption.TEXT,
-                        value));
+        automationInfo.getCommandExecutionFacade().execute(automationInfo, createSetCommand(value));
+    }
+
+    /**
+     * Adds the set command with a specified value to a batch instead of executing it.
+     *
+     * @param batch The batch the command is added to.
+     * @param value The new value to be set on the field.
+     * @return The batch.
+     */
+    public CommandBatch addSet(CommandBatch batch, String value) {
+        return batch.add(createSetCommand(value));
     }
 
     /**
@@ -58,4 +67,17 @@ public class TextBox extends WebElement {
                 new WebCommandInitializer(new WebControlFinder(new WebSelectorFinder()), switchMechanism)
         ));
     }
+
+    @Override
+    public TextBox withTimeout(Duration timeout) {
+        return new TextBox(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
+
+    private SetCommand createSetCommand(String value) {
+        return new SetCommand(
+                selector,
+                new WebCommandInitializer(new WebControlFinder(new WebSelectorFinder()), switchMechanism),
+                WebSelectOption.TEXT,
+                value);
+    }
 }
@@ -8,6 +8,7 @@ import com.ultimatesoftware.aeon.core.common.KeyboardKey;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.testabstraction.elements.Element;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
 
@@ -47,6 +48,19 @@ public class WebElement extends Element {
         this.switchMechanism = switchMechanism;
     }
 
+    /**
+     * Gets a view of this element whose commands are retried for a timeout of their own instead of the configured
+     * timeout, such as a shorter timeout for an element that is expected to be absent.
+     * <p>
+     * The elements of this package return their own type, so that their commands stay available on the view.
+     *
+     * @param timeout How long commands on the element are retried.
+     * @return The element with the timeout.
+     */
+    public WebElement withTimeout(Duration timeout) {
+        return new WebElement(automationInfo.withCommandTimeout(timeout), selector, switchMechanism);
+    }
+
     /**
      * Executes the blur command.
      */
@@ -1,7 +1,11 @@
 package com.ultimatesoftware.aeon.core.testabstraction.models;
 
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
+import com.ultimatesoftware.aeon.core.command.execution.CommandBatch;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
+import com.ultimatesoftware.aeon.core.testabstraction.elements.web.TextBox;
+
+import java.util.Map;
 
 /**
  * Parent class for all web pages.
@@ -21,4 +25,23 @@ public abstract class WebPage extends Page {
         super(automationInfo);
         this.switchMechanism = switchMechanism;
     }
+
+    /**
+     * Sets the values of several text boxes as a single command, such as the fields of a form.
+     * <p>
+     * The page waits for ajax responses once before the first field and once after the last one, instead of around
+     * every field. Use a map that keeps its order, such as a {@link java.util.LinkedHashMap}, to set the fields in
+     * the order the form expects.
+     *
+     * @param values The text boxes and the values to set on them.
+     */
+    protected void fillForm(Map<TextBox, String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        CommandBatch batch = new CommandBatch();
+        values.forEach((textBox, value) -> textBox.addSet(batch, value));
+        automationInfo.getCommandExecutionFacade().execute(automationInfo, batch);
+    }
 }
@@ -34,7 +34,18 @@ public class WebConfiguration extends Configuration {
         PROTOCOL("aeon.protocol"),
         AJAX_TIMEOUT("aeon.timeout.ajax"),
         MAXIMIZE_BROWSER("aeon.browser.maximize"),
-        SCROLL_ELEMENT_INTO_VIEW("aeon.scroll_element_into_view");
+        SCROLL_ELEMENT_INTO_VIEW("aeon.scroll_element_into_view"),
+        WAIT_FOR_AJAX_RESPONSES_ASYNC("aeon.wait_for_ajax_responses.async"),
+        WAIT_FOR_FETCH("aeon.wait_for_ajax_responses.fetch"),
+        WAIT_FOR_TIMERS("aeon.wait_for_ajax_responses.timers"),
+        WAIT_FOR_ANIMATION_FRAMES("aeon.wait_for_ajax_responses.animation_frames"),
+        WAIT_FOR_DOM_MUTATIONS("aeon.wait_for_ajax_responses.dom_mutations"),
+        WAIT_FOR_WEB_SOCKETS("aeon.wait_for_ajax_responses.web_sockets"),
+        QUIET_WINDOW("aeon.wait_for_ajax_responses.quiet_window"),
+        READ_ONLY_SKIP_WINDOW("aeon.wait_for_ajax_responses.read_only_skip_window"),
+        CACHE_ELEMENTS("aeon.cache_elements"),
+        ELEMENT_SCREENSHOT("aeon.screenshot.element"),
+        ELEMENT_SCREENSHOT_PADDING("aeon.screenshot.element.padding");
 
         private String key;
 
@@ -1,14 +1,107 @@
 var aeon = {
     ajaxCounter: 0,
-    ajaxJsonpElementTimeout: 18000
+    ajaxJsonpElementTimeout: 18000,
+    idleCallbacks: [],
+    idleCheckScheduled: false,
+    lastActivity: 0,
+    nativeSetTimeout: window.setTimeout,
+    settings: {
+        fetch: true,
+        timers: false,
+        timerThreshold: 1000,
+        animationFrames: false,
+        domMutations: false,
+        webSockets: false,
+        quietWindow: 100
+    },
+
+    configure: function(settings) {
+        for (var name in settings) {
+            if (settings.hasOwnProperty(name)) {
+                aeon.settings[name] = settings[name];
+            }
+        }
+
+        if (aeon.settings.domMutations && !aeon.mutationObserver && window.MutationObserver) {
+            aeon.mutationObserver = new MutationObserver(function() {
+                aeon.activity('domMutations');
+            });
+            aeon.mutationObserver.observe(document.documentElement, {
+                attributes: true,
+                characterData: true,
+                childList: true,
+                subtree: true
+            });
+        }
+    },
+
+    activity: function(signal) {
+        if (aeon.settings[signal]) {
+            aeon.lastActivity = new Date().getTime();
+        }
+    },
+
+    quietRemaining: function() {
+        return aeon.lastActivity + aeon.settings.quietWindow - new Date().getTime();
+    },
+
+    pendingCount: function() {
+        if (aeon.ajaxCounter > 0) {
+            return aeon.ajaxCounter;
+        }
+
+        return aeon.quietRemaining() > 0 ? 1 : 0;
+    },
+
+    whenIdle: function(callback) {
+        aeon.idleCallbacks.push(callback);
+        aeon.checkIdle();
+    },
+
+    checkIdle: function() {
+        if (aeon.ajaxCounter > 0 || aeon.idleCallbacks.length === 0) {
+            return;
+        }
+
+        var remaining = aeon.quietRemaining();
+        if (remaining > 0) {
+            if (!aeon.idleCheckScheduled) {
+                aeon.idleCheckScheduled = true;
+                aeon.nativeSetTimeout.call(window, function() {
+                    aeon.idleCheckScheduled = false;
+                    aeon.checkIdle();
+                }, remaining);
+            }
+            return;
+        }
+
+        var callbacks = aeon.idleCallbacks;
+        aeon.idleCallbacks = [];
+        for (var i = 0; i < callbacks.length; i++) {
+            callbacks[i](0);
+        }
+    },
+
+    ajaxStarted: function() {
+        ++aeon.ajaxCounter;
+    },
+
+    ajaxFinished: function() {
+        if (--aeon.ajaxCounter > 0) {
+            return;
+        }
+
+        aeon.ajaxCounter = 0;
+        aeon.checkIdle();
+    }
 };
 
 (function(open) {
     XMLHttpRequest.prototype.open = function(method, url, async, user, pass) {
-        ++aeon.ajaxCounter;
+        aeon.ajaxStarted();
         var readyStateChange = function() {
             if (this.readyState === 4) {
-                --aeon.ajaxCounter;
+                aeon.ajaxFinished();
             }
         };
         this.addEventListener('readystatechange', readyStateChange, false);
@@ -20,3 +113,123 @@ var aeon = {
         open.call(this, method, url, async, user, pass);
     };
 })(XMLHttpRequest.prototype.open);
+
+if (window.fetch) {
+    (function(fetch) {
+        window.fetch = function() {
+            if (!aeon.settings.fetch) {
+                return fetch.apply(window, arguments);
+            }
+
+            aeon.ajaxStarted();
+            var finished = function() {
+                aeon.ajaxFinished();
+            };
+            var request;
+            try {
+                request = fetch.apply(window, arguments);
+            } catch (e) {
+                finished();
+                throw e;
+            }
+            request.then(finished, finished);
+            return request;
+        };
+    })(window.fetch);
+}
+
+(function(setTimeout, clearTimeout) {
+    var pending = {};
+    window.setTimeout = function(callback, delay) {
+        if (!aeon.settings.timers || typeof callback !== 'function' || (delay || 0) > aeon.settings.timerThreshold) {
+            return setTimeout.apply(window, arguments);
+        }
+
+        var args = Array.prototype.slice.call(arguments);
+        var id;
+        args[0] = function() {
+            if (!pending[id]) {
+                return;
+            }
+
+            delete pending[id];
+            try {
+                callback.apply(this, arguments);
+            } finally {
+                aeon.ajaxFinished();
+            }
+        };
+        aeon.ajaxStarted();
+        id = setTimeout.apply(window, args);
+        pending[id] = true;
+        return id;
+    };
+    window.clearTimeout = function(id) {
+        if (pending[id]) {
+            delete pending[id];
+            aeon.ajaxFinished();
+        }
+
+        return clearTimeout.apply(window, arguments);
+    };
+})(window.setTimeout, window.clearTimeout);
+
+if (window.requestAnimationFrame) {
+    (function(requestAnimationFrame, cancelAnimationFrame) {
+        var pending = {};
+        window.requestAnimationFrame = function(callback) {
+            if (!aeon.settings.animationFrames) {
+                return requestAnimationFrame.call(window, callback);
+            }
+
+            var id;
+            aeon.ajaxStarted();
+            id = requestAnimationFrame.call(window, function(timestamp) {
+                if (!pending[id]) {
+                    return;
+                }
+
+                delete pending[id];
+                try {
+                    callback(timestamp);
+                } finally {
+                    aeon.ajaxFinished();
+                }
+            });
+            pending[id] = true;
+            return id;
+        };
+        window.cancelAnimationFrame = function(id) {
+            if (pending[id]) {
+                delete pending[id];
+                aeon.ajaxFinished();
+            }
+
+            return cancelAnimationFrame.call(window, id);
+        };
+    })(window.requestAnimationFrame, window.cancelAnimationFrame);
+}
+
+if (window.WebSocket) {
+    (function(WebSocket) {
+        var send = WebSocket.prototype.send;
+        WebSocket.prototype.send = function() {
+            aeon.activity('webSockets');
+            return send.apply(this, arguments);
+        };
+
+        var TrackedWebSocket = function(url, protocols) {
+            var socket = arguments.length > 1 ? new WebSocket(url, protocols) : new WebSocket(url);
+            socket.addEventListener('message', function() {
+                aeon.activity('webSockets');
+            }, false);
+            return socket;
+        };
+        TrackedWebSocket.prototype = WebSocket.prototype;
+        TrackedWebSocket.CONNECTING = WebSocket.CONNECTING;
+        TrackedWebSocket.OPEN = WebSocket.OPEN;
+        TrackedWebSocket.CLOSING = WebSocket.CLOSING;
+        TrackedWebSocket.CLOSED = WebSocket.CLOSED;
+        window.WebSocket = TrackedWebSocket;
+    })(window.WebSocket);
+}
@@ -6,6 +6,9 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebControlC
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.WebControlCommandWithReturn;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunnerFactory;
 import com.ultimatesoftware.aeon.core.common.helpers.AjaxWaiter;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 import com.ultimatesoftware.aeon.core.testabstraction.product.WebConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.function.Function;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -177,4 +184,182 @@ class WebCommandExecutionFacadeTests {
         verify(delegateRunnerFactory, times(1)).createInstance(automationInfo);
     }
 
+    @Test
+    void execute_ReadOnlyCommand_passesReadOnlyToDelegateRunner() {
+
+        //Arrange
+        WebControlCommand command = mock(WebControlCommand.class);
+        when(command.isReadOnly()).thenReturn(true);
+        when(automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)).thenReturn(false);
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, command);
+
+        //Assert
+        verify(delegateRunnerFactory.createInstance(automationInfo), times(1)).execute(command.getCommandDelegate(), true);
+    }
+
+    @Test
+    void execute_ReadOnlyCommandsWithinSkipWindow_waitForAsyncCalledOnce() {
+
+        //Arrange
+        webCommandExecutionFacade = new WebCommandExecutionFacade(delegateRunnerFactory, ajaxWaiter, Duration.ofMinutes(1));
+        WebControlCommand command = mock(WebControlCommand.class);
+        WebControlCommandWithReturn commandWithReturn = mock(WebControlCommandWithReturn.class);
+        when(command.isReadOnly()).thenReturn(true);
+        when(commandWithReturn.isReadOnly()).thenReturn(true);
+        when(automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)).thenReturn(true);
+        when(ajaxWaiter.waitForAsync()).thenReturn(true);
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, command);
+        webCommandExecutionFacade.execute(automationInfo, commandWithReturn);
+        webCommandExecutionFacade.execute(automationInfo, command);
+
+        //Assert
+        verify(ajaxWaiter, times(1)).waitForAsync();
+    }
+
+    @Test
+    void execute_MutatingCommandBetweenReadOnlyCommands_waitForAsyncCalledAgain() {
+
+        //Arrange
+        webCommandExecutionFacade = new WebCommandExecutionFacade(delegateRunnerFactory, ajaxWaiter, Duration.ofMinutes(1));
+        WebControlCommand readOnlyCommand = mock(WebControlCommand.class);
+        Command mutatingCommand = mock(Command.class);
+        when(readOnlyCommand.isReadOnly()).thenReturn(true);
+        when(automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)).thenReturn(true);
+        when(ajaxWaiter.waitForAsync()).thenReturn(true);
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, readOnlyCommand);
+        webCommandExecutionFacade.execute(automationInfo, mutatingCommand);
+        webCommandExecutionFacade.execute(automationInfo, readOnlyCommand);
+
+        //Assert
+        verify(ajaxWaiter, times(2)).waitForAsync();
+    }
+
+    @Test
+    void execute_WaitForAsyncTimedOut_nextReadOnlyCommandWaits() {
+
+        //Arrange
+        webCommandExecutionFacade = new WebCommandExecutionFacade(delegateRunnerFactory, ajaxWaiter, Duration.ofMinutes(1));
+        WebControlCommand command = mock(WebControlCommand.class);
+        when(command.isReadOnly()).thenReturn(true);
+        when(automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)).thenReturn(true);
+        when(ajaxWaiter.waitForAsync()).thenReturn(false, true);
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, command);
+        webCommandExecutionFacade.execute(automationInfo, command);
+
+        //Assert
+        verify(ajaxWaiter, times(2)).waitForAsync();
+    }
+
+    @Test
+    void execute_ReadOnlyCommandsWithoutSkipWindow_waitForAsyncCalledEachTime() {
+
+        //Arrange
+        WebControlCommand command = mock(WebControlCommand.class);
+        when(command.isReadOnly()).thenReturn(true);
+        when(automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)).thenReturn(true);
+        when(ajaxWaiter.waitForAsync()).thenReturn(true);
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, command);
+        webCommandExecutionFacade.execute(automationInfo, command);
+
+        //Assert
+        verify(ajaxWaiter, times(2)).waitForAsync();
+    }
+
+    @Test
+    void execute_MutatingCommand_clearsControlCache() {
+
+        //Arrange
+        IWebDriver driver = mock(IWebDriver.class);
+        WebControlCache cache = mock(WebControlCache.class);
+        Command command = mock(Command.class);
+        when(automationInfo.getDriver()).thenReturn(driver);
+        when(driver.getControlCache()).thenReturn(cache);
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, command);
+
+        //Assert
+        verify(cache, times(1)).clear();
+        verify(driver, times(1)).commandExecuted(false);
+    }
+
+    @Test
+    void execute_ReadOnlyCommand_keepsControlCache() {
+
+        //Arrange
+        IWebDriver driver = mock(IWebDriver.class);
+        CommandWithReturn command = mock(CommandWithReturn.class);
+        when(command.isReadOnly()).thenReturn(true);
+        when(automationInfo.getDriver()).thenReturn(driver);
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, command);
+
+        //Assert
+        verify(driver, never()).getControlCache();
+        verify(driver, times(1)).commandExecuted(true);
+    }
+
+    @Test
+    void execute_BatchOfWebControlCommands_waitForAsyncCalledOnce() {
+
+        //Arrange
+        WebControlCommand command = mock(WebControlCommand.class);
+        WebControlCommandWithReturn commandWithReturn = mock(WebControlCommandWithReturn.class);
+        when(command.isReadOnly()).thenReturn(true);
+        when(commandWithReturn.isReadOnly()).thenReturn(true);
+        when(automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)).thenReturn(true);
+        CommandBatch batch = new CommandBatch().add(command).add(commandWithReturn).add(command);
+        when(delegateRunnerFactory.createInstance(automationInfo).execute(any(Function.class), eq(true))).thenReturn(Collections.emptyList());
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, batch);
+
+        //Assert
+        verify(ajaxWaiter, times(1)).waitForAsync();
+        verify(delegateRunnerFactory.createInstance(automationInfo), times(1)).execute(any(Function.class), eq(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_BatchOfMutatingWebControlCommands_waitsForAsyncBeforeAndAfterBatch() {
+
+        //Arrange
+        IWebDriver driver = mock(IWebDriver.class);
+        WebControlCommand command = mock(WebControlCommand.class);
+        when(command.getCommandDelegate()).thenReturn(currentDriver -> { });
+        when(automationInfo.getConfiguration().getBoolean(WebConfiguration.Keys.WAIT_FOR_AJAX_RESPONSES, true)).thenReturn(true);
+        CommandBatch batch = new CommandBatch().add(command).add(command);
+        when(delegateRunnerFactory.createInstance(automationInfo).execute(any(Function.class), eq(false)))
+                .thenAnswer(invocation -> ((Function<IDriver, Object>) invocation.getArgument(0)).apply(driver));
+
+        //Act
+        webCommandExecutionFacade.execute(automationInfo, batch);
+
+        //Assert
+        verify(ajaxWaiter, times(2)).waitForAsync();
+        verify(driver, times(1)).commandExecuted(false);
+    }
+
+    @Test
+    void execute_NullBatch_throwsException() {
+
+        //Arrange
+        CommandBatch batch = null;
+
+        //Act
+
+        //Assert
+        assertThrows(IllegalArgumentException.class, () -> webCommandExecutionFacade.execute(automationInfo, batch));
+    }
 }
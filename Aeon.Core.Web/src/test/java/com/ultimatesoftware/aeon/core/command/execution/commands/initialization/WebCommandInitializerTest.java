@@ -16,8 +16,10 @@ import org.mockito.quality.Strictness;
 
 import java.util.function.Consumer;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.STRICT_STUBS)
@@ -37,6 +39,9 @@ public class WebCommandInitializerTest {
     @Mock
     private IByWeb selector;
 
+    @Mock
+    private WebControl control;
+
     @BeforeEach
     public void setup() {
         webCommandInitializer = new WebCommandInitializer(finder, selector, switchMechanism);
@@ -45,13 +50,14 @@ public class WebCommandInitializerTest {
     @Test
     public void WebCommandInitializerFindElementTest() {
         // Arrange
+        when(finder.findElementInView(driver, selector)).thenReturn(control);
 
         // Act
         WebControl actual = (WebControl) webCommandInitializer.findElement(driver, selector);
-        WebControl expected = finder.findElement(driver, selector);
 
         // Assert
-        Assertions.assertEquals(actual, expected);
+        Assertions.assertEquals(control, actual);
+        verify(driver, never()).scrollElementIntoView(control);
     }
 
     @Test
@@ -63,6 +69,6 @@ public class WebCommandInitializerTest {
         actual.accept(driver);
 
         // Assert
-        verify(driver, times(1)).switchToFrame(selector);
+        verify(driver, times(1)).switchToFramePath(selector, switchMechanism);
     }
 }
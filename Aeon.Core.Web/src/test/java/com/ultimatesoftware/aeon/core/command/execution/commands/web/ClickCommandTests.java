@@ -3,6 +3,7 @@ package com.ultimatesoftware.aeon.core.command.execution.commands.web;
 import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.ICommandInitializer;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import org.mockito.quality.Strictness;
 
 import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,4 +54,40 @@ class ClickCommandTests {
         // Assert
         verify(driver, times(1)).click(control);
     }
+
+    @Test
+    void commandDelegate_cachedControlStale_clicksControlFoundAgain() {
+        // Arrange
+        WebControl freshControl = mock(WebControl.class);
+        when(initializer.setContext()).thenReturn(action);
+        when(initializer.findElement(driver, selector)).thenReturn(control, freshControl);
+        when(driver.getControlCache()).thenReturn(new WebControlCache(true));
+        doThrow(new StaleElementReferenceException()).when(driver).click(control);
+
+        // Act
+        Consumer<IDriver> action = clickCommandObject.getCommandDelegate();
+        action.accept(driver);
+
+        // Assert
+        verify(driver, times(1)).click(freshControl);
+    }
+
+    @Test
+    void commandDelegate_cacheDisabledControlStale_throwsException() {
+        // Arrange
+        when(initializer.setContext()).thenReturn(action);
+        when(initializer.findElement(driver, selector)).thenReturn(control);
+        when(driver.getControlCache()).thenReturn(new WebControlCache(false));
+        doThrow(new StaleElementReferenceException()).when(driver).click(control);
+
+        // Act
+        Consumer<IDriver> action = clickCommandObject.getCommandDelegate();
+
+        // Assert
+        assertThrows(StaleElementReferenceException.class, () -> action.accept(driver));
+        verify(initializer, times(1)).findElement(driver, selector);
+    }
+
+    private static class StaleElementReferenceException extends RuntimeException {
+    }
 }
@@ -1,5 +1,6 @@
 package com.ultimatesoftware.aeon.core.command.execution.commands.web;
 
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.awt.image.BufferedImage;
-
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,12 +30,13 @@ public class GetScreenshotCommandTests {
     @Test
     public void commandDelegate_happyPath_callsGetScreenshot() {
         //Arrange
-        when(driver.getScreenshot()).thenReturn(new BufferedImage(1, 1, 1));
+        when(driver.getScreenshot()).thenReturn(new Screenshot(new byte[]{1, 2, 3}));
 
         //Act
-        getScreenshotCommand.commandDelegate(driver);
+        Object result = getScreenshotCommand.commandDelegate(driver);
 
         //Assert
         verify(driver, times(1)).getScreenshot();
+        assertEquals("AQID", result);
     }
 }
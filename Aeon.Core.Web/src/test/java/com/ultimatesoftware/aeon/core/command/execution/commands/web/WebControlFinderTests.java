@@ -4,6 +4,7 @@ import com.ultimatesoftware.aeon.core.command.execution.commands.initialization.
 import com.ultimatesoftware.aeon.core.command.execution.commands.interfaces.IWebSelectorFinder;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControl;
+import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.WebControlCache;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
 import org.junit.jupiter.api.Assertions;
@@ -15,9 +16,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Collections;
 import java.util.function.Consumer;
 
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.STRICT_STUBS)
@@ -68,4 +70,69 @@ public class WebControlFinderTests {
         // Assert
         Assertions.assertEquals(control, controllerSet);
     }
+
+    @Test
+    public void findElement_controlCached_doesNotFindElementAgain() {
+        // Arrange
+        WebControlCache cache = new WebControlCache(true);
+        cache.setFramePath(Collections.emptyList());
+        when(driver.getControlCache()).thenReturn(cache);
+        when(driver.findElement(selector)).thenReturn(control);
+
+        // Act
+        WebControl first = webControlFinderDefault.findElement(driver, selector);
+        WebControl second = webControlFinderDefault.findElement(driver, selector);
+
+        // Assert
+        Assertions.assertSame(first, second);
+        verify(driver, times(1)).findElement(selector);
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void findElement_cacheDisabled_findsElementEachTime() {
+        // Arrange
+        when(driver.getControlCache()).thenReturn(new WebControlCache(false));
+        when(driver.findElement(selector)).thenReturn(control);
+
+        // Act
+        webControlFinderDefault.findElement(driver, selector);
+        webControlFinderDefault.findElement(driver, selector);
+
+        // Assert
+        verify(driver, times(2)).findElement(selector);
+    }
+
+    @Test
+    public void findElementInView_controlNotCached_findsElementInView() {
+        // Arrange
+        when(driver.findElementInView(selector)).thenReturn(control);
+
+        // Act
+        WebControl found = webControlFinderDefault.findElementInView(driver, selector);
+
+        // Assert
+        Assertions.assertEquals(control, found);
+        verify(driver, never()).findElement(selector);
+        verify(driver, never()).scrollElementIntoView(control);
+    }
+
+    @Test
+    public void findElementInView_controlCached_scrollsCachedControlIntoView() {
+        // Arrange
+        WebControlCache cache = new WebControlCache(true);
+        cache.setFramePath(Collections.emptyList());
+        when(driver.getControlCache()).thenReturn(cache);
+        when(driver.findElementInView(selector)).thenReturn(control);
+
+        // Act
+        webControlFinderDefault.findElementInView(driver, selector);
+        WebControl second = webControlFinderDefault.findElementInView(driver, selector);
+
+        // Assert
+        Assertions.assertEquals(control, second);
+        verify(driver, times(1)).findElementInView(selector);
+        verify(driver, times(1)).scrollElementIntoView(control);
+    }
 }
@@ -0,0 +1,202 @@
+package com.ultimatesoftware.aeon.core.common.helpers;
+
+import com.ultimatesoftware.aeon.core.common.exceptions.ScriptExecutionException;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class AjaxWaiterTests {
+
+    private static final String POLL_SCRIPT_END = "return aeon.pendingCount();";
+
+    @Mock
+    private IWebDriver webDriver;
+
+    @Mock
+    private Sleep sleep;
+
+    private Sleep originalSleep;
+
+    @BeforeEach
+    void setUp() {
+        originalSleep = Sleep.getInstance();
+        Sleep.setInstance(sleep);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Sleep.setInstance(originalSleep);
+    }
+
+    @Test
+    void waitForAsync_asyncScriptPageIdle_usesSingleRoundTrip() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20));
+        when(webDriver.executeAsyncScript(contains("aeon.whenIdle(finish);"))).thenReturn(0L);
+
+        // Act
+        boolean idle = ajaxWaiter.waitForAsync();
+
+        // Assert
+        assertTrue(idle);
+        verify(webDriver, times(1)).executeAsyncScript(contains("}, 20000);"));
+        verify(webDriver, never()).executeScript(anyString());
+        verify(sleep, never()).waitInternal();
+    }
+
+    @Test
+    void waitForAsync_asyncScriptWaiterMissing_injectsWaiterInSameRoundTrip() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20));
+        when(webDriver.executeAsyncScript(contains("a.setAttribute('id', 'aeonAjaxWaiter');"))).thenReturn(-1L);
+
+        // Act
+        boolean idle = ajaxWaiter.waitForAsync();
+
+        // Assert
+        assertFalse(idle);
+        assertTrue(ajaxWaiter.isUsingAsyncScript());
+        verify(webDriver, times(1)).executeAsyncScript(contains("aeon.ajaxJsonpElementTimeout = 18000;aeon.configure({fetch: true,"));
+        verify(webDriver, never()).executeScript(anyString());
+    }
+
+    @Test
+    void waitForAsync_customSignals_configuresWaiterOnInjection() {
+        // Arrange
+        QuiescenceSignals signals = new QuiescenceSignals(false, true, true, true, false, Duration.ofMillis(250));
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20), true, signals);
+        when(webDriver.executeAsyncScript(anyString())).thenReturn(-1L);
+
+        // Act
+        ajaxWaiter.waitForAsync();
+
+        // Assert
+        verify(webDriver, times(1)).executeAsyncScript(contains("aeon.configure(" +
+                "{fetch: false, timers: true, animationFrames: true, domMutations: true, webSockets: false, quietWindow: 250});"));
+    }
+
+    @Test
+    void waitForAsync_timeoutChanged_usesNewTimeout() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20));
+        when(webDriver.executeAsyncScript(anyString())).thenReturn(0L);
+
+        // Act
+        ajaxWaiter.setTimeout(5000);
+        ajaxWaiter.waitForAsync();
+
+        // Assert
+        verify(webDriver, times(1)).executeAsyncScript(contains("}, 5000);"));
+    }
+
+    @Test
+    void waitForAsync_asyncScriptUnsupported_fallsBackToPolling() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20));
+        when(webDriver.executeAsyncScript(anyString())).thenThrow(new ScriptExecutionException("script", new UnsupportedOperationException()));
+        when(webDriver.executeScript(contains(POLL_SCRIPT_END))).thenReturn(0L);
+
+        // Act
+        ajaxWaiter.waitForAsync();
+        ajaxWaiter.waitForAsync();
+
+        // Assert
+        verify(webDriver, times(1)).executeAsyncScript(anyString());
+        verify(webDriver, times(2)).executeScript(contains(POLL_SCRIPT_END));
+        assertFalse(ajaxWaiter.isUsingAsyncScript());
+    }
+
+    @Test
+    void waitForAsync_asyncScriptFails_pollsOnceAndKeepsAsyncScript() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20));
+        when(webDriver.executeAsyncScript(anyString()))
+                .thenThrow(new ScriptExecutionException("script", new RuntimeException("script timeout")))
+                .thenReturn(0L);
+        when(webDriver.executeScript(contains(POLL_SCRIPT_END))).thenReturn(0L);
+
+        // Act
+        ajaxWaiter.waitForAsync();
+        boolean idle = ajaxWaiter.waitForAsync();
+
+        // Assert
+        assertTrue(idle);
+        verify(webDriver, times(2)).executeAsyncScript(anyString());
+        verify(webDriver, times(1)).executeScript(contains(POLL_SCRIPT_END));
+        assertTrue(ajaxWaiter.isUsingAsyncScript());
+    }
+
+    @Test
+    void waitForAsync_asyncScriptDisabled_pollsUntilCounterIsZero() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20), false);
+        when(webDriver.executeScript(contains(POLL_SCRIPT_END))).thenReturn(2L, 1L, 0L);
+
+        // Act
+        boolean idle = ajaxWaiter.waitForAsync();
+
+        // Assert
+        assertTrue(idle);
+        verify(webDriver, never()).executeAsyncScript(anyString());
+        verify(webDriver, times(3)).executeScript(contains(POLL_SCRIPT_END));
+        verify(sleep, times(3)).waitInternal();
+    }
+
+    @Test
+    void waitForAsync_pollingWaiterMissing_injectsWaiterInSameRoundTrip() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20), false);
+        when(webDriver.executeScript(contains("a.setAttribute('id', 'aeonAjaxWaiter');"))).thenReturn(-1L);
+
+        // Act
+        boolean idle = ajaxWaiter.waitForAsync();
+
+        // Assert
+        assertFalse(idle);
+        verify(webDriver, times(1)).executeScript(anyString());
+        verify(sleep, never()).waitInternal();
+    }
+
+    @Test
+    void waitForAsync_pollingScriptFails_throwsException() {
+        // Arrange
+        AjaxWaiter ajaxWaiter = new AjaxWaiter(webDriver, Duration.ofSeconds(20), false);
+        when(webDriver.executeScript(anyString())).thenThrow(new ScriptExecutionException("script", new RuntimeException()));
+
+        // Act
+        Executable executable = ajaxWaiter::waitForAsync;
+
+        // Assert
+        assertThrows(ScriptExecutionException.class, executable);
+    }
+
+    @Test
+    void getAjaxWaiterJS_calledTwice_readsAndMinimizesScriptOnce() {
+        // Arrange
+
+        // Act
+        String first = AjaxWaiter.getAjaxWaiterJS();
+        String second = AjaxWaiter.getAjaxWaiterJS();
+
+        // Assert
+        assertSame(first, second);
+        assertTrue(first.startsWith("var aeon = {"));
+        assertFalse(first.contains("\n") || first.contains("\r") || first.contains("\""));
+    }
+}
@@ -0,0 +1,100 @@
+package com.ultimatesoftware.aeon.core.common.web.selectors;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByJQueryTests {
+
+    @Test
+    void toString_calledTwice_returnsSameScript() {
+        // Arrange
+        ByJQuery byJQuery = new ByJQuery("#form").find("input");
+
+        // Act
+        String first = byJQuery.toString();
+        String second = byJQuery.toString();
+
+        // Assert
+        assertEquals("$(\"#form\").find(\"input\")", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void append_doesNotChangeAppendices() {
+        // Arrange
+        ByJQuery appendee = new ByJQuery("#form");
+        ByJQuery appendix = new ByJQuery("input").first();
+        String expected = appendix.toString();
+
+        // Act
+        ByJQuery result = ByJQuery.append(appendee, appendix);
+
+        // Assert
+        assertEquals("$(\"#form\").find(\"input\").first()", result.toString());
+        assertEquals(expected, appendix.toString());
+    }
+
+    @Test
+    void toCssSelector_withFindChildrenAndFilter_returnsSelector() {
+        // Arrange
+        ByJQuery byJQuery = new ByJQuery("#form").find("div.row").children("input").filter("[type='text']");
+
+        // Act
+        JQueryCssSelector cssSelector = byJQuery.toCssSelector();
+
+        // Assert
+        assertEquals("#form div.row > input[type='text']", cssSelector.getSelector());
+        assertNull(cssSelector.getIndex());
+    }
+
+    @Test
+    void toCssSelector_withEqFirstAndLast_returnsIndex() {
+        // Arrange
+        ByJQuery byJQuery = new ByJQuery("li");
+
+        // Act
+        JQueryCssSelector eq = byJQuery.eq(2).toCssSelector();
+        JQueryCssSelector first = byJQuery.first().toCssSelector();
+        JQueryCssSelector last = byJQuery.last().toCssSelector();
+
+        // Assert
+        assertEquals("li", eq.getSelector());
+        assertEquals(Integer.valueOf(2), eq.getIndex());
+        assertEquals(Integer.valueOf(0), first.getIndex());
+        assertEquals(Integer.valueOf(-1), last.getIndex());
+    }
+
+    @Test
+    void toCssSelector_withJQuerySpecificChain_returnsNull() {
+        // Arrange
+
+        // Act
+
+        // Assert
+        assertNull(new ByJQuery(".class:contains(something)").toCssSelector());
+        assertNull(new ByJQuery("li").first().find("a").toCssSelector());
+        assertNull(new ByJQuery("li").parent().toCssSelector());
+        assertNull(new ByJQuery("li").filter("span b").toCssSelector());
+        assertNull(new ByJQuery("div").shadowDom("span").toCssSelector());
+        assertNull(new ByJQuery("li, a").toCssSelector());
+    }
+
+    @Test
+    void select_withIndex_returnsMatchedElement() {
+        // Arrange
+        List<String> matches = Arrays.asList("a", "b", "c");
+
+        // Act
+
+        // Assert
+        assertEquals(matches, new JQueryCssSelector("li", null).select(matches));
+        assertEquals(Collections.singletonList("b"), new JQueryCssSelector("li", 1).select(matches));
+        assertEquals(Collections.singletonList("c"), new JQueryCssSelector("li", -1).select(matches));
+        assertEquals(Collections.emptyList(), new JQueryCssSelector("li", 3).select(matches));
+    }
+}
@@ -0,0 +1,208 @@
+package com.ultimatesoftware.aeon.core.framework.abstraction.controls.web;
+
+import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
+import com.ultimatesoftware.aeon.core.common.web.selectors.By;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class WebControlCacheTests {
+
+    private WebControlCache cache;
+
+    @Mock
+    private IByWeb selector;
+    @Mock
+    private WebControl control;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WebControlCache(true);
+        cache.setFramePath(Collections.emptyList());
+    }
+
+    @Test
+    void get_controlCached_returnsControlAndCountsHit() {
+
+        // Arrange
+        cache.put(selector, control);
+
+        // Act
+        WebControl result = cache.get(selector);
+
+        // Assert
+        assertSame(control, result);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void get_controlNotCached_returnsNullAndCountsMiss() {
+
+        // Arrange
+
+        // Act
+        WebControl result = cache.get(selector);
+
+        // Assert
+        assertNull(result);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void get_controlCachedInOtherFrame_returnsNull() {
+
+        // Arrange
+        cache.put(selector, control);
+        cache.setFramePath(Collections.singletonList("iframe"));
+
+        // Act
+        WebControl result = cache.get(selector);
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void get_framePathUnknown_returnsNull() {
+
+        // Arrange
+        cache.put(selector, control);
+        cache.setFramePath(null);
+
+        // Act
+        WebControl result = cache.get(selector);
+
+        // Assert
+        assertNull(result);
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void get_cacheDisabled_returnsNull() {
+
+        // Arrange
+        cache = new WebControlCache(false);
+        cache.setFramePath(Collections.emptyList());
+        cache.put(selector, control);
+
+        // Act
+        WebControl result = cache.get(selector);
+
+        // Assert
+        assertNull(result);
+        assertFalse(cache.isEnabled());
+    }
+
+    @Test
+    void get_positionalCssSelector_returnsNull() {
+
+        // Arrange
+        IByWeb positionalSelector = By.cssSelector("li:nth-child(2)");
+        cache.put(positionalSelector, control);
+
+        // Act
+        WebControl result = cache.get(positionalSelector);
+
+        // Assert
+        assertNull(result);
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void get_indexedJQuerySelector_returnsNull() {
+
+        // Arrange
+        IByWeb positionalSelector = By.jQuery("li").eq(2);
+        cache.put(positionalSelector, control);
+
+        // Act
+        WebControl result = cache.get(positionalSelector);
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void get_cssSelectorWithoutPosition_returnsControl() {
+
+        // Arrange
+        IByWeb cssSelector = By.cssSelector("li.first-item");
+        cache.put(cssSelector, control);
+
+        // Act
+        WebControl result = cache.get(cssSelector);
+
+        // Assert
+        assertSame(control, result);
+    }
+
+    @Test
+    void invalidate_staleControl_clearsCacheAndReturnsTrue() {
+
+        // Arrange
+        cache.put(selector, control);
+
+        // Act
+        boolean stale = cache.invalidate(new StaleElementReferenceException());
+
+        // Assert
+        assertTrue(stale);
+        assertNull(cache.get(selector));
+    }
+
+    @Test
+    void invalidate_wrappedStaleControl_returnsTrue() {
+
+        // Arrange
+        cache.put(selector, control);
+
+        // Act
+        boolean stale = cache.invalidate(new IllegalStateException(new StaleElementReferenceException()));
+
+        // Assert
+        assertTrue(stale);
+        assertNull(cache.get(selector));
+    }
+
+    @Test
+    void invalidate_otherException_clearsCacheAndReturnsFalse() {
+
+        // Arrange
+        cache.put(selector, control);
+
+        // Act
+        boolean stale = cache.invalidate(new IllegalStateException());
+
+        // Assert
+        assertFalse(stale);
+        assertNull(cache.get(selector));
+    }
+
+    @Test
+    void invalidate_cacheDisabled_returnsFalse() {
+
+        // Arrange
+        cache = new WebControlCache(false);
+
+        // Act
+        boolean stale = cache.invalidate(new StaleElementReferenceException());
+
+        // Assert
+        assertFalse(stale);
+    }
+
+    private static class StaleElementReferenceException extends RuntimeException {
+    }
+}
@@ -3,6 +3,7 @@ package com.ultimatesoftware.aeon.core.framework.abstraction.drivers;
 import com.ultimatesoftware.aeon.core.common.CompareType;
 import com.ultimatesoftware.aeon.core.common.ComparisonOption;
 import com.ultimatesoftware.aeon.core.common.KeyboardKey;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.web.BrowserType;
 import com.ultimatesoftware.aeon.core.common.web.ClientRects;
 import com.ultimatesoftware.aeon.core.common.web.WebSelectOption;
@@ -16,6 +17,7 @@ import com.ultimatesoftware.aeon.core.testabstraction.product.WebConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -27,6 +29,7 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.Collection;
 import java.util.List;
@@ -52,8 +55,7 @@ class AeonWebDriverTests {
     private IWebCookie cookie;
     @Mock
     private List<IWebCookie> cookies;
-    @Mock
-    private Image image;
+    private Screenshot image = new Screenshot(new byte[]{1, 2, 3});
 
 
     @BeforeEach
@@ -74,6 +76,37 @@ class AeonWebDriverTests {
         verify(adapter, times(1)).findElement(selector);
     }
 
+    @Test
+    void findElementInView_whenScrollTrue_adapterFindsElementInView() {
+
+        // Arrange
+        when(configuration.getBoolean(WebConfiguration.Keys.SCROLL_ELEMENT_INTO_VIEW, false)).thenReturn(true);
+        when(adapter.findElementInView(selector)).thenReturn(webControl);
+
+        // Act
+        WebControl control = aeonWebDriver.findElementInView(selector);
+
+        // Assert
+        assertEquals(webControl, control);
+        verify(adapter, never()).findElement(selector);
+        verify(adapter, never()).scrollElementIntoView(webControl);
+    }
+
+    @Test
+    void findElementInView_whenScrollFalse_adapterFindsElement() {
+
+        // Arrange
+        when(configuration.getBoolean(WebConfiguration.Keys.SCROLL_ELEMENT_INTO_VIEW, false)).thenReturn(false);
+        when(adapter.findElement(selector)).thenReturn(webControl);
+
+        // Act
+        WebControl control = aeonWebDriver.findElementInView(selector);
+
+        // Assert
+        assertEquals(webControl, control);
+        verify(adapter, never()).findElementInView(selector);
+    }
+
     @Test
     void findElements_givenWebControl_returnAdapterWebControl() {
 
@@ -198,6 +231,192 @@ class AeonWebDriverTests {
         verify(adapter, times(1)).switchToFrame(selector);
     }
 
+    @Test
+    void switchToFramePath_notInFrame_switchesToEachFrame() {
+
+        // Arrange
+        IByWeb innerFrame = mock(IByWeb.class);
+
+        // Act
+        aeonWebDriver.switchToFramePath(selector, innerFrame);
+
+        // Assert
+        InOrder inOrder = inOrder(adapter);
+        inOrder.verify(adapter).switchToDefaultContent();
+        inOrder.verify(adapter).focusWindow();
+        inOrder.verify(adapter).switchToFrame(selector);
+        inOrder.verify(adapter).switchToFrame(innerFrame);
+    }
+
+    @Test
+    void switchToFramePath_alreadyInFrame_doesNotSwitch() {
+
+        // Arrange
+        aeonWebDriver.switchToFramePath(selector);
+
+        // Act
+        aeonWebDriver.switchToFramePath(selector);
+
+        // Assert
+        verify(adapter, times(1)).switchToDefaultContent();
+        verify(adapter, times(1)).switchToFrame(selector);
+    }
+
+    @Test
+    void switchToFramePath_nullAfterDefaultContent_doesNotSwitch() {
+
+        // Arrange
+        aeonWebDriver.switchToDefaultContent();
+
+        // Act
+        aeonWebDriver.switchToFramePath((IByWeb[]) null);
+
+        // Assert
+        verify(adapter, times(1)).switchToDefaultContent();
+        verify(adapter, never()).focusWindow();
+    }
+
+    @Test
+    void switchToFramePath_afterNavigation_switchesAgain() throws MalformedURLException {
+
+        // Arrange
+        aeonWebDriver.switchToFramePath(selector);
+        aeonWebDriver.goToUrl(new URL("http://www.test.com"));
+
+        // Act
+        aeonWebDriver.switchToFramePath(selector);
+
+        // Assert
+        verify(adapter, times(2)).switchToFrame(selector);
+    }
+
+    @Test
+    void switchToFramePath_emptyAfterDefaultContent_focusesWindow() {
+
+        // Arrange
+        aeonWebDriver.switchToDefaultContent();
+
+        // Act
+        aeonWebDriver.switchToFramePath();
+
+        // Assert
+        verify(adapter, times(1)).focusWindow();
+    }
+
+    @Test
+    void switchToFramePath_nullAfterEmpty_doesNotSwitch() {
+
+        // Arrange
+        aeonWebDriver.switchToFramePath();
+
+        // Act
+        aeonWebDriver.switchToFramePath((IByWeb[]) null);
+
+        // Assert
+        verify(adapter, times(1)).switchToDefaultContent();
+        verify(adapter, times(1)).focusWindow();
+    }
+
+    @Test
+    void switchToFramePath_afterMutatingCommand_doesNotSwitch() {
+
+        // Arrange
+        aeonWebDriver.switchToFramePath(selector);
+        aeonWebDriver.commandExecuted(false);
+
+        // Act
+        aeonWebDriver.switchToFramePath(selector);
+
+        // Assert
+        verify(adapter, times(1)).switchToFrame(selector);
+    }
+
+    @Test
+    void switchToFramePath_afterReadOnlyCommand_doesNotSwitch() {
+
+        // Arrange
+        aeonWebDriver.switchToFramePath(selector);
+        aeonWebDriver.commandExecuted(true);
+
+        // Act
+        aeonWebDriver.switchToFramePath(selector);
+
+        // Assert
+        verify(adapter, times(1)).switchToFrame(selector);
+    }
+
+    @Test
+    void commandExecuted_notifiesAdapter() {
+
+        // Act
+        aeonWebDriver.commandExecuted(true);
+
+        // Assert
+        verify(adapter, times(1)).commandExecuted(true);
+    }
+
+    @Test
+    void switchToFramePath_afterWindowSwitch_switchesAgain() {
+
+        // Arrange
+        aeonWebDriver.switchToFramePath(selector);
+        aeonWebDriver.switchToWindowByTitle("title");
+
+        // Act
+        aeonWebDriver.switchToFramePath(selector);
+
+        // Assert
+        verify(adapter, times(2)).switchToFrame(selector);
+    }
+
+    @Test
+    void switchToFramePath_frameSwitchFailed_switchesAgain() {
+
+        // Arrange
+        doThrow(new RuntimeException()).doNothing().when(adapter).switchToFrame(selector);
+        assertThrows(RuntimeException.class, () -> aeonWebDriver.switchToFramePath(selector));
+
+        // Act
+        aeonWebDriver.switchToFramePath(selector);
+
+        // Assert
+        verify(adapter, times(2)).switchToFrame(selector);
+    }
+
+    @Test
+    void getControlCache_afterNavigation_isCleared() throws MalformedURLException {
+
+        // Arrange
+        when(configuration.getBoolean(WebConfiguration.Keys.CACHE_ELEMENTS, false)).thenReturn(true);
+        aeonWebDriver.configure(adapter, configuration);
+        aeonWebDriver.switchToDefaultContent();
+        aeonWebDriver.getControlCache().put(selector, webControl);
+
+        // Act
+        aeonWebDriver.goToUrl(new URL("http://www.test.com"));
+        aeonWebDriver.switchToDefaultContent();
+
+        // Assert
+        assertTrue(aeonWebDriver.getControlCache().isEnabled());
+        assertNull(aeonWebDriver.getControlCache().get(selector));
+    }
+
+    @Test
+    void switchToFramePath_elementNotFoundInFrame_switchesAgain() {
+
+        // Arrange
+        when(adapter.findElement(selector)).thenThrow(new RuntimeException());
+        IByWeb frame = mock(IByWeb.class);
+        aeonWebDriver.switchToFramePath(frame);
+        assertThrows(RuntimeException.class, () -> aeonWebDriver.findElement(selector));
+
+        // Act
+        aeonWebDriver.switchToFramePath(frame);
+
+        // Assert
+        verify(adapter, times(2)).switchToFrame(frame);
+    }
+
     @Test
     void getElementTagName_verifyAdapterGetElement() {
 
@@ -473,13 +692,104 @@ class AeonWebDriverTests {
         when(adapter.getScreenshot()).thenReturn(image);
 
         // Act
-        Image result = aeonWebDriver.getScreenshot();
+        Screenshot result = aeonWebDriver.getScreenshot();
 
         // Assert
         verify(adapter, times(1)).getScreenshot();
         assertEquals(image, result);
     }
 
+    @Test
+    void getFailureScreenshot_afterFindElementWithElementScreenshots_takesElementScreenshot() {
+
+        // Arrange
+        LocalDateTime started = LocalDateTime.now();
+        when(configuration.getBoolean(WebConfiguration.Keys.ELEMENT_SCREENSHOT, false)).thenReturn(true);
+        when(configuration.getDouble(WebConfiguration.Keys.ELEMENT_SCREENSHOT_PADDING, 50)).thenReturn(20.0);
+        when(adapter.findElement(selector)).thenReturn(webControl);
+        when(adapter.getScreenshot(webControl, 20)).thenReturn(image);
+        aeonWebDriver.switchToFramePath((IByWeb[]) null);
+        aeonWebDriver.findElement(selector);
+
+        // Act
+        Screenshot result = aeonWebDriver.getFailureScreenshot(started);
+
+        // Assert
+        assertEquals(image, result);
+        verify(adapter, never()).getScreenshot();
+    }
+
+    @Test
+    void getFailureScreenshot_withoutElementScreenshots_takesFullScreenshot() {
+
+        // Arrange
+        LocalDateTime started = LocalDateTime.now();
+        when(configuration.getBoolean(WebConfiguration.Keys.ELEMENT_SCREENSHOT, false)).thenReturn(false);
+        when(adapter.getScreenshot()).thenReturn(image);
+        aeonWebDriver.switchToFramePath((IByWeb[]) null);
+        aeonWebDriver.findElement(selector);
+
+        // Act
+        Screenshot result = aeonWebDriver.getFailureScreenshot(started);
+
+        // Assert
+        assertEquals(image, result);
+        verify(adapter, never()).getScreenshot(any(), anyInt());
+    }
+
+    @Test
+    void getFailureScreenshot_whenCommandDidNotFindElement_takesFullScreenshot() {
+
+        // Arrange
+        aeonWebDriver.findElement(selector);
+        LocalDateTime started = LocalDateTime.now().plusSeconds(1);
+        when(adapter.getScreenshot()).thenReturn(image);
+
+        // Act
+        Screenshot result = aeonWebDriver.getFailureScreenshot(started);
+
+        // Assert
+        assertEquals(image, result);
+        verify(configuration, never()).getBoolean(WebConfiguration.Keys.ELEMENT_SCREENSHOT, false);
+    }
+
+    @Test
+    void getFailureScreenshot_whenElementCannotBeFound_takesFullScreenshot() {
+
+        // Arrange
+        LocalDateTime started = LocalDateTime.now();
+        when(adapter.findElement(selector)).thenThrow(new RuntimeException("Not found"));
+        when(adapter.getScreenshot()).thenReturn(image);
+        aeonWebDriver.switchToFramePath((IByWeb[]) null);
+        assertThrows(RuntimeException.class, () -> aeonWebDriver.findElement(selector));
+
+        // Act
+        Screenshot result = aeonWebDriver.getFailureScreenshot(started);
+
+        // Assert
+        assertEquals(image, result);
+        verify(adapter, times(1)).findElement(selector);
+        verify(adapter, never()).getScreenshot(any(), anyInt());
+    }
+
+    @Test
+    void getFailureScreenshot_whenFramePathUnknown_takesFullScreenshot() {
+
+        // Arrange
+        LocalDateTime started = LocalDateTime.now();
+        when(adapter.findElement(selector)).thenReturn(webControl);
+        when(adapter.getScreenshot()).thenReturn(image);
+        aeonWebDriver.findElement(selector);
+
+        // Act
+        Screenshot result = aeonWebDriver.getFailureScreenshot(started);
+
+        // Assert
+        assertEquals(image, result);
+        verify(configuration, never()).getBoolean(WebConfiguration.Keys.ELEMENT_SCREENSHOT, false);
+        verify(adapter, never()).getScreenshot(any(), anyInt());
+    }
+
     @Test
     void getSource_verifyAdapterGetSource() {
 
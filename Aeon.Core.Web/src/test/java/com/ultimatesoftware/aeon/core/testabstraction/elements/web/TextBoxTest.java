@@ -1,6 +1,7 @@
 package com.ultimatesoftware.aeon.core.testabstraction.elements.web;
 
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
+import com.ultimatesoftware.aeon.core.command.execution.CommandBatch;
 import com.ultimatesoftware.aeon.core.command.execution.ICommandExecutionFacade;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.ClearCommand;
 import com.ultimatesoftware.aeon.core.command.execution.commands.web.SetCommand;
@@ -17,9 +18,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.STRICT_STUBS)
@@ -73,4 +79,28 @@ public class TextBoxTest {
         verify(commandExecutionFacade, times(1))
                 .execute(Mockito.eq(automationInfo), any(ClearCommand.class));
     }
+
+    @Test
+    public void addSetAddsCommandWithoutExecutingIt() {
+        //Arrange
+        CommandBatch batch = new CommandBatch();
+
+        //Act
+        textBox.addSet(batch, "value");
+
+        //Assert
+        assertEquals(1, batch.size());
+        assertTrue(batch.getCommands().get(0) instanceof SetCommand);
+        verifyZeroInteractions(commandExecutionFacade);
+    }
+
+    @Test
+    public void withTimeoutKeepsTextBoxCommands() {
+        //Act
+        textBox.withTimeout(Duration.ofSeconds(2)).set("value");
+
+        //Assert
+        verify(commandExecutionFacade, times(1))
+                .execute(Mockito.eq(automationInfo), any(SetCommand.class), Mockito.eq(Duration.ofSeconds(2)));
+    }
 }
@@ -17,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
 
@@ -91,6 +92,18 @@ class WebElementTests {
                 .execute(Mockito.eq(info2), any(BlurCommand.class));
     }
 
+    @Test
+    void withTimeout_click_executesCommandWithTimeout() {
+        //Act
+        webElement2.withTimeout(Duration.ofSeconds(2)).click();
+
+        //Assert
+        verify(commandExecutionFacade, times(1))
+                .execute(Mockito.eq(info2), any(ClickCommand.class), Mockito.eq(Duration.ofSeconds(2)));
+        verify(commandExecutionFacade, times(0))
+                .execute(Mockito.eq(info2), any(ClickCommand.class));
+    }
+
     @Test
     void clickAndHold_executesCommand() {
         //Act
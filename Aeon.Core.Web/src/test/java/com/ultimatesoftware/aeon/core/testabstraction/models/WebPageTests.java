@@ -1,7 +1,10 @@
 package com.ultimatesoftware.aeon.core.testabstraction.models;
 
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
+import com.ultimatesoftware.aeon.core.command.execution.CommandBatch;
+import com.ultimatesoftware.aeon.core.command.execution.ICommandExecutionFacade;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
+import com.ultimatesoftware.aeon.core.testabstraction.elements.web.TextBox;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -9,7 +12,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.STRICT_STUBS)
@@ -18,6 +26,12 @@ class WebPageTests {
     @Mock
     private AutomationInfo automationInfo;
 
+    @Mock
+    private ICommandExecutionFacade commandExecutionFacade;
+
+    @Mock
+    private IByWeb selector;
+
     static class WebPageStub extends WebPage {
         WebPageStub(AutomationInfo automationInfo, IByWeb... switchMechanism) {
             super(automationInfo, switchMechanism);
@@ -49,4 +63,35 @@ class WebPageTests {
         assertEquals(this.automationInfo, webPage.automationInfo);
         assertEquals(switchMechanism, webPage.switchMechanism);
     }
+
+    @Test
+    void fillForm_executesOneBatchWithEveryField() {
+
+        // Arrange
+        when(automationInfo.getCommandExecutionFacade()).thenReturn(commandExecutionFacade);
+        WebPage webPage = new WebPageStub(this.automationInfo);
+        Map<TextBox, String> values = new LinkedHashMap<>();
+        values.put(new TextBox(this.automationInfo, selector), "first");
+        values.put(new TextBox(this.automationInfo, selector), "second");
+
+        // Act
+        webPage.fillForm(values);
+
+        // Assert
+        verify(commandExecutionFacade, times(1)).execute(eq(this.automationInfo), argThat((CommandBatch batch) -> batch.size() == 2));
+        verifyNoMoreInteractions(commandExecutionFacade);
+    }
+
+    @Test
+    void fillForm_noFields_executesNothing() {
+
+        // Arrange
+        WebPage webPage = new WebPageStub(this.automationInfo);
+
+        // Act
+        webPage.fillForm(Collections.emptyMap());
+
+        // Assert
+        verifyZeroInteractions(this.automationInfo);
+    }
 }
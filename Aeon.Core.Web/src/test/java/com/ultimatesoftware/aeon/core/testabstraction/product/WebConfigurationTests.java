@@ -17,8 +17,10 @@ import org.mockito.quality.Strictness;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -67,19 +69,44 @@ class WebConfigurationTests {
         // Arrange
 
         // Act
-        List<AeonConfigKey> keys = new ArrayList<>(webConfiguration.getConfigurationFields());
+        Set<String> keys = webConfiguration.getConfigurationFields().stream()
+                .map(AeonConfigKey::getKey)
+                .collect(Collectors.toSet());
 
         // Assert
-        assertEquals("aeon.timeout", keys.get(0).getKey());
-        assertEquals("aeon.throttle", keys.get(1).getKey());
-        assertEquals("aeon.implicit_reporting", keys.get(2).getKey());
-        assertEquals("aeon.wait_for_ajax_responses", keys.get(3).getKey());
-        assertEquals("aeon.browser", keys.get(4).getKey());
-        assertEquals("aeon.environment", keys.get(5).getKey());
-        assertEquals("aeon.protocol", keys.get(6).getKey());
-        assertEquals("aeon.timeout.ajax", keys.get(7).getKey());
-        assertEquals("aeon.browser.maximize", keys.get(8).getKey());
-        assertEquals("aeon.scroll_element_into_view", keys.get(9).getKey());
+        assertEquals(new HashSet<>(Arrays.asList(
+                "aeon.timeout",
+                "aeon.throttle",
+                "aeon.throttle.mode",
+                "aeon.throttle.read_only",
+                "aeon.implicit_reporting",
+                "aeon.retry.initial_interval",
+                "aeon.retry.max_interval",
+                "aeon.retry.multiplier",
+                "aeon.retry.jitter",
+                "aeon.retry.exception_policies",
+                "aeon.screenshot.max_width",
+                "aeon.screenshot.quality",
+                "aeon.screenshot.grayscale",
+                "aeon.screenshot.max_bytes",
+                "aeon.wait_for_ajax_responses",
+                "aeon.browser",
+                "aeon.environment",
+                "aeon.protocol",
+                "aeon.timeout.ajax",
+                "aeon.browser.maximize",
+                "aeon.scroll_element_into_view",
+                "aeon.wait_for_ajax_responses.async",
+                "aeon.wait_for_ajax_responses.fetch",
+                "aeon.wait_for_ajax_responses.timers",
+                "aeon.wait_for_ajax_responses.animation_frames",
+                "aeon.wait_for_ajax_responses.dom_mutations",
+                "aeon.wait_for_ajax_responses.web_sockets",
+                "aeon.wait_for_ajax_responses.quiet_window",
+                "aeon.wait_for_ajax_responses.read_only_skip_window",
+                "aeon.cache_elements",
+                "aeon.screenshot.element",
+                "aeon.screenshot.element.padding")), keys);
     }
 
     @Test
@@ -0,0 +1,75 @@
+package com.ultimatesoftware.aeon.core.common;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to re-encode a full HD screenshot and the size of the result for several codec settings.
+ * <p>
+ * The codec encodes every screenshot to the same size, which is printed once per setting. Run with
+ * {@code gradlew :Aeon.Core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScreenshotCodecBenchmark {
+
+    /**
+     * The codec settings as {@code maxWidth:quality:grayscale:maxBytes}.
+     */
+    @Param({"0:1:false:0", "1280:1:false:0", "0:0.7:false:0", "1280:0.7:false:0", "1280:0.7:true:0", "0:0.7:false:150000"})
+    public String settings;
+
+    private Screenshot screenshot;
+    private ScreenshotCodec codec;
+    private Screenshot encoded;
+
+    /**
+     * Draws the screenshot and creates the codec.
+     */
+    @Setup
+    public void setup() {
+        BufferedImage image = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, 1920, 1080, Color.LIGHT_GRAY));
+        graphics.fillRect(0, 0, 1920, 1080);
+        graphics.setColor(Color.DARK_GRAY);
+        for (int y = 20; y < 1080; y += 24) {
+            graphics.drawString("Employee " + y + "  Department " + (y % 7) + "  Status active", 40, y);
+            graphics.drawRect(30, y - 16, 1860, 22);
+        }
+
+        graphics.dispose();
+        screenshot = Screenshot.fromImage(image);
+
+        String[] values = settings.split(":");
+        codec = new ScreenshotCodec(Integer.parseInt(values[0]), Double.parseDouble(values[1]),
+                Boolean.parseBoolean(values[2]), Integer.parseInt(values[3]));
+    }
+
+    /**
+     * Prints the size of the encoded screenshot.
+     */
+    @TearDown
+    public void printSize() {
+        System.out.printf("%s: %d of %d bytes, %d pixels wide%n", settings, encoded.getSize(), screenshot.getSize(),
+                encoded.getImage().getWidth());
+    }
+
+    /**
+     * Re-encodes the screenshot.
+     *
+     * @return The encoded screenshot.
+     */
+    @Benchmark
+    public Screenshot encode() {
+        encoded = codec.encode(new Screenshot(screenshot.getBytes()));
+        return encoded;
+    }
+}
@@ -1,11 +1,12 @@
 package com.ultimatesoftware.aeon.core.command.execution;
 
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IAdapter;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import com.ultimatesoftware.aeon.core.testabstraction.product.AeonTestExecution;
 import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
 
-import java.awt.*;
+import java.time.Duration;
 
 /**
  * Provides access to data required for automation.
@@ -32,6 +33,28 @@ public class AutomationInfo {
         AeonTestExecution.startUp(configuration);
     }
 
+    private AutomationInfo(AutomationInfo source, Duration commandTimeout) {
+        this.driver = source.driver;
+        this.adapter = source.adapter;
+        this.configuration = source.configuration;
+        this.commandExecutionFacade = new TimeoutCommandExecutionFacade(source, commandTimeout);
+    }
+
+    /**
+     * Gets a view of this automation info whose commands are retried for a timeout of their own instead of the
+     * configured timeout. Commands still run through the facade and delegate runners of this automation info.
+     *
+     * @param commandTimeout How long commands are retried.
+     * @return The automation info with the command timeout.
+     */
+    public AutomationInfo withCommandTimeout(Duration commandTimeout) {
+        if (commandTimeout == null || commandTimeout.isNegative()) {
+            throw new IllegalArgumentException("commandTimeout");
+        }
+
+        return new AutomationInfo(this, commandTimeout);
+    }
+
     /**
      * Gets the {@link ICommandExecutionFacade }.
      *
@@ -106,7 +129,7 @@ public class AutomationInfo {
      *
      * @param screenshot The screenshot that was taken.
      */
-    public void screenshotTaken(Image screenshot) {
+    public void screenshotTaken(Screenshot screenshot) {
         AeonTestExecution.executionEvent("screenshotTaken", screenshot);
     }
 }
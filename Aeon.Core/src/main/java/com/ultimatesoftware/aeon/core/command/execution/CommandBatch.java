@@ -0,0 +1,146 @@
+package com.ultimatesoftware.aeon.core.command.execution;
+
+import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
+import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithReturn;
+import com.ultimatesoftware.aeon.core.command.execution.commands.interfaces.ICommand;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A sequence of commands that is executed as a single command, such as filling all fields of a form.
+ * <p>
+ * The steps share one timeout. When a step fails, the batch is retried from that step on, so steps that
+ * already succeeded are not executed again.
+ */
+public class CommandBatch {
+
+    private static Logger log = LoggerFactory.getLogger(CommandBatch.class);
+
+    private final List<Function<IDriver, Object>> steps = new ArrayList<>();
+    private final List<ICommand<?>> commands = new ArrayList<>();
+    private final List<Boolean> readOnlySteps = new ArrayList<>();
+
+    /**
+     * Adds a command to the batch.
+     *
+     * @param command The command.
+     * @return This batch.
+     */
+    public CommandBatch add(Command command) {
+        if (command == null) {
+            throw new IllegalArgumentException("command");
+        }
+
+        Consumer<IDriver> delegate = command.getCommandDelegate();
+        return addStep(command, driver -> {
+            delegate.accept(driver);
+            return null;
+        }, command.isReadOnly());
+    }
+
+    /**
+     * Adds a command with a return value to the batch.
+     *
+     * @param command The command.
+     * @return This batch.
+     */
+    public CommandBatch add(CommandWithReturn command) {
+        if (command == null) {
+            throw new IllegalArgumentException("command");
+        }
+
+        return addStep(command, command.getCommandDelegate(), command.isReadOnly());
+    }
+
+    /**
+     * Gets the commands of the batch, in the order they are executed.
+     *
+     * @return The {@link Command} and {@link CommandWithReturn} steps.
+     */
+    public List<ICommand<?>> getCommands() {
+        return Collections.unmodifiableList(commands);
+    }
+
+    /**
+     * Gets the number of steps in the batch.
+     *
+     * @return The number of steps.
+     */
+    public int size() {
+        return steps.size();
+    }
+
+    /**
+     * Gets whether all steps of the batch only read state.
+     *
+     * @return True if every step is read-only.
+     */
+    public boolean isReadOnly() {
+        return !readOnlySteps.contains(false);
+    }
+
+    /**
+     * Gets the delegate that executes the batch.
+     *
+     * @return A delegate that returns the result of every step, null for steps without a return value.
+     */
+    public Function<IDriver, Object> getCommandDelegate() {
+        return getCommandDelegate(driver -> {
+        });
+    }
+
+    /**
+     * Gets the delegate that executes the batch.
+     * <p>
+     * Every call returns a new delegate that keeps track of the steps it has completed, so that a retry of the
+     * delegate continues with the step that failed.
+     *
+     * @param afterLastMutatingStep Called once, after the last step that is not read-only.
+     * @return A delegate that returns the result of every step, null for steps without a return value.
+     */
+    public Function<IDriver, Object> getCommandDelegate(Consumer<IDriver> afterLastMutatingStep) {
+        int lastMutatingStep = readOnlySteps.lastIndexOf(false);
+        List<Object> results = new ArrayList<>(steps.size());
+        return driver -> {
+            while (results.size() < steps.size()) {
+                int step = results.size();
+                try {
+                    results.add(steps.get(step).apply(driver));
+                } catch (RuntimeException e) {
+                    log.debug("Step {} of {} failed: {}", step + 1, steps.size(), e.getMessage());
+                    throw e;
+                }
+
+                if (step == lastMutatingStep) {
+                    afterLastMutatingStep.accept(driver);
+                }
+            }
+
+            return Collections.unmodifiableList(new ArrayList<>(results));
+        };
+    }
+
+    /**
+     * Gets the results of the batch from the return value of one of its delegates.
+     *
+     * @param delegateResult The return value of the delegate.
+     * @return The return value of every step, or an empty list if the delegate did not return any.
+     */
+    static List<Object> getResults(Object delegateResult) {
+        return delegateResult instanceof List ? Collections.unmodifiableList((List<?>) delegateResult) : Collections.emptyList();
+    }
+
+    private CommandBatch addStep(ICommand<?> command, Function<IDriver, Object> delegate, boolean readOnly) {
+        commands.add(command);
+        steps.add(delegate);
+        readOnlySteps.add(readOnly);
+        return this;
+    }
+}
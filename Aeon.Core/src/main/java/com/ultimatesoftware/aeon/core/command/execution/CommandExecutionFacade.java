@@ -2,8 +2,12 @@ package com.ultimatesoftware.aeon.core.command.execution;
 
 import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
 import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithReturn;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunner;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunnerFactory;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * The facade for the Command Execution layer.
  */
@@ -27,11 +31,28 @@ public final class CommandExecutionFacade implements ICommandExecutionFacade {
      * @param command        The command to execute.
      */
     public void execute(AutomationInfo automationInfo, Command command) {
+        execute(automationInfo, command, null);
+    }
+
+    /**
+     * Executes a command, retrying it for a timeout of its own instead of the configured timeout.
+     *
+     * @param automationInfo The automation info.
+     * @param command        The command to execute.
+     * @param timeout        How long the command is retried, or null for the configured timeout.
+     */
+    @Override
+    public void execute(AutomationInfo automationInfo, Command command, Duration timeout) {
         if (command == null) {
             throw new IllegalArgumentException("command");
         }
 
-        delegateRunnerFactory.createInstance(automationInfo).execute(command.getCommandDelegate());
+        IDelegateRunner delegateRunner = delegateRunnerFactory.createInstance(automationInfo);
+        if (timeout == null) {
+            delegateRunner.execute(command.getCommandDelegate(), command.isReadOnly());
+        } else {
+            delegateRunner.execute(command.getCommandDelegate(), command.isReadOnly(), timeout);
+        }
     }
 
     /**
@@ -42,10 +63,44 @@ public final class CommandExecutionFacade implements ICommandExecutionFacade {
      * @return The return value of the command.
      */
     public Object execute(AutomationInfo automationInfo, CommandWithReturn command) {
+        return execute(automationInfo, command, null);
+    }
+
+    /**
+     * Executes a command, retrying it for a timeout of its own instead of the configured timeout.
+     *
+     * @param automationInfo The automation info.
+     * @param command        The command to execute.
+     * @param timeout        How long the command is retried, or null for the configured timeout.
+     * @return The return value of the command.
+     */
+    @Override
+    public Object execute(AutomationInfo automationInfo, CommandWithReturn command, Duration timeout) {
         if (command == null) {
             throw new IllegalArgumentException("command");
         }
 
-        return delegateRunnerFactory.createInstance(automationInfo).execute(command.getCommandDelegate());
+        IDelegateRunner delegateRunner = delegateRunnerFactory.createInstance(automationInfo);
+        if (timeout == null) {
+            return delegateRunner.execute(command.getCommandDelegate(), command.isReadOnly());
+        }
+
+        return delegateRunner.execute(command.getCommandDelegate(), command.isReadOnly(), timeout);
+    }
+
+    /**
+     * Executes a batch of commands as a single command.
+     *
+     * @param automationInfo The automation info.
+     * @param batch          The commands to execute.
+     * @return The return value of every command, null for commands without a return value.
+     */
+    @Override
+    public List<Object> execute(AutomationInfo automationInfo, CommandBatch batch) {
+        if (batch == null) {
+            throw new IllegalArgumentException("batch");
+        }
+
+        return CommandBatch.getResults(delegateRunnerFactory.createInstance(automationInfo).execute(batch.getCommandDelegate(), batch.isReadOnly()));
     }
 }
@@ -2,6 +2,12 @@ package com.ultimatesoftware.aeon.core.command.execution;
 
 import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
 import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithReturn;
+import com.ultimatesoftware.aeon.core.command.execution.commands.interfaces.ICommand;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * The facade for the Command Execution layer.
@@ -24,4 +30,54 @@ public interface ICommandExecutionFacade {
      * @return The return value of the command.
      */
     Object execute(AutomationInfo automationInfo, CommandWithReturn command);
+
+    /**
+     * Executes a command, retrying it for a timeout of its own instead of the configured timeout.
+     *
+     * @param automationInfo The automation info.
+     * @param command        The command to execute.
+     * @param timeout        How long the command is retried, or null for the configured timeout.
+     */
+    default void execute(AutomationInfo automationInfo, Command command, Duration timeout) {
+        execute(automationInfo, command);
+    }
+
+    /**
+     * Executes a command, retrying it for a timeout of its own instead of the configured timeout.
+     *
+     * @param automationInfo The automation info.
+     * @param command        The command to execute.
+     * @param timeout        How long the command is retried, or null for the configured timeout.
+     * @return The return value of the command.
+     */
+    default Object execute(AutomationInfo automationInfo, CommandWithReturn command, Duration timeout) {
+        return execute(automationInfo, command);
+    }
+
+    /**
+     * Executes a batch of commands as a single command.
+     * <p>
+     * By default the commands are executed one by one, each with a timeout of its own.
+     *
+     * @param automationInfo The automation info.
+     * @param batch          The commands to execute.
+     * @return The return value of every command, null for commands without a return value.
+     */
+    default List<Object> execute(AutomationInfo automationInfo, CommandBatch batch) {
+        if (batch == null) {
+            throw new IllegalArgumentException("batch");
+        }
+
+        List<Object> results = new ArrayList<>(batch.size());
+        for (ICommand<?> command : batch.getCommands()) {
+            if (command instanceof Command) {
+                execute(automationInfo, (Command) command);
+                results.add(null);
+            } else {
+                results.add(execute(automationInfo, (CommandWithReturn) command));
+            }
+        }
+
+        return Collections.unmodifiableList(results);
+    }
 }
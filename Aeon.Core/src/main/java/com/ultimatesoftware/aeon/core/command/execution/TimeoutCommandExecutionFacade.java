@@ -0,0 +1,54 @@
+package com.ultimatesoftware.aeon.core.command.execution;
+
+import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
+import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithReturn;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Executes commands through the facade of another {@link AutomationInfo} with a timeout of their own.
+ * <p>
+ * Commands are executed with the original automation info, so that they share its delegate runners and their state.
+ */
+class TimeoutCommandExecutionFacade implements ICommandExecutionFacade {
+
+    private final AutomationInfo source;
+    private final Duration timeout;
+
+    /**
+     * Initializes a new instance of the {@link TimeoutCommandExecutionFacade} class.
+     *
+     * @param source  The automation info whose facade executes the commands.
+     * @param timeout How long commands are retried.
+     */
+    TimeoutCommandExecutionFacade(AutomationInfo source, Duration timeout) {
+        this.source = source;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void execute(AutomationInfo automationInfo, Command command) {
+        source.getCommandExecutionFacade().execute(source, command, timeout);
+    }
+
+    @Override
+    public Object execute(AutomationInfo automationInfo, CommandWithReturn command) {
+        return source.getCommandExecutionFacade().execute(source, command, timeout);
+    }
+
+    @Override
+    public void execute(AutomationInfo automationInfo, Command command, Duration timeout) {
+        source.getCommandExecutionFacade().execute(source, command, timeout == null ? this.timeout : timeout);
+    }
+
+    @Override
+    public Object execute(AutomationInfo automationInfo, CommandWithReturn command, Duration timeout) {
+        return source.getCommandExecutionFacade().execute(source, command, timeout == null ? this.timeout : timeout);
+    }
+
+    @Override
+    public List<Object> execute(AutomationInfo automationInfo, CommandBatch batch) {
+        return source.getCommandExecutionFacade().execute(source, batch);
+    }
+}
@@ -14,4 +14,14 @@ public interface ICommand<T> {
      * @return A delegate.
      */
     T getCommandDelegate();
+
+    /**
+     * Indicates whether the command only reads state, such as assertions and getters, and therefore cannot
+     * change the application under test.
+     *
+     * @return True if the command is read-only, false otherwise.
+     */
+    default boolean isReadOnly() {
+        return false;
+    }
 }
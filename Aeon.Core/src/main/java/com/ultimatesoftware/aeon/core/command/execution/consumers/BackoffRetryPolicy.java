@@ -0,0 +1,180 @@
+package com.ultimatesoftware.aeon.core.command.execution.consumers;
+
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IRetryPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy with exponential backoff, jitter and a capped interval.
+ * <p>
+ * The delay can be customized per exception class. Exceptions are matched by their simple class name,
+ * walking up the class hierarchy, so that both Aeon and driver specific exceptions can be configured
+ * without a compile time dependency on the driver.
+ */
+public class BackoffRetryPolicy implements IRetryPolicy {
+
+    /**
+     * The way a failed attempt is retried.
+     */
+    public enum RetryMode {
+
+        /**
+         * Retry without waiting, falls back to backoff after {@link #IMMEDIATE_RETRY_LIMIT} attempts.
+         */
+        IMMEDIATE,
+
+        /**
+         * Always wait the initial interval.
+         */
+        FIXED,
+
+        /**
+         * Wait an exponentially growing interval.
+         */
+        BACKOFF
+    }
+
+    /**
+     * The delay after the first failed attempt if the configuration does not provide one.
+     */
+    public static final Duration DEFAULT_INITIAL_INTERVAL = Duration.ofMillis(50);
+
+    /**
+     * The maximum delay between two attempts if the configuration does not provide one.
+     */
+    public static final Duration DEFAULT_MAX_INTERVAL = Duration.ofMillis(500);
+
+    /**
+     * The factor by which the delay grows if the configuration does not provide one.
+     */
+    public static final double DEFAULT_MULTIPLIER = 1.5;
+
+    /**
+     * The relative amount of randomness applied to each delay if the configuration does not provide one.
+     */
+    public static final double DEFAULT_JITTER = 0.2;
+
+    static final int IMMEDIATE_RETRY_LIMIT = 3;
+
+    private static Logger log = LoggerFactory.getLogger(BackoffRetryPolicy.class);
+
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final double multiplier;
+    private final double jitter;
+    private final Map<String, RetryMode> exceptionPolicies;
+
+    /**
+     * Initializes a new instance of the {@link BackoffRetryPolicy} class.
+     *
+     * @param initialInterval   The delay after the first failed attempt.
+     * @param maxInterval       The maximum delay between two attempts.
+     * @param multiplier        The factor by which the delay grows after each failed attempt.
+     * @param jitter            The relative amount of randomness applied to each delay, between 0 and 1.
+     * @param exceptionPolicies The retry mode per simple exception class name.
+     */
+    public BackoffRetryPolicy(Duration initialInterval, Duration maxInterval, double multiplier, double jitter,
+                              Map<String, RetryMode> exceptionPolicies) {
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval.compareTo(initialInterval) < 0 ? initialInterval : maxInterval;
+        this.multiplier = Math.max(1, multiplier);
+        this.jitter = Math.min(1, Math.max(0, jitter));
+        this.exceptionPolicies = Collections.unmodifiableMap(new HashMap<>(exceptionPolicies));
+    }
+
+    /**
+     * Creates a policy that always waits the same interval, matching the behavior of a plain polling loop.
+     *
+     * @param interval The interval between two attempts.
+     * @return A new fixed interval retry policy.
+     */
+    public static BackoffRetryPolicy fixed(Duration interval) {
+        return new BackoffRetryPolicy(interval, interval, 1, 0, Collections.emptyMap());
+    }
+
+    /**
+     * Parses exception policies of the form {@code StaleElementReferenceException=immediate,NoSuchElementException=backoff}.
+     * Malformed entries are logged and ignored.
+     *
+     * @param value The comma separated list of policies, may be null.
+     * @return The retry mode per simple exception class name.
+     */
+    public static Map<String, RetryMode> parseExceptionPolicies(String value) {
+        Map<String, RetryMode> policies = new HashMap<>();
+        if (value == null || value.trim().isEmpty()) {
+            return policies;
+        }
+
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2 || parts[0].trim().isEmpty()) {
+                log.warn("Ignoring malformed retry policy '{}'.", entry);
+                continue;
+            }
+
+            try {
+                policies.put(parts[0].trim(), RetryMode.valueOf(parts[1].trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring unknown retry mode '{}' for {}.", parts[1].trim(), parts[0].trim());
+            }
+        }
+
+        return policies;
+    }
+
+    @Override
+    public Duration getRetryDelay(int attempt, RuntimeException exception) {
+        switch (getRetryMode(exception)) {
+            case IMMEDIATE:
+                if (attempt <= IMMEDIATE_RETRY_LIMIT) {
+                    return Duration.ZERO;
+                }
+                return applyJitter(getBackoffMillis(attempt - IMMEDIATE_RETRY_LIMIT));
+            case FIXED:
+                return applyJitter(initialInterval.toMillis());
+            case BACKOFF:
+            default:
+                return applyJitter(getBackoffMillis(attempt));
+        }
+    }
+
+    /**
+     * Gets the retry mode for an exception, falling back to {@link RetryMode#BACKOFF}.
+     *
+     * @param exception The exception thrown by the last attempt.
+     * @return The configured retry mode.
+     */
+    RetryMode getRetryMode(RuntimeException exception) {
+        if (exception != null) {
+            for (Class<?> type = exception.getClass(); type != null; type = type.getSuperclass()) {
+                RetryMode mode = exceptionPolicies.get(type.getSimpleName());
+                if (mode != null) {
+                    return mode;
+                }
+            }
+        }
+
+        return RetryMode.BACKOFF;
+    }
+
+    private long getBackoffMillis(int attempt) {
+        double millis = initialInterval.toMillis() * Math.pow(multiplier, Math.max(0, attempt - 1));
+        return (long) Math.min(millis, maxInterval.toMillis());
+    }
+
+    private Duration applyJitter(long millis) {
+        if (jitter == 0 || millis == 0) {
+            return Duration.ofMillis(millis);
+        }
+
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Duration.ofMillis(Math.min((long) (millis * factor), maxInterval.toMillis()));
+    }
+}
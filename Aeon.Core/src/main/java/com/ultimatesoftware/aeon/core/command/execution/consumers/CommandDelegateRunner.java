@@ -11,7 +11,7 @@ import java.util.function.Function;
  */
 public class CommandDelegateRunner implements IDelegateRunner {
 
-    private IDriver driver;
+    private final IDriver driver;
 
     /**
      * Constructor for Command Delegate Runner, instantiated with a driver.
@@ -4,10 +4,14 @@ import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDe
 
 /**
  * Abstract class for Delegate Runner.
+ * <p>
+ * A chain is built for one session and reused by its commands, which run one after another. Implementations are
+ * not thread-safe: a {@link ThrottledDelegateRunner} remembers the previous command, so a chain must not be shared
+ * between sessions or run by two threads at once.
  */
 abstract class DelegateRunner implements IDelegateRunner {
 
-    IDelegateRunner successor;
+    final IDelegateRunner successor;
 
     /**
      * Constructor for Delegate Runner class.
@@ -3,17 +3,30 @@ package com.ultimatesoftware.aeon.core.command.execution.consumers;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunner;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunnerFactory;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IExceptionHandlerFactory;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IRetryPolicy;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 
 import java.time.Duration;
 
 /**
  * The Web delegate runner factory.
+ * <p>
+ * The chain is built once per {@link AutomationInfo} and shared by every command until the timeout or throttle
+ * settings change. Sharing it is deliberate: the {@link ThrottledDelegateRunner} at its head remembers when the
+ * previous command ended, which the interval throttle mode needs across commands. Rebuilding the chain resets that
+ * state, so the first command after a settings change is not throttled. As the chain holds that state, a factory
+ * belongs to one session and is not shared between threads that execute commands at the same time.
  */
 public class DelegateRunnerFactory implements IDelegateRunnerFactory {
 
-    private Duration defaultTimeout;
-    private Duration throttleFactor;
+    private final IExceptionHandlerFactory exceptionHandlerFactory = new ExceptionHandlerFactory();
+    private final IRetryPolicy retryPolicy;
+    private final ThrottledDelegateRunner.ThrottleMode throttleMode;
+    private final Duration readOnlyThrottleFactor;
+    private volatile Duration defaultTimeout;
+    private volatile Duration throttleFactor;
+    private volatile CachedChain cachedChain;
 
     /**
      * Initializes a new instance of the {@link DelegateRunnerFactory} class.
@@ -22,23 +35,123 @@ public class DelegateRunnerFactory implements IDelegateRunnerFactory {
      * @param defaultTimeout The default timeout.
      */
     public DelegateRunnerFactory(Duration throttleFactor, Duration defaultTimeout) {
+        this(throttleFactor, defaultTimeout, null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link DelegateRunnerFactory} class.
+     *
+     * @param throttleFactor The throttle factor.
+     * @param defaultTimeout The default timeout.
+     * @param retryPolicy    The policy deciding how long to wait between attempts, or null for the fixed polling interval.
+     */
+    public DelegateRunnerFactory(Duration throttleFactor, Duration defaultTimeout, IRetryPolicy retryPolicy) {
+        this(throttleFactor, defaultTimeout, retryPolicy, ThrottledDelegateRunner.ThrottleMode.FIXED, throttleFactor);
+    }
+
+    /**
+     * Initializes a new instance of the {@link DelegateRunnerFactory} class.
+     *
+     * @param throttleFactor         The throttle factor for commands that may change the application.
+     * @param defaultTimeout         The default timeout.
+     * @param retryPolicy            The policy deciding how long to wait between attempts, or null for the fixed polling interval.
+     * @param throttleMode           The way commands are throttled.
+     * @param readOnlyThrottleFactor The throttle factor between two consecutive read-only commands.
+     */
+    public DelegateRunnerFactory(Duration throttleFactor, Duration defaultTimeout, IRetryPolicy retryPolicy,
+                                 ThrottledDelegateRunner.ThrottleMode throttleMode, Duration readOnlyThrottleFactor) {
         this.throttleFactor = throttleFactor;
         this.defaultTimeout = defaultTimeout;
+        this.retryPolicy = retryPolicy;
+        this.throttleMode = throttleMode;
+        this.readOnlyThrottleFactor = readOnlyThrottleFactor;
+    }
+
+    /**
+     * Gets the default timeout.
+     *
+     * @return The default timeout.
+     */
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Sets the default timeout. The delegate runner chain is rebuilt on the next command.
+     *
+     * @param defaultTimeout The new default timeout.
+     */
+    public void setDefaultTimeout(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Gets the throttle factor.
+     *
+     * @return The throttle factor.
+     */
+    public Duration getThrottleFactor() {
+        return throttleFactor;
     }
 
     /**
-     * Creates an instance of the {@link IDelegateRunner} class which is used to run delegates.
+     * Sets the throttle factor. The delegate runner chain is rebuilt on the next command.
+     *
+     * @param throttleFactor The new throttle factor.
+     */
+    public void setThrottleFactor(Duration throttleFactor) {
+        this.throttleFactor = throttleFactor;
+    }
+
+    /**
+     * Gets the {@link IDelegateRunner} chain for the given automation info, building it on first use.
      *
      * @param automationInfo The automation Info.
-     * @return a new instance of throttled delegate runner.
+     * @return the throttled delegate runner at the head of the chain.
      */
     public final IDelegateRunner createInstance(AutomationInfo automationInfo) {
+        Duration timeout = defaultTimeout;
+        Duration throttle = throttleFactor;
+        CachedChain chain = cachedChain;
+        if (chain == null || !chain.isFor(automationInfo, timeout, throttle)) {
+            chain = new CachedChain(automationInfo, timeout, throttle, buildChain(automationInfo, timeout, throttle));
+            cachedChain = chain;
+        }
+
+        return chain.delegateRunner;
+    }
+
+    private IDelegateRunner buildChain(AutomationInfo automationInfo, Duration timeout, Duration throttle) {
         IDriver driver = automationInfo.getDriver();
 
         CommandDelegateRunner commandDelegateRunner = new CommandDelegateRunner(driver);
-        TimeoutDelegateRunner timeoutDelegateRunner = new TimeoutDelegateRunner(commandDelegateRunner, driver, defaultTimeout, automationInfo);
-        ExceptionHandlingDelegateRunner exceptionHandlingDelegateRunner = new ExceptionHandlingDelegateRunner(timeoutDelegateRunner, new ExceptionHandlerFactory());
+        TimeoutDelegateRunner timeoutDelegateRunner = retryPolicy == null
+                ? new TimeoutDelegateRunner(commandDelegateRunner, driver, timeout, automationInfo)
+                : new TimeoutDelegateRunner(commandDelegateRunner, driver, timeout, automationInfo, retryPolicy);
+        ExceptionHandlingDelegateRunner exceptionHandlingDelegateRunner = new ExceptionHandlingDelegateRunner(timeoutDelegateRunner, exceptionHandlerFactory);
+
+        return new ThrottledDelegateRunner(exceptionHandlingDelegateRunner, throttleMode, throttle, readOnlyThrottleFactor);
+    }
+
+    /**
+     * Immutable record of a chain and the settings it was built with, published atomically.
+     */
+    private static final class CachedChain {
+
+        private final AutomationInfo automationInfo;
+        private final Duration timeout;
+        private final Duration throttle;
+        private final IDelegateRunner delegateRunner;
+
+        private CachedChain(AutomationInfo automationInfo, Duration timeout, Duration throttle, IDelegateRunner delegateRunner) {
+            this.automationInfo = automationInfo;
+            this.timeout = timeout;
+            this.throttle = throttle;
+            this.delegateRunner = delegateRunner;
+        }
 
-        return new ThrottledDelegateRunner(exceptionHandlingDelegateRunner, throttleFactor);
+        private boolean isFor(AutomationInfo automationInfo, Duration timeout, Duration throttle) {
+            return this.automationInfo == automationInfo && this.timeout.equals(timeout) && this.throttle.equals(throttle);
+        }
     }
 }
@@ -8,11 +8,13 @@ import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IEx
  */
 public class ExceptionHandlerFactory implements IExceptionHandlerFactory {
 
+    private static final IExceptionHandler RETHROW_EXCEPTION_HANDLER = new RethrowExceptionHandler();
+
     /**
      * Function creates a handler for the type of exception.
      *
      * @param typeOfExceptionToHandle the type of exception.
-     * @return new instance of continue at user exception handler.
+     * @return the shared rethrow exception handler.
      */
     public final IExceptionHandler createHandlerFor(java.lang.Class typeOfExceptionToHandle) {
 
@@ -38,6 +40,6 @@ public class ExceptionHandlerFactory implements IExceptionHandlerFactory {
         ////     NotSupportedException
         ////     UnexpectedTagNameException
 
-        return new RethrowExceptionHandler();
+        return RETHROW_EXCEPTION_HANDLER;
     }
 }
@@ -7,6 +7,7 @@ import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -17,7 +18,7 @@ import java.util.function.Supplier;
 public class ExceptionHandlingDelegateRunner extends DelegateRunner {
 
     private static Logger log = LoggerFactory.getLogger(ExceptionHandlingDelegateRunner.class);
-    private IExceptionHandlerFactory exceptionHandlerFactory;
+    private final IExceptionHandlerFactory exceptionHandlerFactory;
 
     /**
      * Constructor for the exception handling delegate runner.
@@ -49,6 +50,16 @@ public class ExceptionHandlingDelegateRunner extends DelegateRunner {
         return executeDelegateWithReturn(() -> successor.execute(commandDelegate));
     }
 
+    @Override
+    public void execute(Consumer<IDriver> commandDelegate, boolean readOnly, Duration timeout) {
+        executeDelegate(() -> successor.execute(commandDelegate, readOnly, timeout));
+    }
+
+    @Override
+    public Object execute(Function<IDriver, Object> commandDelegate, boolean readOnly, Duration timeout) {
+        return executeDelegateWithReturn(() -> successor.execute(commandDelegate, readOnly, timeout));
+    }
+
     private void executeDelegate(Runnable commandDelegateWrapper) {
         try {
             commandDelegateWrapper.run();
@@ -5,15 +5,41 @@ import com.ultimatesoftware.aeon.core.common.helpers.Sleep;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Class for Throttle delegate runner.
  */
 public class ThrottledDelegateRunner extends DelegateRunner {
 
-    private Duration throttleFactor;
+    /**
+     * The way commands are throttled.
+     */
+    public enum ThrottleMode {
+
+        /**
+         * Sleep the full throttle before every command.
+         */
+        FIXED,
+
+        /**
+         * Enforce a minimum interval between the end of the previous command and the start of the next one,
+         * so that time already spent idle, e.g. waiting for ajax requests, counts against the throttle.
+         */
+        INTERVAL
+    }
+
+    private final ThrottleMode throttleMode;
+    private final Duration throttleFactor;
+    private final Duration readOnlyThrottleFactor;
+
+    // Only used in interval mode. Commands of a session run sequentially, so the state is updated after each command.
+    private long lastCommandEndNanos;
+    private boolean lastCommandReadOnly;
+    private boolean hasExecuted;
 
     /**
      * The constructor for the Throttled Delegate Runner class.
@@ -21,19 +47,85 @@ public class ThrottledDelegateRunner extends DelegateRunner {
      * @param throttleFactor the duration.
      */
     public ThrottledDelegateRunner(IDelegateRunner successor, Duration throttleFactor) {
+        this(successor, ThrottleMode.FIXED, throttleFactor, throttleFactor);
+    }
+
+    /**
+     * The constructor for the Throttled Delegate Runner class.
+     * @param successor the delegate runner.
+     * @param throttleMode the way commands are throttled.
+     * @param throttleFactor the throttle for commands that may change the application.
+     * @param readOnlyThrottleFactor the throttle between two consecutive read-only commands, only used in interval mode.
+     */
+    public ThrottledDelegateRunner(IDelegateRunner successor, ThrottleMode throttleMode, Duration throttleFactor, Duration readOnlyThrottleFactor) {
         super(successor);
+        this.throttleMode = throttleMode;
         this.throttleFactor = throttleFactor;
+        this.readOnlyThrottleFactor = readOnlyThrottleFactor;
     }
 
     @Override
     public void execute(Consumer<IDriver> commandDelegate) {
-        Sleep.getInstance().wait(throttleFactor);
-        successor.execute(commandDelegate);
+        execute(commandDelegate, false);
     }
 
     @Override
     public Object execute(Function<IDriver, Object> commandDelegate) {
-        Sleep.getInstance().wait(throttleFactor);
-        return successor.execute(commandDelegate);
+        return execute(commandDelegate, false);
+    }
+
+    @Override
+    public void execute(Consumer<IDriver> commandDelegate, boolean readOnly) {
+        throttle(readOnly, () -> {
+            successor.execute(commandDelegate);
+            return null;
+        });
+    }
+
+    @Override
+    public Object execute(Function<IDriver, Object> commandDelegate, boolean readOnly) {
+        return throttle(readOnly, () -> successor.execute(commandDelegate));
+    }
+
+    @Override
+    public void execute(Consumer<IDriver> commandDelegate, boolean readOnly, Duration timeout) {
+        throttle(readOnly, () -> {
+            successor.execute(commandDelegate, readOnly, timeout);
+            return null;
+        });
+    }
+
+    @Override
+    public Object execute(Function<IDriver, Object> commandDelegate, boolean readOnly, Duration timeout) {
+        return throttle(readOnly, () -> successor.execute(commandDelegate, readOnly, timeout));
+    }
+
+    private Object throttle(boolean readOnly, Supplier<Object> commandDelegateWrapper) {
+        if (throttleMode == ThrottleMode.FIXED) {
+            Sleep.getInstance().wait(throttleFactor);
+            return commandDelegateWrapper.get();
+        }
+
+        waitForInterval(readOnly);
+        try {
+            return commandDelegateWrapper.get();
+        } finally {
+            lastCommandReadOnly = readOnly;
+            lastCommandEndNanos = System.nanoTime();
+            hasExecuted = true;
+        }
+    }
+
+    private void waitForInterval(boolean readOnly) {
+        if (!hasExecuted) {
+            return;
+        }
+
+        // A mutating command on either side of the gap requires the full throttle.
+        Duration interval = readOnly && lastCommandReadOnly ? readOnlyThrottleFactor : throttleFactor;
+        long remainingNanos = interval.toNanos() - (System.nanoTime() - lastCommandEndNanos);
+        if (remainingNanos > 0) {
+            Sleep.getInstance().wait(Duration.ofMillis(TimeUnit.NANOSECONDS.toMillis(remainingNanos) + 1));
+        }
     }
 }
@@ -2,7 +2,10 @@ package com.ultimatesoftware.aeon.core.command.execution.consumers;
 
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunner;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IRetryPolicy;
 import com.ultimatesoftware.aeon.core.common.Resources;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
+import com.ultimatesoftware.aeon.core.common.ScreenshotCodec;
 import com.ultimatesoftware.aeon.core.common.exceptions.TimeoutExpiredException;
 import com.ultimatesoftware.aeon.core.common.helpers.Sleep;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
@@ -10,7 +13,6 @@ import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.awt.*;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.function.Consumer;
@@ -22,10 +24,13 @@ import java.util.function.Supplier;
  */
 public class TimeoutDelegateRunner extends DelegateRunner {
 
+    private static final Duration DEFAULT_RETRY_INTERVAL = Duration.ofMillis(70);
+
     private static Logger log = LoggerFactory.getLogger(TimeoutDelegateRunner.class);
-    private IDriver driver;
-    private Duration timeout;
-    private AutomationInfo automationInfo;
+    private final IDriver driver;
+    private final Duration timeout;
+    private final AutomationInfo automationInfo;
+    private final IRetryPolicy retryPolicy;
 
     /**
      * Constructor for {@link TimeoutDelegateRunner} class.
@@ -36,10 +41,24 @@ public class TimeoutDelegateRunner extends DelegateRunner {
      * @param automationInfo The automation info.
      */
     public TimeoutDelegateRunner(IDelegateRunner successor, IDriver driver, Duration timeout, AutomationInfo automationInfo) {
+        this(successor, driver, timeout, automationInfo, BackoffRetryPolicy.fixed(DEFAULT_RETRY_INTERVAL));
+    }
+
+    /**
+     * Constructor for {@link TimeoutDelegateRunner} class.
+     *
+     * @param successor      the delegate runner.
+     * @param driver         the web driver.
+     * @param timeout        the duration time.
+     * @param automationInfo The automation info.
+     * @param retryPolicy    The policy deciding how long to wait between attempts.
+     */
+    public TimeoutDelegateRunner(IDelegateRunner successor, IDriver driver, Duration timeout, AutomationInfo automationInfo, IRetryPolicy retryPolicy) {
         super(successor);
         this.driver = driver;
         this.timeout = timeout;
         this.automationInfo = automationInfo;
+        this.retryPolicy = retryPolicy;
     }
 
     @Override
@@ -52,6 +71,19 @@ public class TimeoutDelegateRunner extends DelegateRunner {
         return executeDelegateWithReturn(() -> successor.execute(commandDelegate));
     }
 
+    @Override
+    public void execute(Consumer<IDriver> commandDelegate, boolean readOnly, Duration timeout) {
+        executeDelegateWithReturn(() -> {
+            successor.execute(commandDelegate);
+            return null;
+        }, timeout == null ? this.timeout : timeout);
+    }
+
+    @Override
+    public Object execute(Function<IDriver, Object> commandDelegate, boolean readOnly, Duration timeout) {
+        return executeDelegateWithReturn(() -> successor.execute(commandDelegate), timeout == null ? this.timeout : timeout);
+    }
+
     private void executeDelegate(Runnable commandDelegate) {
         executeDelegateWithReturn(() -> {
             commandDelegate.run();
@@ -60,10 +92,15 @@ public class TimeoutDelegateRunner extends DelegateRunner {
     }
 
     private Object executeDelegateWithReturn(Supplier<Object> commandDelegateWrapper) {
+        return executeDelegateWithReturn(commandDelegateWrapper, timeout);
+    }
+
+    private Object executeDelegateWithReturn(Supplier<Object> commandDelegateWrapper, Duration timeout) {
         RuntimeException lastCaughtException = null;
         int tries = 0;
 
-        LocalDateTime end = LocalDateTime.now().plus(timeout);
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime end = start.plus(timeout);
         while (LocalDateTime.now().isBefore(end)) {
             try {
                 tries++;
@@ -78,7 +115,7 @@ public class TimeoutDelegateRunner extends DelegateRunner {
             }
 
             // Wait before retrying. Excessive attempts may cause WebDriver's client to lose connection with the server.
-            Sleep.getInstance().waitInternal();
+            waitBeforeRetry(tries, lastCaughtException, end);
         }
 
         RuntimeException ex = new TimeoutExpiredException(
@@ -91,9 +128,9 @@ public class TimeoutDelegateRunner extends DelegateRunner {
             ex = lastCaughtException;
         }
 
-        Image screenshot = null;
+        Screenshot screenshot = null;
         try {
-            screenshot = driver.getScreenshot();
+            screenshot = driver.getFailureScreenshot(start);
 
             automationInfo.screenshotTaken(screenshot);
         } catch (RuntimeException e) {
@@ -103,11 +140,27 @@ public class TimeoutDelegateRunner extends DelegateRunner {
         if (screenshot == null) {
             log.error(ex.getMessage(), lastCaughtException);
         } else {
-            log.error(ex.getMessage(), screenshot, lastCaughtException);
+            ScreenshotCodec codec = ScreenshotCodec.ORIGINAL
+                    .withConfiguration(automationInfo.getConfiguration(), "aeon")
+                    .withConfiguration(automationInfo.getConfiguration(), "aeon.log");
+            log.error(ex.getMessage(), codec.encode(screenshot).getBytes(), lastCaughtException);
         }
         if (automationInfo.getConfiguration().getBoolean(Configuration.Keys.REPORTING, true)) {
             automationInfo.testFailed(ex.getMessage(), ex);
         }
         throw ex;
     }
+
+    private void waitBeforeRetry(int tries, RuntimeException lastCaughtException, LocalDateTime end) {
+        Duration delay = retryPolicy.getRetryDelay(tries, lastCaughtException);
+        Duration remaining = Duration.between(LocalDateTime.now(), end);
+        if (delay.compareTo(remaining) > 0) {
+            delay = remaining;
+        }
+
+        if (!delay.isNegative() && !delay.isZero()) {
+            log.trace(Resources.getString("TimWtr_Retry_Trace"), delay.toMillis(), tries + 1);
+            Sleep.getInstance().wait(delay);
+        }
+    }
 }
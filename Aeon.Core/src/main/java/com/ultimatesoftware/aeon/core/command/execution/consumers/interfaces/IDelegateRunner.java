@@ -2,6 +2,7 @@ package com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces;
 
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -24,4 +25,48 @@ public interface IDelegateRunner {
      * @return The return value.
      */
     Object execute(Function<IDriver, Object> commandDelegate);
+
+    /**
+     * Executes a command, passing on whether it is read-only.
+     *
+     * @param commandDelegate A command delegate.
+     * @param readOnly        Whether the command only reads state.
+     */
+    default void execute(Consumer<IDriver> commandDelegate, boolean readOnly) {
+        execute(commandDelegate);
+    }
+
+    /**
+     * Executes a command with return value, passing on whether it is read-only.
+     *
+     * @param commandDelegate A command delegate with return value.
+     * @param readOnly        Whether the command only reads state.
+     * @return The return value.
+     */
+    default Object execute(Function<IDriver, Object> commandDelegate, boolean readOnly) {
+        return execute(commandDelegate);
+    }
+
+    /**
+     * Executes a command with a timeout of its own.
+     *
+     * @param commandDelegate A command delegate.
+     * @param readOnly        Whether the command only reads state.
+     * @param timeout         How long the command is retried, or null for the default timeout.
+     */
+    default void execute(Consumer<IDriver> commandDelegate, boolean readOnly, Duration timeout) {
+        execute(commandDelegate, readOnly);
+    }
+
+    /**
+     * Executes a command with return value and a timeout of its own.
+     *
+     * @param commandDelegate A command delegate with return value.
+     * @param readOnly        Whether the command only reads state.
+     * @param timeout         How long the command is retried, or null for the default timeout.
+     * @return The return value.
+     */
+    default Object execute(Function<IDriver, Object> commandDelegate, boolean readOnly, Duration timeout) {
+        return execute(commandDelegate, readOnly);
+    }
 }
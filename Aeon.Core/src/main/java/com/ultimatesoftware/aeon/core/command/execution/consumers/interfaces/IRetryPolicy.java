@@ -0,0 +1,18 @@
+package com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces;
+
+import java.time.Duration;
+
+/**
+ * A policy that decides how long to wait before retrying a failed command.
+ */
+public interface IRetryPolicy {
+
+    /**
+     * Gets the delay to wait before the next attempt.
+     *
+     * @param attempt   The number of attempts that have failed so far, starting at 1.
+     * @param exception The exception thrown by the last attempt.
+     * @return The delay before the next attempt, never null.
+     */
+    Duration getRetryDelay(int attempt, RuntimeException exception);
+}
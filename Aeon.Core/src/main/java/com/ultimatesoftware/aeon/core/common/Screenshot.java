@@ -0,0 +1,171 @@
+package com.ultimatesoftware.aeon.core.common;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.RenderedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+/**
+ * A screenshot in the encoding it was taken in.
+ * <p>
+ * The encoded bytes are kept as they are, so that consumers can report the screenshot without decoding and
+ * encoding it again. The Base64 encoding and the decoded image are computed on first use.
+ */
+public final class Screenshot {
+
+    /**
+     * The MIME type of PNG screenshots.
+     */
+    public static final String PNG = "image/png";
+
+    private final byte[] bytes;
+    private final String mimeType;
+    private String base64;
+    private BufferedImage image;
+
+    /**
+     * Initializes a new instance of the {@link Screenshot} class with PNG bytes.
+     *
+     * @param bytes The PNG encoded screenshot.
+     */
+    public Screenshot(byte[] bytes) {
+        this(bytes, PNG);
+    }
+
+    /**
+     * Initializes a new instance of the {@link Screenshot} class.
+     *
+     * @param bytes    The encoded screenshot.
+     * @param mimeType The MIME type of the encoding.
+     */
+    public Screenshot(byte[] bytes, String mimeType) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("bytes");
+        }
+
+        if (mimeType == null) {
+            throw new IllegalArgumentException("mimeType");
+        }
+
+        this.bytes = bytes;
+        this.mimeType = mimeType;
+    }
+
+    /**
+     * Creates a PNG screenshot from an image.
+     *
+     * @param image The image.
+     * @return The screenshot.
+     */
+    public static Screenshot fromImage(RenderedImage image) {
+        if (image == null) {
+            throw new IllegalArgumentException("image");
+        }
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new Screenshot(stream.toByteArray());
+    }
+
+    /**
+     * Gets the encoded screenshot. The returned array is shared and must not be modified.
+     *
+     * @return The encoded bytes.
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets the MIME type of the encoding.
+     *
+     * @return The MIME type, such as {@link #PNG}.
+     */
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * Gets the size of the encoded screenshot.
+     *
+     * @return The number of encoded bytes.
+     */
+    public int getSize() {
+        return bytes.length;
+    }
+
+    /**
+     * Gets the Base64 encoding of the encoded screenshot.
+     *
+     * @return The Base64 string.
+     */
+    public synchronized String toBase64() {
+        if (base64 == null) {
+            base64 = Base64.getEncoder().encodeToString(bytes);
+        }
+
+        return base64;
+    }
+
+    /**
+     * Gets a data URI of the screenshot, to embed it in HTML reports.
+     *
+     * @return The data URI.
+     */
+    public String toDataUri() {
+        return "data:" + mimeType + ";base64," + toBase64();
+    }
+
+    /**
+     * Crops the screenshot to a region, in PNG.
+     *
+     * @param x      The left edge of the region in pixels.
+     * @param y      The top edge of the region in pixels.
+     * @param width  The width of the region in pixels.
+     * @param height The height of the region in pixels.
+     * @return The cropped screenshot, or this screenshot if the region covers all of it or none of it.
+     */
+    public Screenshot crop(int x, int y, int width, int height) {
+        BufferedImage source = getImage();
+        if (source == null) {
+            return this;
+        }
+
+        int left = Math.max(x, 0);
+        int top = Math.max(y, 0);
+        int right = Math.min(x + width, source.getWidth());
+        int bottom = Math.min(y + height, source.getHeight());
+        boolean coversAll = left == 0 && top == 0 && right == source.getWidth() && bottom == source.getHeight();
+        if (right <= left || bottom <= top || coversAll) {
+            return this;
+        }
+
+        return fromImage(source.getSubimage(left, top, right - left, bottom - top));
+    }
+
+    /**
+     * Decodes the screenshot.
+     *
+     * @return The decoded image, or null if the encoding cannot be decoded.
+     */
+    public synchronized BufferedImage getImage() {
+        if (image == null) {
+            try {
+                image = ImageIO.read(new ByteArrayInputStream(bytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return image;
+    }
+}
@@ -0,0 +1,182 @@
+package com.ultimatesoftware.aeon.core.common;
+
+import com.ultimatesoftware.aeon.core.common.interfaces.IConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+
+/**
+ * Re-encodes screenshots before they are embedded in reports and logs, to keep them small.
+ * <p>
+ * Screenshots can be scaled down to a maximum width, converted to grayscale and encoded as JPEG. When a size budget
+ * is set, screenshots that exceed it are scaled down further until they fit. The settings are read from the
+ * {@code <prefix>.screenshot.*} keys, so that each consumer can override the settings of the Aeon configuration.
+ */
+public final class ScreenshotCodec {
+
+    /**
+     * Keeps screenshots in the encoding they were taken in.
+     */
+    public static final ScreenshotCodec ORIGINAL = new ScreenshotCodec(0, 1, false, 0);
+
+    /**
+     * The MIME type of JPEG screenshots.
+     */
+    public static final String JPEG = "image/jpeg";
+
+    private static final String MAX_WIDTH = ".screenshot.max_width";
+    private static final String QUALITY = ".screenshot.quality";
+    private static final String GRAYSCALE = ".screenshot.grayscale";
+    private static final String MAX_BYTES = ".screenshot.max_bytes";
+
+    private static final double BUDGET_SCALE = 0.75;
+    private static final int MIN_WIDTH = 160;
+
+    private static Logger log = LoggerFactory.getLogger(ScreenshotCodec.class);
+
+    private final int maxWidth;
+    private final double quality;
+    private final boolean grayscale;
+    private final int maxBytes;
+
+    /**
+     * Initializes a new instance of the {@link ScreenshotCodec} class.
+     *
+     * @param maxWidth  The maximum width in pixels, or 0 to keep the width.
+     * @param quality   The JPEG quality between 0 and 1, where 0 or 1 keep the lossless PNG encoding.
+     * @param grayscale Whether screenshots are converted to grayscale.
+     * @param maxBytes  The maximum size of an encoded screenshot, or 0 for no budget.
+     */
+    public ScreenshotCodec(int maxWidth, double quality, boolean grayscale, int maxBytes) {
+        this.maxWidth = Math.max(maxWidth, 0);
+        this.quality = quality;
+        this.grayscale = grayscale;
+        this.maxBytes = Math.max(maxBytes, 0);
+    }
+
+    /**
+     * Creates a codec that overrides the settings of this codec with the settings of a configuration.
+     *
+     * @param configuration The configuration.
+     * @param prefix        The prefix of the screenshot keys, such as {@code aeon} for {@code aeon.screenshot.max_width}.
+     * @return The codec, settings missing from the configuration are taken from this codec.
+     */
+    public ScreenshotCodec withConfiguration(IConfiguration configuration, String prefix) {
+        if (configuration == null) {
+            return this;
+        }
+
+        return new ScreenshotCodec(
+                (int) configuration.getDouble(prefix + MAX_WIDTH, maxWidth),
+                configuration.getDouble(prefix + QUALITY, quality),
+                configuration.getBoolean(prefix + GRAYSCALE, grayscale),
+                (int) configuration.getDouble(prefix + MAX_BYTES, maxBytes));
+    }
+
+    /**
+     * Gets whether the codec keeps screenshots in the encoding they were taken in.
+     *
+     * @return True if screenshots are not re-encoded.
+     */
+    public boolean isOriginal() {
+        return maxWidth == 0 && isLossless() && !grayscale && maxBytes == 0;
+    }
+
+    /**
+     * Re-encodes a screenshot with the settings of this codec.
+     *
+     * @param screenshot The screenshot.
+     * @return The re-encoded screenshot, or the screenshot itself if it does not have to or cannot be re-encoded.
+     */
+    public Screenshot encode(Screenshot screenshot) {
+        if (screenshot == null || isOriginal()) {
+            return screenshot;
+        }
+
+        try {
+            return reencode(screenshot);
+        } catch (UncheckedIOException e) {
+            log.warn("Could not re-encode screenshot: {}", e.getMessage());
+            return screenshot;
+        }
+    }
+
+    private Screenshot reencode(Screenshot screenshot) {
+        boolean withinBudget = maxBytes == 0 || screenshot.getSize() <= maxBytes;
+        if (maxWidth == 0 && isLossless() && !grayscale && withinBudget) {
+            return screenshot;
+        }
+
+        BufferedImage source = screenshot.getImage();
+        if (source == null) {
+            return screenshot;
+        }
+
+        int width = maxWidth == 0 ? source.getWidth() : Math.min(maxWidth, source.getWidth());
+        Screenshot result = write(source, width);
+        if (width == source.getWidth() && result.getSize() >= screenshot.getSize() && withinBudget) {
+            // The original encoding is already smaller, as PNG is for screenshots of flat colors.
+            return screenshot;
+        }
+
+        while (maxBytes > 0 && result.getSize() > maxBytes && width > MIN_WIDTH) {
+            width = Math.max((int) (width * BUDGET_SCALE), MIN_WIDTH);
+            result = write(source, width);
+        }
+
+        return result;
+    }
+
+    private boolean isLossless() {
+        return quality <= 0 || quality >= 1;
+    }
+
+    private Screenshot write(BufferedImage source, int width) {
+        int height = Math.max((int) Math.round((double) source.getHeight() * width / source.getWidth()), 1);
+        BufferedImage image = new BufferedImage(width, height,
+                grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        if (isLossless()) {
+            return Screenshot.fromImage(image);
+        }
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            return Screenshot.fromImage(image);
+        }
+
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(stream)) {
+            ImageWriteParam parameters = writer.getDefaultWriteParam();
+            parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parameters.setCompressionQuality((float) quality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), parameters);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+
+        return new Screenshot(stream.toByteArray(), JPEG);
+    }
+}
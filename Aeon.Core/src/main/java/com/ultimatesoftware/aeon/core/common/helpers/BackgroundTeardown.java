@@ -0,0 +1,140 @@
+package com.ultimatesoftware.aeon.core.common.helpers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs teardown work, such as quitting drivers and downloading videos, in the background so that the next test
+ * does not have to wait for it.
+ * <p>
+ * The number of threads and of queued tasks is bounded. When the queue is full, a task runs on the thread that
+ * submits it, which holds the tests back until the background threads catch up. Pending tasks are drained when
+ * Aeon is done and when the JVM shuts down.
+ */
+public class BackgroundTeardown {
+
+    private static final int DEFAULT_THREADS = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 16;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(2);
+
+    private static Logger log = LoggerFactory.getLogger(BackgroundTeardown.class);
+
+    private static BackgroundTeardown instance = new BackgroundTeardown(DEFAULT_THREADS, DEFAULT_QUEUE_SIZE);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> instance.drain(SHUTDOWN_TIMEOUT), "aeon-teardown-shutdown"));
+    }
+
+    private final ThreadPoolExecutor executor;
+    private int pendingTasks;
+
+    /**
+     * Initializes a new instance of the {@link BackgroundTeardown} class.
+     *
+     * @param threads   The number of threads that run tasks.
+     * @param queueSize The number of tasks that can wait for a thread.
+     */
+    public BackgroundTeardown(int threads, int queueSize) {
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "aeon-teardown");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the BackgroundTeardown instance.
+     *
+     * @return The BackgroundTeardown instance.
+     */
+    public static BackgroundTeardown getInstance() {
+        return BackgroundTeardown.instance;
+    }
+
+    /**
+     * Sets the BackgroundTeardown instance.
+     *
+     * @param teardown The BackgroundTeardown instance.
+     */
+    public static void setInstance(BackgroundTeardown teardown) {
+        BackgroundTeardown.instance = teardown;
+    }
+
+    /**
+     * Runs a task in the background, or on the calling thread if the queue is full.
+     * <p>
+     * Exceptions thrown by the task are logged, as nobody waits for its result.
+     *
+     * @param description Describes the task in the log.
+     * @param task        The task.
+     */
+    public void execute(String description, Runnable task) {
+        synchronized (this) {
+            pendingTasks++;
+        }
+
+        executor.execute(() -> run(description, task));
+    }
+
+    /**
+     * Waits until all submitted tasks have finished.
+     *
+     * @param timeout The maximum time to wait.
+     * @return True if all tasks have finished, false if the timeout has passed first.
+     */
+    public synchronized boolean drain(Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (pendingTasks > 0) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                log.warn("{} teardown tasks did not finish within {}", pendingTasks, timeout);
+                return false;
+            }
+
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the number of tasks that have not finished yet.
+     *
+     * @return The number of pending tasks.
+     */
+    public synchronized int getPendingTasks() {
+        return pendingTasks;
+    }
+
+    private void run(String description, Runnable task) {
+        try {
+            log.trace("Running teardown task: {}", description);
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("Teardown task \"{}\" failed: {}", description, e.getMessage(), e);
+        } finally {
+            synchronized (this) {
+                pendingTasks--;
+                notifyAll();
+            }
+        }
+    }
+}
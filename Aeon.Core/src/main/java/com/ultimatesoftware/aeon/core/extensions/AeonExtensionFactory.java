@@ -11,6 +11,9 @@ import java.util.Map;
 
 /**
  * Provides the same extension instance for the same session.
+ * <p>
+ * Extensions can be created from several threads at once, for example when products are launched in the
+ * background, so creating and caching them is synchronized.
  */
 class AeonExtensionFactory extends DefaultExtensionFactory {
 
@@ -25,7 +28,7 @@ class AeonExtensionFactory extends DefaultExtensionFactory {
     }
 
     @Override
-    public Object create(Class<?> extensionClass) {
+    public synchronized Object create(Class<?> extensionClass) {
         log.debug("Creating Aeon extension for class {}", extensionClass.getName());
         String currentSessionId = sessionIdProvider.getCurrentSessionId();
         String extensionClassName = extensionClass.getName();
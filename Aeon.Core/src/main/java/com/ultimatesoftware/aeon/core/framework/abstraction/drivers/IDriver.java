@@ -1,9 +1,10 @@
 package com.ultimatesoftware.aeon.core.framework.abstraction.drivers;
 
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IAdapter;
 import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
 
-import java.awt.*;
+import java.time.LocalDateTime;
 
 /**
  * The base interface for drivers.
@@ -32,9 +33,19 @@ public interface IDriver {
     String getSource();
 
     /**
-     * Gets an {@link Image} screenshot of the focused browser window.
+     * Gets a {@link Screenshot} of the focused browser window.
      *
-     * @return The screenshot of the current window.
+     * @return The screenshot of the current window, in the encoding it was taken in.
      */
-    Image getScreenshot();
+    Screenshot getScreenshot();
+
+    /**
+     * Gets the screenshot that is reported for a command that failed.
+     *
+     * @param commandStarted When the failed command started, so that the driver can focus on what the command used.
+     * @return The screenshot, of the focused browser window unless the driver can narrow it down.
+     */
+    default Screenshot getFailureScreenshot(LocalDateTime commandStarted) {
+        return getScreenshot();
+    }
 }
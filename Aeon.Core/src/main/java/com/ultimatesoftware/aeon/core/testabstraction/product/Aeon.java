@@ -5,6 +5,7 @@ import com.ultimatesoftware.aeon.core.common.Capabilities;
 import com.ultimatesoftware.aeon.core.common.Capability;
 import com.ultimatesoftware.aeon.core.common.exceptions.AeonLaunchException;
 import com.ultimatesoftware.aeon.core.common.exceptions.AeonSinglePluginRequestedException;
+import com.ultimatesoftware.aeon.core.common.helpers.BackgroundTeardown;
 import com.ultimatesoftware.aeon.core.common.helpers.StringUtils;
 import com.ultimatesoftware.aeon.core.extensions.AeonPluginManager;
 import com.ultimatesoftware.aeon.core.extensions.DefaultSessionIdProvider;
@@ -16,17 +17,29 @@ import org.pf4j.PluginManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * Main launch class.
  **/
 public class Aeon {
 
+    private static final Duration TEARDOWN_TIMEOUT = Duration.ofMinutes(5);
+
     static Logger log = LoggerFactory.getLogger(Aeon.class);
     private static PluginManager pluginManager;
     private static ISessionIdProvider sessionIdProvider = new DefaultSessionIdProvider();
+    private static final ThreadLocal<String> callerSessionId = new ThreadLocal<>();
+    private static Executor launchExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "aeon-launch");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private Aeon() {
         // Static classes should not be instantiated.
@@ -100,6 +113,66 @@ public class Aeon {
         return launch(productClass, null);
     }
 
+    /**
+     * Launches an environment of the desired class in the background and with the provided properties.
+     * <p>
+     * The test thread can prepare test data while the browser or app is launched. Several products can be launched
+     * at the same time. The launch runs in the session of the calling thread, so that it uses the same extension
+     * instances as the test.
+     * <p>
+     * If the launch fails, the future completes exceptionally: {@link CompletableFuture#join()} throws a
+     * {@link java.util.concurrent.CompletionException} and {@link CompletableFuture#get()} an
+     * {@link java.util.concurrent.ExecutionException}, whose cause is the {@link AeonLaunchException}.
+     *
+     * @param productClass The new environment's class.
+     * @param settings     Settings to use, will override properties with the same name provided by other means.
+     * @param <T>          The launch type.
+     * @return A future of the type T launch, completed exceptionally if the launch fails.
+     */
+    public static <T extends Product> CompletableFuture<T> launchAsync(Class<T> productClass, Properties settings) {
+        String sessionId = getCurrentSessionId();
+        return CompletableFuture.supplyAsync(() -> {
+            callerSessionId.set(sessionId);
+            try {
+                return launch(productClass, settings);
+            } finally {
+                callerSessionId.remove();
+            }
+        }, launchExecutor);
+    }
+
+    /**
+     * Wraps a task, so that it runs in the session of the calling thread on whichever thread executes it.
+     * <p>
+     * Extensions and execution events used by the task then reach the same extension instances as the test.
+     *
+     * @param task The task to run in the current session.
+     * @return The wrapped task.
+     */
+    public static Runnable inCurrentSession(Runnable task) {
+        String sessionId = getCurrentSessionId();
+        return () -> {
+            callerSessionId.set(sessionId);
+            try {
+                task.run();
+            } finally {
+                callerSessionId.remove();
+            }
+        };
+    }
+
+    /**
+     * Launches an environment of the desired class in the background.
+     *
+     * @param productClass The new environment's class.
+     * @param <T>          The launch type.
+     * @return A future of the type T launch, completed exceptionally if the launch fails.
+     * @see #launchAsync(Class, Properties)
+     */
+    public static <T extends Product> CompletableFuture<T> launchAsync(Class<T> productClass) {
+        return launchAsync(productClass, null);
+    }
+
     /**
      * Returns the current version number of Aeon.
      *
@@ -169,7 +242,7 @@ public class Aeon {
      *
      * @param pluginManager The plugin manager to use.
      */
-    public static void setPluginManager(PluginManager pluginManager) {
+    public static synchronized void setPluginManager(PluginManager pluginManager) {
         Aeon.pluginManager = pluginManager;
     }
 
@@ -179,6 +252,8 @@ public class Aeon {
      * This method allows plugins do tear down and clean up.
      */
     public static void done() {
+        // Plugins clean up after the background teardown of the last tests has finished.
+        BackgroundTeardown.getInstance().drain(TEARDOWN_TIMEOUT);
         AeonTestExecution.done();
     }
 
@@ -195,6 +270,17 @@ public class Aeon {
                 "whether at least one matching adapter plugin is installed.");
     }
 
+    /**
+     * Gets the ID of the current session, which is the session of the caller while a product is launched or a task
+     * wrapped by {@link #inCurrentSession(Runnable)} runs in the background.
+     *
+     * @return The current session ID.
+     */
+    static String getCurrentSessionId() {
+        String sessionId = callerSessionId.get();
+        return sessionId != null ? sessionId : sessionIdProvider.getCurrentSessionId();
+    }
+
     /**
      * Returns a PluginManager which controls which plugins can be used.
      * <p>
@@ -202,9 +288,9 @@ public class Aeon {
      *
      * @return A plugin manager with plugins to be used.
      */
-    private static PluginManager getPluginManager() {
+    private static synchronized PluginManager getPluginManager() {
         if (pluginManager == null) {
-            pluginManager = new AeonPluginManager(sessionIdProvider);
+            pluginManager = new AeonPluginManager(Aeon::getCurrentSessionId);
 
             pluginManager.loadPlugins();
 
@@ -26,7 +26,18 @@ public class Configuration extends BaseConfiguration {
 
         TIMEOUT("aeon.timeout"),
         THROTTLE("aeon.throttle"),
-        REPORTING("aeon.implicit_reporting");
+        THROTTLE_MODE("aeon.throttle.mode"),
+        THROTTLE_READ_ONLY("aeon.throttle.read_only"),
+        REPORTING("aeon.implicit_reporting"),
+        RETRY_INITIAL_INTERVAL("aeon.retry.initial_interval"),
+        RETRY_MAX_INTERVAL("aeon.retry.max_interval"),
+        RETRY_MULTIPLIER("aeon.retry.multiplier"),
+        RETRY_JITTER("aeon.retry.jitter"),
+        RETRY_EXCEPTION_POLICIES("aeon.retry.exception_policies"),
+        SCREENSHOT_MAX_WIDTH("aeon.screenshot.max_width"),
+        SCREENSHOT_QUALITY("aeon.screenshot.quality"),
+        SCREENSHOT_GRAYSCALE("aeon.screenshot.grayscale"),
+        SCREENSHOT_MAX_BYTES("aeon.screenshot.max_bytes");
 
         private String key;
 
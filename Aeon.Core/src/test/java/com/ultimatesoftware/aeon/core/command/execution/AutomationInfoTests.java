@@ -1,5 +1,8 @@
 package com.ultimatesoftware.aeon.core.command.execution;
 
+import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
+import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithReturn;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.extensions.ITestExecutionExtension;
 import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IAdapter;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
@@ -8,16 +11,18 @@ import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.pf4j.PluginManager;
 
-import java.awt.*;
+import java.time.Duration;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -104,6 +109,39 @@ class AutomationInfoTests {
         assertEquals(automationInfoCommandExecutionFacade, this.commandExecutionFacade);
     }
 
+    @Test
+    void withCommandTimeout_executeCommand_executesWithSourceAndTimeout() {
+
+        //Arrange
+        Command command = mock(Command.class);
+        CommandWithReturn commandWithReturn = mock(CommandWithReturn.class);
+        this.automationInfo.setCommandExecutionFacade(this.commandExecutionFacade);
+
+        //Act
+        AutomationInfo timeoutAutomationInfo = this.automationInfo.withCommandTimeout(Duration.ofSeconds(2));
+        timeoutAutomationInfo.getCommandExecutionFacade().execute(timeoutAutomationInfo, command);
+        timeoutAutomationInfo.getCommandExecutionFacade().execute(timeoutAutomationInfo, commandWithReturn);
+
+        //Assert
+        assertEquals(this.driver, timeoutAutomationInfo.getDriver());
+        assertEquals(this.configuration, timeoutAutomationInfo.getConfiguration());
+        verify(this.commandExecutionFacade, times(1)).execute(this.automationInfo, command, Duration.ofSeconds(2));
+        verify(this.commandExecutionFacade, times(1)).execute(this.automationInfo, commandWithReturn, Duration.ofSeconds(2));
+        verify(this.testExecutionExtension1, times(1)).onStartUp(eq(this.configuration), any(String.class));
+    }
+
+    @Test
+    void withCommandTimeout_negativeTimeout_throwsIllegalArgumentException() {
+
+        //Arrange
+
+        //Act
+        Executable executable = () -> this.automationInfo.withCommandTimeout(Duration.ofSeconds(-1));
+
+        //Assert
+        assertThrows(IllegalArgumentException.class, executable);
+    }
+
     @Test
     void launched_whenCalled_triggersOnAfterLaunchEvent() {
 
@@ -161,7 +199,7 @@ class AutomationInfoTests {
     void screenshotTaken_isCalled_triggersOnExecutionEventEvent() {
 
         // Arrange
-        Image image = mock(Image.class);
+        Screenshot image = new Screenshot(new byte[]{1, 2, 3});
 
         // Act
         this.automationInfo.screenshotTaken(image);
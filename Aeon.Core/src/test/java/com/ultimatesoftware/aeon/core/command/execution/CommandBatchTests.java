@@ -0,0 +1,155 @@
+package com.ultimatesoftware.aeon.core.command.execution;
+
+import com.ultimatesoftware.aeon.core.command.execution.commands.Command;
+import com.ultimatesoftware.aeon.core.command.execution.commands.CommandWithReturn;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class CommandBatchTests {
+
+    @Mock
+    private Command command;
+
+    @Mock
+    private CommandWithReturn returnCommand;
+
+    @Mock
+    private Consumer<IDriver> commandDelegate;
+
+    @Mock
+    private Function<IDriver, Object> returnCommandDelegate;
+
+    @Mock
+    private Consumer<IDriver> afterMutatingStep;
+
+    @Mock
+    private IDriver driver;
+
+    private CommandBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        batch = new CommandBatch();
+    }
+
+    @Test
+    void add_NullCommand_IllegalArgumentException() {
+
+        // Arrange
+        command = null;
+
+        // Act
+        Executable executable = () -> batch.add(command);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, executable);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getCommandDelegate_commandsAdded_returnsResultOfEveryStep() {
+
+        // Arrange
+        when(command.getCommandDelegate()).thenReturn(commandDelegate);
+        when(returnCommand.getCommandDelegate()).thenReturn(returnCommandDelegate);
+        when(returnCommandDelegate.apply(driver)).thenReturn("value");
+        batch.add(command).add(returnCommand);
+
+        // Act
+        List<Object> results = (List<Object>) batch.getCommandDelegate().apply(driver);
+
+        // Assert
+        assertEquals(Arrays.asList(null, "value"), results);
+        assertEquals(Arrays.asList(command, returnCommand), batch.getCommands());
+        verify(commandDelegate, times(1)).accept(driver);
+    }
+
+    @Test
+    void getCommandDelegate_stepFailed_retryContinuesWithFailedStep() {
+
+        // Arrange
+        when(command.getCommandDelegate()).thenReturn(commandDelegate);
+        when(returnCommand.getCommandDelegate()).thenReturn(returnCommandDelegate);
+        when(returnCommandDelegate.apply(driver)).thenThrow(new IllegalStateException()).thenReturn("value");
+        batch.add(command).add(returnCommand);
+        Function<IDriver, Object> delegate = batch.getCommandDelegate();
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> delegate.apply(driver));
+        delegate.apply(driver);
+
+        // Assert
+        verify(commandDelegate, times(1)).accept(driver);
+        verify(returnCommandDelegate, times(2)).apply(driver);
+    }
+
+    @Test
+    void getCommandDelegate_mutatingStep_callsAfterMutatingStep() {
+
+        // Arrange
+        when(command.getCommandDelegate()).thenReturn(commandDelegate);
+        when(returnCommand.getCommandDelegate()).thenReturn(returnCommandDelegate);
+        when(returnCommand.isReadOnly()).thenReturn(true);
+        batch.add(command).add(returnCommand);
+
+        // Act
+        batch.getCommandDelegate(afterMutatingStep).apply(driver);
+
+        // Assert
+        verify(afterMutatingStep, times(1)).accept(driver);
+        assertFalse(batch.isReadOnly());
+        assertEquals(2, batch.size());
+    }
+
+    @Test
+    void getCommandDelegate_severalMutatingSteps_callsAfterLastMutatingStepOnce() {
+
+        // Arrange
+        when(command.getCommandDelegate()).thenReturn(commandDelegate);
+        when(returnCommand.getCommandDelegate()).thenReturn(returnCommandDelegate);
+        when(returnCommand.isReadOnly()).thenReturn(true);
+        batch.add(command).add(command).add(returnCommand);
+
+        // Act
+        batch.getCommandDelegate(afterMutatingStep).apply(driver);
+
+        // Assert
+        InOrder inOrder = inOrder(commandDelegate, afterMutatingStep, returnCommandDelegate);
+        inOrder.verify(commandDelegate, times(2)).accept(driver);
+        inOrder.verify(afterMutatingStep, times(1)).accept(driver);
+        inOrder.verify(returnCommandDelegate, times(1)).apply(driver);
+    }
+
+    @Test
+    void isReadOnly_allStepsReadOnly_returnsTrue() {
+
+        // Arrange
+        when(command.isReadOnly()).thenReturn(true);
+        when(returnCommand.isReadOnly()).thenReturn(true);
+        batch.add(command).add(returnCommand);
+
+        // Act
+        boolean readOnly = batch.isReadOnly();
+
+        // Assert
+        assertTrue(readOnly);
+    }
+}
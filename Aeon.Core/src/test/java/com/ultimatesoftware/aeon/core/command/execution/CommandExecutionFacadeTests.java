@@ -13,6 +13,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -75,7 +80,7 @@ public class CommandExecutionFacadeTests {
         executionFacade.execute(automationInfo, command);
 
         // Assert
-        verify(delegateRunnerFactory.createInstance(automationInfo), times(1)).execute(command.getCommandDelegate());
+        verify(delegateRunnerFactory.createInstance(automationInfo), times(1)).execute(command.getCommandDelegate(), command.isReadOnly());
 
     }
 
@@ -89,8 +94,55 @@ public class CommandExecutionFacadeTests {
         executionFacade.execute(automationInfo, returnCommand);
 
         // Assert
-        verify(delegateRunnerFactory.createInstance(automationInfo), times(1)).execute(refEq(returnCommand.getCommandDelegate()));
+        verify(delegateRunnerFactory.createInstance(automationInfo), times(1)).execute(refEq(returnCommand.getCommandDelegate()), eq(false));
+
+    }
+
+    @Test
+    public void execute_NullBatch_IllegalArgumentException() {
+
+        // Arrange
+        CommandBatch batch = null;
+
+        // Act
+        Executable executable = () -> executionFacade.execute(automationInfo, batch);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, executable);
+    }
+
+    @Test
+    public void execute_Batch_executesBatchWithSingleDelegateRunner() {
+
+        // Arrange
+        IDelegateRunner delegateRunner = mock(IDelegateRunner.class);
+        when(delegateRunnerFactory.createInstance(automationInfo)).thenReturn(delegateRunner);
+        when(command.isReadOnly()).thenReturn(true);
+        CommandBatch batch = new CommandBatch().add(command).add(command);
 
+        // Act
+        executionFacade.execute(automationInfo, batch);
+
+        // Assert
+        verify(delegateRunnerFactory, times(1)).createInstance(automationInfo);
+        verify(delegateRunner, times(1)).execute(any(Function.class), eq(true));
     }
 
+    @Test
+    public void defaultExecute_Batch_executesCommandsOneByOne() {
+
+        // Arrange
+        ICommandExecutionFacade facade = mock(ICommandExecutionFacade.class, CALLS_REAL_METHODS);
+        doNothing().when(facade).execute(automationInfo, command);
+        doReturn("value").when(facade).execute(automationInfo, returnCommand);
+        CommandBatch batch = new CommandBatch().add(command).add(returnCommand);
+
+        // Act
+        List<Object> results = facade.execute(automationInfo, batch);
+
+        // Assert
+        assertEquals(Arrays.asList(null, "value"), results);
+        verify(facade, times(1)).execute(automationInfo, command);
+        verify(facade, times(1)).execute(automationInfo, returnCommand);
+    }
 }
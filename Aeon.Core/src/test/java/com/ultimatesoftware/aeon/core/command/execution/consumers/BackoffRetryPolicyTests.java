@@ -0,0 +1,120 @@
+package com.ultimatesoftware.aeon.core.command.execution.consumers;
+
+import com.ultimatesoftware.aeon.core.common.exceptions.TimeoutExpiredException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackoffRetryPolicyTests {
+
+    private static class StaleElementReferenceException extends RuntimeException {
+    }
+
+    private static class ChildOfStaleElementReferenceException extends StaleElementReferenceException {
+    }
+
+    @Test
+    void getRetryDelay_backoff_growsExponentiallyUpToMaxInterval() {
+        //Arrange
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(Duration.ofMillis(100), Duration.ofMillis(500), 2, 0, Collections.emptyMap());
+
+        //Act
+        Duration first = policy.getRetryDelay(1, new RuntimeException());
+        Duration second = policy.getRetryDelay(2, new RuntimeException());
+        Duration third = policy.getRetryDelay(3, new RuntimeException());
+        Duration fourth = policy.getRetryDelay(4, new RuntimeException());
+
+        //Assert
+        assertEquals(Duration.ofMillis(100), first);
+        assertEquals(Duration.ofMillis(200), second);
+        assertEquals(Duration.ofMillis(400), third);
+        assertEquals(Duration.ofMillis(500), fourth);
+    }
+
+    @Test
+    void getRetryDelay_withJitter_staysWithinBounds() {
+        //Arrange
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(Duration.ofMillis(100), Duration.ofMillis(1000), 1, 0.5, Collections.emptyMap());
+
+        for (int i = 0; i < 100; i++) {
+            //Act
+            long delay = policy.getRetryDelay(1, new RuntimeException()).toMillis();
+
+            //Assert
+            assertTrue(delay >= 50 && delay <= 150, "Delay out of bounds: " + delay);
+        }
+    }
+
+    @Test
+    void getRetryDelay_immediateMode_retriesWithoutDelayThenBacksOff() {
+        //Arrange
+        Map<String, BackoffRetryPolicy.RetryMode> policies = new HashMap<>();
+        policies.put("StaleElementReferenceException", BackoffRetryPolicy.RetryMode.IMMEDIATE);
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(Duration.ofMillis(100), Duration.ofMillis(500), 2, 0, policies);
+
+        //Act
+        Duration immediate = policy.getRetryDelay(BackoffRetryPolicy.IMMEDIATE_RETRY_LIMIT, new ChildOfStaleElementReferenceException());
+        Duration backoff = policy.getRetryDelay(BackoffRetryPolicy.IMMEDIATE_RETRY_LIMIT + 1, new ChildOfStaleElementReferenceException());
+
+        //Assert
+        assertEquals(Duration.ZERO, immediate);
+        assertEquals(Duration.ofMillis(100), backoff);
+    }
+
+    @Test
+    void getRetryDelay_fixedMode_alwaysReturnsInitialInterval() {
+        //Arrange
+        Map<String, BackoffRetryPolicy.RetryMode> policies = new HashMap<>();
+        policies.put("TimeoutExpiredException", BackoffRetryPolicy.RetryMode.FIXED);
+        BackoffRetryPolicy policy = new BackoffRetryPolicy(Duration.ofMillis(100), Duration.ofMillis(500), 2, 0, policies);
+
+        //Act
+        Duration delay = policy.getRetryDelay(10, new TimeoutExpiredException("message", Duration.ZERO));
+
+        //Assert
+        assertEquals(Duration.ofMillis(100), delay);
+    }
+
+    @Test
+    void fixed_anyAttempt_returnsSameInterval() {
+        //Arrange
+        BackoffRetryPolicy policy = BackoffRetryPolicy.fixed(Duration.ofMillis(70));
+
+        //Act
+        Duration delay = policy.getRetryDelay(50, new RuntimeException());
+
+        //Assert
+        assertEquals(Duration.ofMillis(70), delay);
+    }
+
+    @Test
+    void parseExceptionPolicies_mixedInput_ignoresMalformedEntries() {
+        //Arrange
+        String value = "StaleElementReferenceException=immediate, NoSuchElementException = Backoff,Broken,Other=unknown";
+
+        //Act
+        Map<String, BackoffRetryPolicy.RetryMode> policies = BackoffRetryPolicy.parseExceptionPolicies(value);
+
+        //Assert
+        assertEquals(2, policies.size());
+        assertEquals(BackoffRetryPolicy.RetryMode.IMMEDIATE, policies.get("StaleElementReferenceException"));
+        assertEquals(BackoffRetryPolicy.RetryMode.BACKOFF, policies.get("NoSuchElementException"));
+    }
+
+    @Test
+    void parseExceptionPolicies_null_returnsEmptyMap() {
+        //Arrange
+
+        //Act
+        Map<String, BackoffRetryPolicy.RetryMode> policies = BackoffRetryPolicy.parseExceptionPolicies(null);
+
+        //Assert
+        assertTrue(policies.isEmpty());
+    }
+}
@@ -0,0 +1,161 @@
+package com.ultimatesoftware.aeon.core.command.execution.consumers;
+
+import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunner;
+import com.ultimatesoftware.aeon.core.common.helpers.Sleep;
+import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class DelegateRunnerFactoryTests {
+
+    private static final int COMMAND_COUNT = 100000;
+
+    private DelegateRunnerFactory delegateRunnerFactory;
+
+    @Mock
+    private AutomationInfo automationInfo;
+    @Mock
+    private AutomationInfo otherAutomationInfo;
+    @Mock
+    private IDriver driver;
+    @Mock
+    private Sleep sleep;
+
+    private Sleep originalSleep;
+
+    @BeforeEach
+    void setUp() {
+        delegateRunnerFactory = new DelegateRunnerFactory(Duration.ZERO, Duration.ofSeconds(10));
+        originalSleep = Sleep.getInstance();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Sleep.setInstance(originalSleep);
+    }
+
+    @Test
+    void createInstance_sameAutomationInfo_reusesChain() {
+        // Arrange
+        when(automationInfo.getDriver()).thenReturn(driver);
+
+        // Act
+        IDelegateRunner first = delegateRunnerFactory.createInstance(automationInfo);
+        IDelegateRunner second = delegateRunnerFactory.createInstance(automationInfo);
+
+        // Assert
+        assertTrue(first instanceof ThrottledDelegateRunner);
+        assertSame(first, second);
+        verify(automationInfo, times(1)).getDriver();
+    }
+
+    @Test
+    void createInstance_differentAutomationInfo_rebuildsChain() {
+        // Arrange
+        when(automationInfo.getDriver()).thenReturn(driver);
+        when(otherAutomationInfo.getDriver()).thenReturn(driver);
+
+        // Act
+        IDelegateRunner first = delegateRunnerFactory.createInstance(automationInfo);
+        IDelegateRunner second = delegateRunnerFactory.createInstance(otherAutomationInfo);
+
+        // Assert
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void createInstance_timeoutChanged_rebuildsChain() {
+        // Arrange
+        when(automationInfo.getDriver()).thenReturn(driver);
+        IDelegateRunner first = delegateRunnerFactory.createInstance(automationInfo);
+
+        // Act
+        delegateRunnerFactory.setDefaultTimeout(Duration.ofSeconds(20));
+        IDelegateRunner second = delegateRunnerFactory.createInstance(automationInfo);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(Duration.ofSeconds(20), delegateRunnerFactory.getDefaultTimeout());
+    }
+
+    @Test
+    void createInstance_throttleChanged_rebuildsChain() {
+        // Arrange
+        when(automationInfo.getDriver()).thenReturn(driver);
+        IDelegateRunner first = delegateRunnerFactory.createInstance(automationInfo);
+
+        // Act
+        delegateRunnerFactory.setThrottleFactor(Duration.ofMillis(5));
+        IDelegateRunner second = delegateRunnerFactory.createInstance(automationInfo);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(Duration.ofMillis(5), delegateRunnerFactory.getThrottleFactor());
+    }
+
+    @Test
+    void createInstance_intervalMode_keepsThrottleStateAcrossCommands() {
+        // Arrange
+        Sleep.setInstance(sleep);
+        delegateRunnerFactory = new DelegateRunnerFactory(Duration.ofHours(1), Duration.ofSeconds(10), null,
+                ThrottledDelegateRunner.ThrottleMode.INTERVAL, Duration.ofHours(1));
+        when(automationInfo.getDriver()).thenReturn(driver);
+
+        // Act
+        delegateRunnerFactory.createInstance(automationInfo).execute(currentDriver -> { }, false);
+        delegateRunnerFactory.createInstance(automationInfo).execute(currentDriver -> { }, false);
+
+        // Assert
+        verify(sleep, times(1)).wait(any(Duration.class));
+    }
+
+    @Test
+    void createInstance_manyCommands_allocatesFarLessThanBuildingChains() {
+        // Arrange
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+        when(automationInfo.getDriver()).thenReturn(driver);
+        long threadId = Thread.currentThread().getId();
+
+        // Act
+        long start = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            delegateRunnerFactory.createInstance(automationInfo);
+        }
+        long cachedBytes = allocationBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            IDelegateRunner chain = new ThrottledDelegateRunner(
+                    new ExceptionHandlingDelegateRunner(
+                            new TimeoutDelegateRunner(new CommandDelegateRunner(driver), driver, Duration.ofSeconds(10), automationInfo),
+                            new ExceptionHandlerFactory()),
+                    Duration.ZERO);
+            assertNotNull(chain);
+        }
+        long uncachedBytes = allocationBean.getThreadAllocatedBytes(threadId) - start;
+
+        // Assert
+        assertTrue(cachedBytes * 10 < uncachedBytes,
+                String.format("Cached chain allocated %d bytes, rebuilding allocated %d bytes.", cachedBytes, uncachedBytes));
+    }
+}
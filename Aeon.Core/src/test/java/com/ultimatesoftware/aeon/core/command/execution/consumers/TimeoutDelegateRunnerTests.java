@@ -2,6 +2,7 @@ package com.ultimatesoftware.aeon.core.command.execution.consumers;
 
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunner;
+import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IRetryPolicy;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
 import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +19,7 @@ import java.time.Duration;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +39,8 @@ class TimeoutDelegateRunnerTests {
     private Consumer<IDriver> consumerCommandDelegate;
     @Mock
     private Function<IDriver, Object> functionCommandDelegate;
+    @Mock
+    private IRetryPolicy retryPolicy;
 
     @BeforeEach
     void setUp() {
@@ -54,7 +58,7 @@ class TimeoutDelegateRunnerTests {
 
         // Assert
         verify(successor, times(1)).execute(consumerCommandDelegate);
-        verify(driver, times(0)).getScreenshot();
+        verify(driver, times(0)).getFailureScreenshot(any());
         verify(automationInfo, times(0)).screenshotTaken(any());
     }
 
@@ -68,7 +72,7 @@ class TimeoutDelegateRunnerTests {
 
         // Assert
         verify(successor, times(1)).execute(functionCommandDelegate);
-        verify(driver, times(0)).getScreenshot();
+        verify(driver, times(0)).getFailureScreenshot(any());
         verify(automationInfo, times(0)).screenshotTaken(any());
     }
 
@@ -84,7 +88,7 @@ class TimeoutDelegateRunnerTests {
 
         // Assert
         assertThrows(RuntimeException.class, executable);
-        verify(driver, times(1)).getScreenshot();
+        verify(driver, times(1)).getFailureScreenshot(any());
         verify(automationInfo, times(1)).screenshotTaken(any());
     }
 
@@ -100,7 +104,7 @@ class TimeoutDelegateRunnerTests {
 
         // Assert
         assertThrows(RuntimeException.class, executable);
-        verify(driver, times(1)).getScreenshot();
+        verify(driver, times(1)).getFailureScreenshot(any());
         verify(automationInfo, times(1)).screenshotTaken(any());
     }
 
@@ -118,4 +122,40 @@ class TimeoutDelegateRunnerTests {
         assertThrows(RuntimeException.class, executable);
         verify(automationInfo, times(1)).testFailed(anyString(), any(RuntimeException.class));
     }
+
+    @Test
+    void execute_commandFailsOnce_retriesUsingRetryPolicy() {
+
+        // Arrange
+        RuntimeException exception = new RuntimeException("First attempt fails");
+        timeoutDelegateRunner = new TimeoutDelegateRunner(successor, driver, Duration.ofSeconds(5), automationInfo, retryPolicy);
+        when(successor.execute(functionCommandDelegate)).thenThrow(exception).thenReturn("result");
+        when(retryPolicy.getRetryDelay(1, exception)).thenReturn(Duration.ZERO);
+
+        // Act
+        Object result = timeoutDelegateRunner.execute(functionCommandDelegate);
+
+        // Assert
+        assertEquals("result", result);
+        verify(successor, times(2)).execute(functionCommandDelegate);
+        verify(retryPolicy, times(1)).getRetryDelay(1, exception);
+        verify(driver, times(0)).getFailureScreenshot(any());
+    }
+
+    @Test
+    void execute_withTimeout_retriesForGivenTimeout() {
+
+        // Arrange
+        RuntimeException exception = new RuntimeException("First attempt fails");
+        timeoutDelegateRunner = new TimeoutDelegateRunner(successor, driver, Duration.ZERO, automationInfo, retryPolicy);
+        when(successor.execute(functionCommandDelegate)).thenThrow(exception).thenReturn("result");
+        when(retryPolicy.getRetryDelay(1, exception)).thenReturn(Duration.ZERO);
+
+        // Act
+        Object result = timeoutDelegateRunner.execute(functionCommandDelegate, true, Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals("result", result);
+        verify(successor, times(2)).execute(functionCommandDelegate);
+    }
 }
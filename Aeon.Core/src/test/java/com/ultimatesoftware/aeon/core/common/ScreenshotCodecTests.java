@@ -0,0 +1,135 @@
+package com.ultimatesoftware.aeon.core.common;
+
+import com.ultimatesoftware.aeon.core.common.interfaces.IConfiguration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class ScreenshotCodecTests {
+
+    @Mock
+    private IConfiguration configuration;
+
+    @Test
+    void encode_original_returnsSameScreenshot() {
+
+        // Arrange
+        Screenshot screenshot = new Screenshot(new byte[]{1, 2, 3});
+
+        // Act
+        Screenshot result = ScreenshotCodec.ORIGINAL.encode(screenshot);
+
+        // Assert
+        assertSame(screenshot, result);
+    }
+
+    @Test
+    void encode_withMaxWidth_scalesDown() {
+
+        // Arrange
+        Screenshot screenshot = Screenshot.fromImage(createImage(400, 200));
+        ScreenshotCodec codec = new ScreenshotCodec(200, 1, false, 0);
+
+        // Act
+        Screenshot result = codec.encode(screenshot);
+
+        // Assert
+        assertEquals(Screenshot.PNG, result.getMimeType());
+        assertEquals(200, result.getImage().getWidth());
+        assertEquals(100, result.getImage().getHeight());
+    }
+
+    @Test
+    void encode_withQuality_encodesJpeg() {
+
+        // Arrange
+        Screenshot screenshot = Screenshot.fromImage(createImage(400, 200));
+        ScreenshotCodec codec = new ScreenshotCodec(0, 0.5, true, 0);
+
+        // Act
+        Screenshot result = codec.encode(screenshot);
+
+        // Assert
+        assertEquals(ScreenshotCodec.JPEG, result.getMimeType());
+        assertEquals(400, result.getImage().getWidth());
+        assertEquals(BufferedImage.TYPE_BYTE_GRAY, result.getImage().getType());
+    }
+
+    @Test
+    void encode_withMaxBytes_scalesDownUntilWithinBudget() {
+
+        // Arrange
+        Screenshot screenshot = Screenshot.fromImage(createImage(1600, 800));
+        ScreenshotCodec codec = new ScreenshotCodec(0, 0.8, false, 20000);
+
+        // Act
+        Screenshot result = codec.encode(screenshot);
+
+        // Assert
+        assertTrue(result.getSize() <= 20000);
+        assertTrue(result.getImage().getWidth() < 1600);
+    }
+
+    @Test
+    void encode_withinBudget_returnsSameScreenshot() {
+
+        // Arrange
+        Screenshot screenshot = Screenshot.fromImage(createImage(40, 20));
+        ScreenshotCodec codec = new ScreenshotCodec(0, 1, false, 1000000);
+
+        // Act
+        Screenshot result = codec.encode(screenshot);
+
+        // Assert
+        assertSame(screenshot, result);
+    }
+
+    @Test
+    void withConfiguration_overridesSettings() {
+
+        // Arrange
+        ScreenshotCodec codec = new ScreenshotCodec(800, 1, false, 0);
+        when(this.configuration.getDouble("aeon.log.screenshot.max_width", 800)).thenReturn(800.0);
+        when(this.configuration.getDouble("aeon.log.screenshot.quality", 1)).thenReturn(0.5);
+        when(this.configuration.getBoolean("aeon.log.screenshot.grayscale", false)).thenReturn(false);
+        when(this.configuration.getDouble("aeon.log.screenshot.max_bytes", 0)).thenReturn(0.0);
+
+        // Act
+        ScreenshotCodec result = codec.withConfiguration(this.configuration, "aeon.log");
+
+        // Assert
+        assertFalse(result.isOriginal());
+        assertEquals(ScreenshotCodec.JPEG, result.encode(Screenshot.fromImage(createImage(40, 20))).getMimeType());
+    }
+
+    private static BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, width, height, Color.BLUE));
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.BLACK);
+        for (int y = 0; y < height; y += 12) {
+            graphics.drawString("Aeon screenshot " + y, y % 40, y);
+        }
+
+        graphics.dispose();
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, image.getRGB(x, y) ^ ((x * 31 + y * 17) % 7));
+            }
+        }
+
+        return image;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ultimatesoftware.aeon.core.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScreenshotTests {
+
+    @Test
+    void toDataUri_withPngBytes_reusesBytes() {
+
+        // Arrange
+        Screenshot screenshot = new Screenshot(new byte[]{1, 2, 3});
+
+        // Act
+        String dataUri = screenshot.toDataUri();
+
+        // Assert
+        assertEquals("data:image/png;base64,AQID", dataUri);
+        assertSame(screenshot.toBase64(), screenshot.toBase64());
+        assertEquals(3, screenshot.getSize());
+    }
+
+    @Test
+    void getImage_fromImage_decodesSameSize() {
+
+        // Arrange
+        Screenshot screenshot = Screenshot.fromImage(new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB));
+
+        // Act
+        BufferedImage image = screenshot.getImage();
+
+        // Assert
+        assertEquals(Screenshot.PNG, screenshot.getMimeType());
+        assertEquals(3, image.getWidth());
+        assertEquals(2, image.getHeight());
+        assertSame(image, screenshot.getImage());
+    }
+
+    @Test
+    void crop_withRegionInsideImage_cropsToRegion() {
+
+        // Arrange
+        Screenshot screenshot = Screenshot.fromImage(new BufferedImage(100, 80, BufferedImage.TYPE_INT_RGB));
+
+        // Act
+        Screenshot cropped = screenshot.crop(-10, 30, 40, 100);
+
+        // Assert
+        assertEquals(30, cropped.getImage().getWidth());
+        assertEquals(50, cropped.getImage().getHeight());
+    }
+
+    @Test
+    void crop_withRegionOutsideImage_returnsScreenshot() {
+
+        // Arrange
+        Screenshot screenshot = Screenshot.fromImage(new BufferedImage(100, 80, BufferedImage.TYPE_INT_RGB));
+
+        // Act
+        Screenshot cropped = screenshot.crop(200, 0, 40, 40);
+
+        // Assert
+        assertSame(screenshot, cropped);
+    }
+
+    @Test
+    void constructor_withNullBytes_throwsException() {
+
+        // Arrange
+
+        // Act
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> new Screenshot(null));
+    }
+}
@@ -0,0 +1,101 @@
+package com.ultimatesoftware.aeon.core.common.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackgroundTeardownTests {
+
+    @Test
+    void drain_afterExecute_waitsForTasks() {
+
+        // Arrange
+        BackgroundTeardown teardown = new BackgroundTeardown(2, 4);
+        AtomicInteger finished = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            teardown.execute("task", () -> {
+                Sleep.getInstance().wait(50);
+                finished.incrementAndGet();
+            });
+        }
+        boolean drained = teardown.drain(Duration.ofSeconds(10));
+
+        // Assert
+        assertTrue(drained);
+        assertEquals(3, finished.get());
+        assertEquals(0, teardown.getPendingTasks());
+    }
+
+    @Test
+    void execute_taskThrowsException_isDrained() {
+
+        // Arrange
+        BackgroundTeardown teardown = new BackgroundTeardown(1, 1);
+
+        // Act
+        teardown.execute("failing task", () -> {
+            throw new IllegalStateException("error message");
+        });
+        boolean drained = teardown.drain(Duration.ofSeconds(10));
+
+        // Assert
+        assertTrue(drained);
+    }
+
+    @Test
+    void execute_queueIsFull_runsTaskOnCallingThread() throws InterruptedException {
+
+        // Arrange
+        BackgroundTeardown teardown = new BackgroundTeardown(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        Runnable blocking = () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        teardown.execute("running task", blocking);
+        teardown.execute("queued task", blocking);
+
+        // Act
+        teardown.execute("task", () -> thread.set(Thread.currentThread()));
+        release.countDown();
+
+        // Assert
+        assertEquals(Thread.currentThread(), thread.get());
+        assertTrue(teardown.drain(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void drain_taskDoesNotFinishInTime_returnsFalse() {
+
+        // Arrange
+        BackgroundTeardown teardown = new BackgroundTeardown(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        teardown.execute("task", () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Act
+        boolean drained = teardown.drain(Duration.ofMillis(50));
+        release.countDown();
+
+        // Assert
+        assertFalse(drained);
+        assertTrue(teardown.drain(Duration.ofSeconds(10)));
+    }
+}
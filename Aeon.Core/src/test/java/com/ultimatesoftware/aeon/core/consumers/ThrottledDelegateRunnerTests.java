@@ -2,10 +2,13 @@ package com.ultimatesoftware.aeon.core.consumers;
 
 import com.ultimatesoftware.aeon.core.command.execution.consumers.ThrottledDelegateRunner;
 import com.ultimatesoftware.aeon.core.command.execution.consumers.interfaces.IDelegateRunner;
+import com.ultimatesoftware.aeon.core.common.helpers.Sleep;
 import com.ultimatesoftware.aeon.core.framework.abstraction.drivers.IDriver;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -15,6 +18,9 @@ import java.time.Duration;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -34,9 +40,20 @@ public class ThrottledDelegateRunnerTests {
     @Mock
     Function<IDriver, Object> commandDelegateFunction;
 
+    @Mock
+    private Sleep sleep;
+
+    private Sleep originalSleep;
+
     @BeforeEach
     void setup() {
         throttledDelegateRunner = new ThrottledDelegateRunner(delegateRunner, Duration.ofSeconds(0));
+        originalSleep = Sleep.getInstance();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Sleep.setInstance(originalSleep);
     }
 
     @Test
@@ -63,4 +80,90 @@ public class ThrottledDelegateRunnerTests {
         verify(delegateRunner, times(1)).execute(commandDelegateFunction);
 
     }
+
+    @Test
+    public void execute_fixedMode_sleepsBeforeEveryCommand() {
+
+        // Arrange
+        Sleep.setInstance(sleep);
+        Duration throttle = Duration.ofMillis(100);
+        throttledDelegateRunner = new ThrottledDelegateRunner(delegateRunner, throttle);
+
+        // Act
+        throttledDelegateRunner.execute(commandDelegate, true);
+        throttledDelegateRunner.execute(commandDelegateFunction, true);
+
+        // Assert
+        verify(sleep, times(2)).wait(throttle);
+    }
+
+    @Test
+    public void execute_intervalModeFirstCommand_doesNotSleep() {
+
+        // Arrange
+        Sleep.setInstance(sleep);
+        throttledDelegateRunner = new ThrottledDelegateRunner(delegateRunner, ThrottledDelegateRunner.ThrottleMode.INTERVAL,
+                Duration.ofHours(1), Duration.ofHours(1));
+
+        // Act
+        throttledDelegateRunner.execute(commandDelegate);
+
+        // Assert
+        verify(sleep, never()).wait(any(Duration.class));
+        verify(delegateRunner, times(1)).execute(commandDelegate);
+    }
+
+    @Test
+    public void execute_intervalModeConsecutiveReadOnlyCommands_usesReadOnlyThrottle() {
+
+        // Arrange
+        Sleep.setInstance(sleep);
+        throttledDelegateRunner = new ThrottledDelegateRunner(delegateRunner, ThrottledDelegateRunner.ThrottleMode.INTERVAL,
+                Duration.ofHours(1), Duration.ZERO);
+
+        // Act
+        throttledDelegateRunner.execute(commandDelegate, true);
+        throttledDelegateRunner.execute(commandDelegateFunction, true);
+
+        // Assert
+        verify(sleep, never()).wait(any(Duration.class));
+        verify(delegateRunner, times(1)).execute(commandDelegateFunction);
+    }
+
+    @Test
+    public void execute_intervalModeMutatingCommand_sleepsOnlyTheRemainingInterval() {
+
+        // Arrange
+        Sleep.setInstance(sleep);
+        Duration throttle = Duration.ofHours(1);
+        throttledDelegateRunner = new ThrottledDelegateRunner(delegateRunner, ThrottledDelegateRunner.ThrottleMode.INTERVAL,
+                throttle, Duration.ZERO);
+        ArgumentCaptor<Duration> captor = ArgumentCaptor.forClass(Duration.class);
+
+        // Act
+        throttledDelegateRunner.execute(commandDelegate, true);
+        throttledDelegateRunner.execute(commandDelegate, false);
+
+        // Assert
+        verify(sleep, times(1)).wait(captor.capture());
+        assertTrue(captor.getValue().compareTo(Duration.ZERO) > 0);
+        assertTrue(captor.getValue().compareTo(throttle.plusMillis(1)) <= 0);
+    }
+
+    @Test
+    public void execute_intervalModeIdleLongerThanThrottle_doesNotSleep() {
+
+        // Arrange
+        Sleep.setInstance(sleep);
+        throttledDelegateRunner = new ThrottledDelegateRunner(delegateRunner, ThrottledDelegateRunner.ThrottleMode.INTERVAL,
+                Duration.ofNanos(1), Duration.ofNanos(1));
+
+        // Act
+        throttledDelegateRunner.execute(commandDelegate);
+        originalSleep.wait(Duration.ofMillis(1));
+        throttledDelegateRunner.execute(commandDelegate);
+
+        // Assert
+        verify(sleep, never()).wait(any(Duration.class));
+    }
 }
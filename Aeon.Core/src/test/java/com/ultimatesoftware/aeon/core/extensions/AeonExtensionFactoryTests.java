@@ -8,6 +8,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
@@ -65,6 +72,23 @@ class AeonExtensionFactoryTests {
         assertEquals(extension1, extension2);
     }
 
+    @Test
+    void testCreate_ConcurrentCalls_ReturnSameInstance() throws Exception {
+
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<Object>> calls = Collections.nCopies(8, () -> aeonExtensionFactory.create(Object.class));
+
+        // Act
+        List<Future<Object>> extensions = executor.invokeAll(calls);
+        executor.shutdown();
+
+        // Assert
+        for (Future<Object> extension : extensions) {
+            assertSame(extensions.get(0).get(), extension.get());
+        }
+    }
+
     @Test
     void testCreate_MultipleSessions() {
 
@@ -3,6 +3,7 @@ package com.ultimatesoftware.aeon.core.testabstraction.product;
 import com.ultimatesoftware.aeon.core.command.execution.AutomationInfo;
 import com.ultimatesoftware.aeon.core.common.Capabilities;
 import com.ultimatesoftware.aeon.core.common.Capability;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.exceptions.AeonLaunchException;
 import com.ultimatesoftware.aeon.core.common.exceptions.AeonSinglePluginRequestedException;
 import com.ultimatesoftware.aeon.core.extensions.DefaultSessionIdProvider;
@@ -22,6 +23,8 @@ import org.pf4j.PluginManager;
 import org.slf4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -137,7 +140,7 @@ class AeonTests {
         }
 
         @Override
-        public java.awt.Image getScreenshot() {
+        public Screenshot getScreenshot() {
             return null;
         }
 
@@ -238,6 +241,89 @@ class AeonTests {
         assertTrue(product.getAfterLaunchWasCalled());
     }
 
+    @Test
+    void launchAsync_happyPath_productIsLaunched() throws Exception {
+
+        // Arrange
+        when(this.adapterExtension1.getProvidedCapability()).thenReturn(Capabilities.WEB);
+        when(this.adapterExtension2.getProvidedCapability()).thenReturn(Capabilities.IMAGE);
+        when(this.adapterExtension2.getConfiguration()).thenReturn(this.configuration);
+        when(this.adapterExtension2.createAdapter(this.configuration)).thenReturn(this.adapter);
+        when(this.configuration.getDriver()).thenReturn(TestDriver.class);
+        doReturn(Arrays.asList(this.adapterExtension1, this.adapterExtension2))
+                .when(this.pluginManager).getExtensions(IAdapterExtension.class);
+        doReturn(Arrays.asList(this.testExecutionExtension1, this.testExecutionExtension2))
+                .when(this.pluginManager).getExtensions(ITestExecutionExtension.class);
+        Aeon.setPluginManager(this.pluginManager);
+        Aeon.log = this.log;
+
+        // Act
+        ProductWithAnnotation product = Aeon.launchAsync(ProductWithAnnotation.class).get();
+
+        // Assert
+        assertEquals(this.adapter, ((TestDriver) product.getAutomationInfo().getDriver()).getAdapter());
+        verify(this.testExecutionExtension1, times(1)).onBeforeLaunch(this.configuration);
+        assertTrue(product.getAfterLaunchWasCalled());
+    }
+
+    @Test
+    void launchAsync_launchingFails_completesExceptionally() {
+
+        // Arrange
+        when(this.adapterExtension1.getProvidedCapability()).thenReturn(Capabilities.WEB);
+        when(this.adapterExtension2.getProvidedCapability()).thenReturn(Capabilities.IMAGE);
+        when(this.adapterExtension2.getConfiguration()).thenThrow(new IllegalArgumentException("error message"));
+        doReturn(Arrays.asList(this.adapterExtension1, this.adapterExtension2))
+                .when(this.pluginManager).getExtensions(IAdapterExtension.class);
+        Aeon.setPluginManager(this.pluginManager);
+        Aeon.log = this.log;
+
+        // Act
+        Executable action = () -> Aeon.launchAsync(ProductWithAnnotation.class).get();
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, action);
+        assertTrue(exception.getCause() instanceof AeonLaunchException);
+    }
+
+    @Test
+    void launchAsync_launchesInSessionOfCaller() {
+
+        // Arrange
+        AtomicReference<String> launchSessionId = new AtomicReference<>();
+        doAnswer(invocation -> {
+            launchSessionId.set(Aeon.getCurrentSessionId());
+            throw new IllegalArgumentException("error message");
+        }).when(this.pluginManager).getExtensions(IAdapterExtension.class);
+        Aeon.setSessionIdProvider(new DefaultSessionIdProvider());
+        Aeon.setPluginManager(this.pluginManager);
+        Aeon.log = this.log;
+
+        // Act
+        Executable action = () -> Aeon.launchAsync(ProductWithAnnotation.class).get();
+
+        // Assert
+        assertThrows(ExecutionException.class, action);
+        assertEquals(Long.toString(Thread.currentThread().getId()), launchSessionId.get());
+    }
+
+    @Test
+    void inCurrentSession_runsTaskInSessionOfCaller() throws InterruptedException {
+
+        // Arrange
+        AtomicReference<String> taskSessionId = new AtomicReference<>();
+        Aeon.setSessionIdProvider(new DefaultSessionIdProvider());
+        Runnable task = Aeon.inCurrentSession(() -> taskSessionId.set(Aeon.getCurrentSessionId()));
+        Thread thread = new Thread(task);
+
+        // Act
+        thread.start();
+        thread.join();
+
+        // Assert
+        assertEquals(Long.toString(Thread.currentThread().getId()), taskSessionId.get());
+    }
+
     @Test
     void launch_launchingFailsBeforeProductIsInstantiated_throwsException() throws Exception {
 
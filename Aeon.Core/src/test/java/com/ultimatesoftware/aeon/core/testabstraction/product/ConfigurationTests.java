@@ -83,6 +83,10 @@ public class ConfigurationTests {
         // Assert
         assertEquals("aeon.timeout", keys.get(0).getKey());
         assertEquals("aeon.throttle", keys.get(1).getKey());
-        assertEquals("aeon.implicit_reporting", keys.get(2).getKey());
+        assertEquals("aeon.throttle.mode", keys.get(2).getKey());
+        assertEquals("aeon.throttle.read_only", keys.get(3).getKey());
+        assertEquals("aeon.implicit_reporting", keys.get(4).getKey());
+        assertEquals("aeon.retry.initial_interval", keys.get(5).getKey());
+        assertEquals("aeon.retry.exception_policies", keys.get(9).getKey());
     }
 }
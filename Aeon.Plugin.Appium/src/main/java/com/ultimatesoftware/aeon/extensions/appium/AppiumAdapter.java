@@ -478,6 +478,15 @@ public class AppiumAdapter extends SeleniumAdapter implements IMobileAdapter {
         }
     }
 
+    @Override
+    public WebControl findElementInView(IByWeb findBy) {
+        if (findBy instanceof IByMobile) {
+            return findElement(findBy);
+        }
+
+        return super.findElementInView(findBy);
+    }
+
     /**
      * Scrolls the element specified by the provided 'selector' into view.
      *
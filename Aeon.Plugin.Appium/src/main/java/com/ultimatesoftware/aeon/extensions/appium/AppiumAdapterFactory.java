@@ -58,6 +58,12 @@ public final class AppiumAdapterFactory extends SeleniumAdapterFactory {
         super.prepare(configuration);
     }
 
+    @Override
+    protected boolean isSessionPoolSupported() {
+        // Apps keep state that cannot be reset through the web driver.
+        return false;
+    }
+
     @Override
     protected void prepareBrowser() {
         switch (browserType.getKey()) {
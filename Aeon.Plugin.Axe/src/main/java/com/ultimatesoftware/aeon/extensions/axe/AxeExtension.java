@@ -2,6 +2,8 @@ package com.ultimatesoftware.aeon.extensions.axe;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
+import com.ultimatesoftware.aeon.core.common.ScreenshotCodec;
 import com.ultimatesoftware.aeon.core.common.exceptions.UnableToTakeScreenshotException;
 import com.ultimatesoftware.aeon.core.common.interfaces.IConfiguration;
 import com.ultimatesoftware.aeon.core.extensions.ITestExecutionExtension;
@@ -20,11 +22,7 @@ import org.pf4j.Extension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.imageio.ImageIO;
-
-import java.awt.image.BufferedImage;
 import java.io.*;
-import java.util.Base64;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -40,6 +38,7 @@ public class AxeExtension implements ITestExecutionExtension, IAccessibilityExte
 
     private IWebAdapter adapter;
     private String correlationId;
+    private ScreenshotCodec screenshotCodec = ScreenshotCodec.ORIGINAL;
     private static String reportUrl;
 
     static Logger log = LoggerFactory.getLogger(AxeExtension.class);
@@ -75,6 +74,9 @@ public class AxeExtension implements ITestExecutionExtension, IAccessibilityExte
     @Override
     public void onStartUp(Configuration configuration, String correlationId) {
         this.correlationId = correlationId;
+        this.screenshotCodec = ScreenshotCodec.ORIGINAL
+                .withConfiguration(configuration, "aeon")
+                .withConfiguration(this.configuration, "aeon.extensions.axe");
     }
 
     @Override
@@ -139,10 +141,10 @@ public class AxeExtension implements ITestExecutionExtension, IAccessibilityExte
         Map<String, Object> accessibilityReport = (Map<String, Object>) this.adapter.executeAsyncScript(reportRetrievalScript);
 
         String screenshot = null;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            ImageIO.write((BufferedImage) this.adapter.getScreenshot(), "png", baos);
-            screenshot = Base64.getEncoder().encodeToString(baos.toByteArray());
-        } catch (IOException | IllegalArgumentException | UnableToTakeScreenshotException e) {
+        try {
+            Screenshot taken = this.adapter.getScreenshot();
+            screenshot = taken == null ? null : this.screenshotCodec.encode(taken).toBase64();
+        } catch (IllegalArgumentException | UnableToTakeScreenshotException e) {
             log.error("Unable to get screenshot", e);
         }
 
@@ -2,6 +2,7 @@ package com.ultimatesoftware.aeon.extensions.axe;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.exceptions.UnableToTakeScreenshotException;
 import com.ultimatesoftware.aeon.core.common.interfaces.IConfiguration;
 import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IWebAdapter;
@@ -79,7 +80,7 @@ class AxeExtensionTests {
 
     private Map<String, Object> accessibilityReport = new HashMap<>();
 
-    private BufferedImage image = new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB);
+    private Screenshot image = Screenshot.fromImage(new BufferedImage(2, 2, BufferedImage.TYPE_INT_RGB));
 
     private AxeExtension axeExtension;
 
@@ -197,7 +197,13 @@ public final class AeonHtmlLayout extends AbstractStringLayout {
         sbuf.append(Transform.escapeHtmlTags(event.getMessage().getFormattedMessage()).replaceAll(REGEXHTML, HTMLAPPENDAGE).replaceAll(REGEXP, "<br />"));
 
         Object[] parameters = event.getMessage().getParameters();
-        if (parameters != null && parameters.length > 0 && parameters[0] instanceof BufferedImage) {
+        if (parameters != null && parameters.length > 0 && parameters[0] instanceof byte[]) {
+            // Screenshots are logged in the encoding they were taken in.
+            byte[] bytes = (byte[]) parameters[0];
+            String type = bytes.length > 1 && bytes[0] == (byte) 0xFF && bytes[1] == (byte) 0xD8 ? "jpeg" : "png";
+            sbuf.append("<img src=\"data:image/").append(type).append(";base64,")
+                    .append(Base64.getEncoder().encodeToString(bytes)).append("\" />");
+        } else if (parameters != null && parameters.length > 0 && parameters[0] instanceof BufferedImage) {
             BufferedImage image = (BufferedImage) parameters[0];
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             try {
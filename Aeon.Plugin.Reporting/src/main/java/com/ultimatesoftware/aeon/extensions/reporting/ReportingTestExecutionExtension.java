@@ -1,5 +1,7 @@
 package com.ultimatesoftware.aeon.extensions.reporting;
 
+import com.ultimatesoftware.aeon.core.common.Screenshot;
+import com.ultimatesoftware.aeon.core.common.ScreenshotCodec;
 import com.ultimatesoftware.aeon.core.common.interfaces.IConfiguration;
 import com.ultimatesoftware.aeon.core.extensions.ITestExecutionExtension;
 import com.ultimatesoftware.aeon.core.extensions.IUploadListenerExtension;
@@ -11,10 +13,6 @@ import org.pf4j.Extension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.imageio.ImageIO;
-
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -29,6 +27,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 public class ReportingTestExecutionExtension implements ITestExecutionExtension, IUploadListenerExtension {
 
     private IConfiguration configuration;
+    private ScreenshotCodec screenshotCodec;
     private TestCase currentTestCase;
 
     private ReportController reportController;
@@ -36,6 +35,8 @@ public class ReportingTestExecutionExtension implements ITestExecutionExtension,
     private static Report report = null;
     private static Queue<TestCase> finishedTestCases = new ConcurrentLinkedQueue<>();
 
+    private static final String SCREENSHOT_PREFIX = "aeon.extensions.reporting";
+
     private static Logger log = LoggerFactory.getLogger(ReportingTestExecutionExtension.class);
     private final SimpleDateFormat uploadDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 
@@ -78,6 +79,10 @@ public class ReportingTestExecutionExtension implements ITestExecutionExtension,
 
     @Override
     public void onStartUp(Configuration aeonConfiguration, String correlationId) {
+        this.screenshotCodec = ScreenshotCodec.ORIGINAL
+                .withConfiguration(aeonConfiguration, "aeon")
+                .withConfiguration(this.configuration, SCREENSHOT_PREFIX);
+
         // Only initialize if it wasn't already
         if (report == null) {
             initializeReport(null);
@@ -213,7 +218,7 @@ public class ReportingTestExecutionExtension implements ITestExecutionExtension,
     public void onExecutionEvent(String eventName, Object payload) {
         switch (eventName) {
             case "screenshotTaken":
-                handleScreenshotTaken((java.awt.Image) payload);
+                handleScreenshotTaken((Screenshot) payload);
                 break;
             case "commandInitialized":
                 TestCase testCase = getCurrentTestCaseBucket();
@@ -254,20 +259,16 @@ public class ReportingTestExecutionExtension implements ITestExecutionExtension,
         }
     }
 
-    private void handleScreenshotTaken(java.awt.Image screenshot) {
+    private void handleScreenshotTaken(Screenshot screenshot) {
         if (screenshot == null) {
             return;
         }
 
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-        try {
-            ImageIO.write((BufferedImage) screenshot, "png", stream);
-            String data = Base64.getEncoder().encodeToString(stream.toByteArray());
-            getCurrentTestCaseBucket().setScreenshotPath("data:image/png;base64," + data);
-            stream.close();
-        } catch (IOException e) {
-            log.warn("Could not write screenshot", e);
+        if (this.screenshotCodec == null) {
+            this.screenshotCodec = ScreenshotCodec.ORIGINAL.withConfiguration(this.configuration, SCREENSHOT_PREFIX);
         }
+
+        getCurrentTestCaseBucket().setScreenshotPath(this.screenshotCodec.encode(screenshot).toDataUri());
     }
 
     private static void initializeReport(String suiteName) {
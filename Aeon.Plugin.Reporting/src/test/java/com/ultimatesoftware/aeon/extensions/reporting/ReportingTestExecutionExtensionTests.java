@@ -1,5 +1,6 @@
 package com.ultimatesoftware.aeon.extensions.reporting;
 
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.interfaces.IConfiguration;
 import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IAdapter;
 import com.ultimatesoftware.aeon.core.testabstraction.product.Configuration;
@@ -42,7 +43,7 @@ class ReportingTestExecutionExtensionTests {
     @Captor
     private ArgumentCaptor<Report> reportCaptor;
 
-    private java.awt.image.BufferedImage image = new BufferedImage(2, 2, TYPE_INT_RGB);
+    private Screenshot image = Screenshot.fromImage(new BufferedImage(2, 2, TYPE_INT_RGB));
 
     @BeforeEach
     void setup() {
@@ -0,0 +1,68 @@
+package com.ultimatesoftware.aeon.extensions.selenium.jquery;
+
+import com.ultimatesoftware.aeon.core.common.web.JQueryStringType;
+import com.ultimatesoftware.aeon.core.common.web.selectors.By;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares preparing a jquery selector script on every execution with the cached preparation.
+ * <p>
+ * Run with {@code gradlew :Aeon.Plugin.Selenium:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptPrepareBenchmark {
+
+    private String script;
+    private IJavaScriptFinalizer uncachedFinalizer;
+    private IJavaScriptFinalizer cachedFinalizer;
+
+    /**
+     * Creates the script and the finalizers.
+     */
+    @Setup
+    public void setup() {
+        script = By.jQuery("table.grid  tbody")
+                .find("tr:regex(id, row-[0-9]+)")
+                .children("td.name")
+                .toString(JQueryStringType.RETURN_ELEMENT_ARRAY);
+        uncachedFinalizer = new JQueryRegexPluginRegistration(new JavaScriptMinimizer());
+        cachedFinalizer = new SeleniumJavaScriptFinalizerFactory().createInstance(JavaScriptFinalizerOptions.NONE);
+    }
+
+    /**
+     * Creates the finalizer chain and prepares the script, as every execution did before scripts were cached.
+     *
+     * @return The prepared script.
+     */
+    @Benchmark
+    public String prepareUncached() {
+        return new JQueryRegexPluginRegistration(new JavaScriptMinimizer()).prepare(script);
+    }
+
+    /**
+     * Prepares the script with an existing finalizer chain, without caching.
+     *
+     * @return The prepared script.
+     */
+    @Benchmark
+    public String prepareUncachedReusedChain() {
+        return uncachedFinalizer.prepare(script);
+    }
+
+    /**
+     * Prepares the script with the cached finalizer that is used for every execution.
+     *
+     * @return The prepared script.
+     */
+    @Benchmark
+    public String prepareCached() {
+        return cachedFinalizer.prepare(script);
+    }
+}
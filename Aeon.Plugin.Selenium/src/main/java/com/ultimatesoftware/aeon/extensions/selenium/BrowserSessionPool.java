@@ -0,0 +1,311 @@
+package com.ultimatesoftware.aeon.extensions.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Keeps browser sessions open between tests, so that a test does not have to wait for a browser to launch.
+ * <p>
+ * Sessions are pooled per key, which identifies the capabilities they were launched with. When a session is taken
+ * from the pool, the pool launches sessions in the background until it holds the configured number of sessions for
+ * the key. A session that is released is reset and kept for the next test, unless it is too old or has been used
+ * too often. Idle sessions are checked before they are handed out and quit when the JVM shuts down.
+ * <p>
+ * <b>A reused session is not a clean browser profile.</b> WebDriver can only delete the cookies and storage of the
+ * page that is open when the session is released, so cookies, local storage and session storage of any other
+ * domain the test visited, as well as the browser cache, are carried over to the next test. Tests that depend on
+ * a fresh profile, e.g. because they sign in on several domains, must not use the pool.
+ */
+public class BrowserSessionPool {
+
+    private static final String CLEAR_STORAGE_SCRIPT = "try{window.localStorage.clear();}catch(e){}" +
+            "try{window.sessionStorage.clear();}catch(e){}";
+    private static final String BLANK_PAGE = "about:blank";
+
+    private static Logger log = LoggerFactory.getLogger(BrowserSessionPool.class);
+
+    private static BrowserSessionPool instance = new BrowserSessionPool();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> instance.close(), "aeon-browser-session-pool-shutdown"));
+    }
+
+    private final Executor executor;
+    private final Clock clock;
+    private final Map<String, Deque<Session>> idleSessions = new HashMap<>();
+    private final Map<WebDriver, Session> leasedSessions = new IdentityHashMap<>();
+    private final Map<String, Integer> launchingSessions = new HashMap<>();
+
+    /**
+     * Initializes a new instance of the {@link BrowserSessionPool} class that launches sessions on daemon threads.
+     */
+    public BrowserSessionPool() {
+        this(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "aeon-browser-session-pool");
+            thread.setDaemon(true);
+            return thread;
+        }), Clock.systemUTC());
+    }
+
+    /**
+     * Initializes a new instance of the {@link BrowserSessionPool} class.
+     *
+     * @param executor The executor that launches sessions in the background.
+     * @param clock    The clock the age of sessions is measured with.
+     */
+    BrowserSessionPool(Executor executor, Clock clock) {
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Gets the BrowserSessionPool instance.
+     *
+     * @return The BrowserSessionPool instance.
+     */
+    public static BrowserSessionPool getInstance() {
+        return BrowserSessionPool.instance;
+    }
+
+    /**
+     * Sets the BrowserSessionPool instance.
+     *
+     * @param pool The BrowserSessionPool instance.
+     */
+    public static void setInstance(BrowserSessionPool pool) {
+        BrowserSessionPool.instance = pool;
+    }
+
+    /**
+     * Takes a session from the pool, or launches one if the pool holds no healthy session for the key.
+     *
+     * @param key      The key of the capabilities the session is launched with.
+     * @param size     The number of sessions to keep for the key, including the sessions in use.
+     * @param maxAge   The age after which a session is quit, or null to keep sessions regardless of their age.
+     * @param maxUses  The number of tests after which a session is quit, or 0 to reuse sessions indefinitely.
+     * @param launcher Launches a new session.
+     * @return The driver of the session.
+     */
+    public WebDriver acquire(String key, int size, Duration maxAge, int maxUses, Supplier<WebDriver> launcher) {
+        Session session = takeIdleSession(key);
+        while (session != null && (session.isExpired() || !isHealthy(session.driver))) {
+            quit(session);
+            session = takeIdleSession(key);
+        }
+
+        if (session == null) {
+            session = new Session(key, launcher.get(), size, maxAge, maxUses);
+        } else {
+            log.debug("Reusing browser session {} of {}", session.uses + 1, key);
+        }
+
+        synchronized (this) {
+            leasedSessions.put(session.driver, session);
+        }
+
+        fill(key, size, maxAge, maxUses, launcher);
+        return session.driver;
+    }
+
+    /**
+     * Gets whether a driver belongs to a session of the pool.
+     *
+     * @param driver The driver.
+     * @return True if the driver was acquired from the pool and has not been released.
+     */
+    public synchronized boolean contains(WebDriver driver) {
+        return leasedSessions.containsKey(driver);
+    }
+
+    /**
+     * Returns a session to the pool after its test, instead of quitting it.
+     * <p>
+     * The session is reset by closing all windows but one, deleting the cookies and storage of the current page and
+     * navigating to a blank page. Cookies and storage of other domains are kept. The session is quit if it cannot be
+     * reset, has expired or the pool is full.
+     *
+     * @param driver The driver of the session.
+     * @return True if the driver belonged to the pool, false if it has to be quit by the caller.
+     */
+    public boolean release(WebDriver driver) {
+        Session session;
+        synchronized (this) {
+            session = leasedSessions.remove(driver);
+        }
+
+        if (session == null) {
+            return false;
+        }
+
+        session.uses++;
+        if (session.isExpired()) {
+            quit(session);
+            return true;
+        }
+
+        try {
+            reset(driver);
+        } catch (RuntimeException e) {
+            log.warn("Could not reset browser session, quitting it: {}", e.getMessage());
+            quit(session);
+            return true;
+        }
+
+        boolean kept;
+        synchronized (this) {
+            kept = countSessions(session.key) < session.size;
+            if (kept) {
+                idleSessions.computeIfAbsent(session.key, key -> new ArrayDeque<>()).addLast(session);
+            }
+        }
+
+        if (!kept) {
+            quit(session);
+        }
+
+        return true;
+    }
+
+    /**
+     * Quits all idle sessions. Sessions in use are quit when they are released.
+     */
+    public void close() {
+        List<Session> sessions = new ArrayList<>();
+        synchronized (this) {
+            idleSessions.values().forEach(sessions::addAll);
+            idleSessions.clear();
+        }
+
+        sessions.forEach(this::quit);
+    }
+
+    private synchronized Session takeIdleSession(String key) {
+        Deque<Session> sessions = idleSessions.get(key);
+        return sessions == null ? null : sessions.pollFirst();
+    }
+
+    private void fill(String key, int size, Duration maxAge, int maxUses, Supplier<WebDriver> launcher) {
+        int missing;
+        synchronized (this) {
+            missing = size - countSessions(key);
+            launchingSessions.merge(key, Math.max(missing, 0), Integer::sum);
+        }
+
+        for (int i = 0; i < missing; i++) {
+            executor.execute(() -> launch(key, size, maxAge, maxUses, launcher));
+        }
+    }
+
+    private void launch(String key, int size, Duration maxAge, int maxUses, Supplier<WebDriver> launcher) {
+        Session session = null;
+        try {
+            session = new Session(key, launcher.get(), size, maxAge, maxUses);
+            log.debug("Launched browser session in the background for {}", key);
+        } catch (RuntimeException e) {
+            log.warn("Could not launch browser session in the background: {}", e.getMessage());
+        }
+
+        synchronized (this) {
+            launchingSessions.merge(key, -1, Integer::sum);
+            if (session != null) {
+                idleSessions.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(session);
+            }
+        }
+    }
+
+    private int countSessions(String key) {
+        int count = launchingSessions.getOrDefault(key, 0);
+        Deque<Session> sessions = idleSessions.get(key);
+        if (sessions != null) {
+            count += sessions.size();
+        }
+
+        for (Session session : leasedSessions.values()) {
+            if (session.key.equals(key)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            log.debug("Browser session is no longer available: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void reset(WebDriver driver) {
+        Iterator<String> handles = driver.getWindowHandles().iterator();
+        String first = handles.next();
+        while (handles.hasNext()) {
+            driver.switchTo().window(handles.next());
+            driver.close();
+        }
+
+        driver.switchTo().window(first);
+        driver.switchTo().defaultContent();
+
+        // Cookies and storage can only be cleared for the page that is open, those of other domains are kept.
+        driver.manage().deleteAllCookies();
+        if (driver instanceof JavascriptExecutor) {
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+        }
+
+        driver.navigate().to(BLANK_PAGE);
+    }
+
+    private void quit(Session session) {
+        try {
+            session.driver.quit();
+        } catch (RuntimeException e) {
+            log.debug("Could not quit browser session: {}", e.getMessage());
+        }
+    }
+
+    private class Session {
+
+        private final String key;
+        private final WebDriver driver;
+        private final Instant launched;
+        private final int size;
+        private final Duration maxAge;
+        private final int maxUses;
+        private int uses;
+
+        Session(String key, WebDriver driver, int size, Duration maxAge, int maxUses) {
+            this.key = key;
+            this.driver = driver;
+            this.launched = clock.instant();
+            this.size = size;
+            this.maxAge = maxAge;
+            this.maxUses = maxUses;
+        }
+
+        boolean isExpired() {
+            boolean tooOld = maxAge != null && !clock.instant().isBefore(launched.plus(maxAge));
+            boolean wornOut = maxUses > 0 && uses >= maxUses;
+            return tooOld || wornOut;
+        }
+    }
+}
@@ -3,11 +3,13 @@ package com.ultimatesoftware.aeon.extensions.selenium;
 import com.ultimatesoftware.aeon.core.common.CompareType;
 import com.ultimatesoftware.aeon.core.common.ComparisonOption;
 import com.ultimatesoftware.aeon.core.common.KeyboardKey;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.exceptions.*;
 import com.ultimatesoftware.aeon.core.common.exceptions.ElementNotVisibleException;
 import com.ultimatesoftware.aeon.core.common.exceptions.NoSuchCookieException;
 import com.ultimatesoftware.aeon.core.common.exceptions.NoSuchElementException;
 import com.ultimatesoftware.aeon.core.common.exceptions.NoSuchWindowException;
+import com.ultimatesoftware.aeon.core.common.helpers.BackgroundTeardown;
 import com.ultimatesoftware.aeon.core.common.helpers.OsCheck;
 import com.ultimatesoftware.aeon.core.common.helpers.SendKeysHelper;
 import com.ultimatesoftware.aeon.core.common.helpers.Sleep;
@@ -18,6 +20,7 @@ import com.ultimatesoftware.aeon.core.common.web.interfaces.IBrowserType;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByWeb;
 import com.ultimatesoftware.aeon.core.common.web.interfaces.IByXPath;
 import com.ultimatesoftware.aeon.core.common.web.selectors.ByJQuery;
+import com.ultimatesoftware.aeon.core.common.web.selectors.JQueryCssSelector;
 import com.ultimatesoftware.aeon.core.extensions.IUploaderExtension;
 import com.ultimatesoftware.aeon.core.framework.abstraction.adapters.IWebAdapter;
 import com.ultimatesoftware.aeon.core.framework.abstraction.controls.web.IWebCookie;
@@ -30,7 +33,6 @@ import org.openqa.selenium.*;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.logging.LogEntry;
 import org.openqa.selenium.logging.LoggingPreferences;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
@@ -39,18 +41,13 @@ import org.openqa.selenium.support.ui.Select;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.imageio.ImageIO;
-
 import java.awt.*;
 import java.awt.event.InputEvent;
-import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.*;
@@ -75,15 +72,50 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
     private static final String OPTION_VALUE = "option[value='";
     private static final String OPTGROUP_LABEL = "optgroup[label='";
     private static final String INNERHTML = "INNERHTML";
+    // Values are passed to the scripts as arguments, so that the prepared scripts only depend on the selector.
+    private static final String VALUE_ARGUMENT = "arguments[0]";
+    private static final String GET_CHILD_VALUES_SCRIPT = "var children = arguments[0].querySelectorAll(arguments[1]);" +
+            "var values = [];" +
+            "for (var i = 0; i < children.length; i++) {" +
+            "var child = children[i];" +
+            "if (arguments[2]) {" +
+            "var visible = child.getClientRects().length > 0 && window.getComputedStyle(child).visibility !== 'hidden';" +
+            "values.push(visible ? child.innerText : '');" +
+            "} else {" +
+            "var property = arguments[3] === 'class' ? undefined : child[arguments[3]];" +
+            "if (typeof property === 'boolean') { values.push(property ? 'true' : null); }" +
+            "else if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function') { values.push(String(property)); }" +
+            "else { values.push(child.getAttribute(arguments[3])); }" +
+            "}" +
+            "}" +
+            "return values;";
     private final URL seleniumHubUrl;
     protected WebDriver webDriver;
     private IJavaScriptFlowExecutor javaScriptExecutor;
     private IJavaScriptFlowExecutor asyncJavaScriptExecutor;
     protected IBrowserType browserType;
+    private boolean asyncTeardown;
+    private static final String ELEMENT_RECT_SCRIPT = "var r=arguments[0].getBoundingClientRect();" +
+            "return [r.left,r.top,r.width,r.height,window.devicePixelRatio||1];";
+    private static final String SCROLL_INTO_VIEW_SCRIPT = "if(e){e.scrollIntoView(false);document.body.scrollLeft=0;}return e;";
+    private static final String GET_OPTIONS_SCRIPT = "var root = arguments[0];" +
+            "if (arguments[1] !== null) {" +
+            "root = null;" +
+            "var groups = arguments[0].getElementsByTagName('optgroup');" +
+            "for (var i = 0; i < groups.length; i++) { if (groups[i].label === arguments[1]) { root = groups[i]; break; } }" +
+            "if (root === null) { return null; }" +
+            "}" +
+            "var options = root.getElementsByTagName('option');" +
+            "var snapshot = [];" +
+            "for (var j = 0; j < options.length; j++) {" +
+            "var option = options[j];" +
+            "var group = option.parentNode.tagName === 'OPTGROUP' ? option.parentNode.label : null;" +
+            "snapshot.push([option.value, option.textContent.replace(/[ \\t\\r\\n]+/g, ' ').trim(), group]);" +
+            "}" +
+            "return snapshot;";
     private static Logger log = LoggerFactory.getLogger(SeleniumAdapter.class);
     private boolean isRemote;
-    private String seleniumLogsDirectory;
-    private LoggingPreferences loggingPreferences;
+    private SeleniumLogCollector logCollector;
     private BrowserSize fallbackBrowserSize;
     private ActionsFactory actionsFactory;
     private FileDownloadHelper fileDownloadHelper;
@@ -114,9 +146,16 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         this.browserType = configuration.getBrowserType();
         this.isRemote = seleniumHubUrl != null;
         this.seleniumHubUrl = seleniumHubUrl;
-        this.seleniumLogsDirectory = configuration.getString(SeleniumConfiguration.Keys.LOGGING_DIRECTORY, "log");
-        this.loggingPreferences = loggingPreferences;
         this.fallbackBrowserSize = fallbackBrowserSize;
+        this.asyncTeardown = configuration.getBoolean(SeleniumConfiguration.Keys.TEARDOWN_ASYNC, false);
+        this.logCollector = new SeleniumLogCollector(
+                seleniumWebDriver,
+                loggingPreferences,
+                configuration.getString(SeleniumConfiguration.Keys.LOGGING_DIRECTORY, "log"),
+                configuration.getBoolean(SeleniumConfiguration.Keys.LOGGING_GZIP, false),
+                (int) configuration.getDouble(SeleniumConfiguration.Keys.LOGGING_MAX_ENTRIES, 100000),
+                (int) configuration.getDouble(SeleniumConfiguration.Keys.LOGGING_REPORT_ENTRIES, 0));
+        this.logCollector.start(Duration.ofSeconds((long) configuration.getDouble(SeleniumConfiguration.Keys.LOGGING_INTERVAL, 30)));
         this.actionsFactory = new ActionsFactory();
         this.fileDownloadHelper = new FileDownloadHelper();
     }
@@ -397,6 +436,60 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Finds the first element that matches the corresponding IBy and scrolls it into view with a single script.
+     *
+     * @param findBy Selector used to search with.
+     * @return An IWebElementAdapter matching the findBy.
+     */
+    @Override
+    public WebControl findElementInView(IByWeb findBy) {
+        String script;
+        String argument = findBy.toString();
+        if (findBy instanceof IByXPath) {
+            script = "var e=document.evaluate(arguments[0],document,null,XPathResult.FIRST_ORDERED_NODE_TYPE,null).singleNodeValue;";
+        } else if (findBy instanceof com.ultimatesoftware.aeon.core.common.web.selectors.By) {
+            script = "var e=document.querySelector(arguments[0]);";
+        } else if (findBy instanceof ByJQuery) {
+            JQueryCssSelector cssSelector = ((ByJQuery) findBy).toCssSelector();
+            if (cssSelector != null && (cssSelector.getIndex() == null || cssSelector.getIndex() == 0)) {
+                script = "var e=document.querySelector(arguments[0]);";
+                argument = cssSelector.getSelector();
+            } else {
+                script = String.format("var e=%1$s[0];", findBy);
+            }
+        } else {
+            script = null;
+        }
+
+        if (script != null) {
+            log.trace("Finding {} and scrolling it into view", findBy);
+            Object result = null;
+            boolean scriptFailed = false;
+            try {
+                result = executeScript(script + SCROLL_INTO_VIEW_SCRIPT, argument);
+            } catch (ScriptExecutionException e) {
+                log.debug("Could not find {} with a script: {}", findBy, e.getMessage());
+                scriptFailed = true;
+            }
+
+            if (result instanceof org.openqa.selenium.WebElement) {
+                return new SeleniumElement((org.openqa.selenium.WebElement) result);
+            }
+
+            if (!scriptFailed) {
+                throw findBy instanceof IByXPath
+                        ? new NoSuchElementException(null, (IByXPath) findBy)
+                        : new NoSuchElementException(null, findBy);
+            }
+        }
+
+        // The script could not run, e.g. because the page does not have jQuery, so the element is found without it.
+        WebControl element = findElement(findBy);
+        scrollElementIntoView(findBy);
+        return element;
+    }
+
     /**
      * Finds all elements with the matching IBy.
      *
@@ -443,6 +536,26 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
      * @return A ReadOnlyCollection of IWebElementAdapters.
      */
     private Collection<WebControl> findElements(ByJQuery findBy) {
+        JQueryCssSelector cssSelector = findBy.toCssSelector();
+        if (cssSelector != null) {
+            log.trace("WebDriver.findElements(by.cssSelector({}));", cssSelector);
+            try {
+                List<WebControl> collection = cssSelector.select(
+                        webDriver.findElements(org.openqa.selenium.By.cssSelector(cssSelector.getSelector())))
+                        .stream()
+                        .map(SeleniumElement::new)
+                        .collect(Collectors.toList());
+
+                if (collection.isEmpty()) {
+                    throw new NoSuchElementsException(findBy);
+                }
+
+                return collection;
+            } catch (InvalidSelectorException e) {
+                log.debug("Could not find {} with a CSS selector: {}", findBy, e.getMessage());
+            }
+        }
+
         String script = findBy.toString(JQueryStringType.RETURN_ELEMENT_ARRAY);
         Object result = executeScript(script);
 
@@ -572,6 +685,15 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
 
         log.trace("WebDriver.quit();");
 
+        BrowserSessionPool sessionPool = BrowserSessionPool.getInstance();
+        if (sessionPool.contains(webDriver)) {
+            // The session stays open for the next test, so its video is not complete yet.
+            collectSeleniumLogs();
+            teardown("release browser session", () -> sessionPool.release(webDriver));
+            return;
+        }
+
+        String sessionId = null;
         if (isRemote && (
                 browserType == BrowserType.CHROME
                         || browserType == BrowserType.EDGE
@@ -581,37 +703,56 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
                         || browserType == BrowserType.INTERNET_EXPLORER
         )) {
 
-            SessionId sessionId = ((RemoteWebDriver) webDriver).getSessionId();
+            SessionId remoteSessionId = ((RemoteWebDriver) webDriver).getSessionId();
 
-            if (sessionId == null) {
+            if (remoteSessionId == null) {
                 throw new IllegalStateException("session ID is null before calling \"quit\". Please inspect the trace logs for possible earlier errors.");
             }
 
-            collectSeleniumLogs();
+            sessionId = remoteSessionId.toString();
+        }
 
+        // The logs are read on the test thread, as they belong to the test and are gone once the driver quits.
+        collectSeleniumLogs();
+
+        // The uploaders are resolved on the test thread, as the extensions belong to the session of the test.
+        String videoSessionId = sessionId;
+        List<IUploaderExtension> uploaders = videoSessionId != null
+                ? Aeon.getExtensions(IUploaderExtension.class)
+                : Collections.emptyList();
+        teardown("quit", () -> {
             webDriver.quit();
 
-            String videoPath = fileDownloadHelper.downloadVideo(seleniumHubUrl, sessionId.toString());
+            if (videoSessionId != null) {
+                downloadVideo(videoSessionId, uploaders);
+            }
+        });
+    }
+
+    private void downloadVideo(String sessionId, List<IUploaderExtension> uploaders) {
+        String videoPath = fileDownloadHelper.downloadVideo(seleniumHubUrl, sessionId);
 
-            if (videoPath != null) {
-                AeonTestExecution.executionEvent("videoDownloaded", videoPath);
+        if (videoPath != null) {
+            AeonTestExecution.executionEvent("videoDownloaded", videoPath);
 
-                List<IUploaderExtension> extensions = Aeon.getExtensions(IUploaderExtension.class);
-                for (IUploaderExtension extension : extensions) {
-                    String videoUrl = extension.onUploadRequested(videoPath, "video", "Video URL");
+            for (IUploaderExtension extension : uploaders) {
+                String videoUrl = extension.onUploadRequested(videoPath, "video", "Video URL");
 
-                    if (videoUrl != null) {
-                        log.info("Video uploaded: {}", videoUrl);
-                    }
+                if (videoUrl != null) {
+                    log.info("Video uploaded: {}", videoUrl);
                 }
             }
-
-            return;
         }
+    }
 
-        collectSeleniumLogs();
-
-        webDriver.quit();
+    private void teardown(String description, Runnable task) {
+        if (asyncTeardown) {
+            // The video is only complete once the driver has quit, so the event about it is published from the
+            // background, in the session of the test.
+            BackgroundTeardown.getInstance().execute(description, Aeon.inCurrentSession(task));
+        } else {
+            task.run();
+        }
     }
 
     /**
@@ -833,9 +974,9 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
     /**
      * Returns a screenshot of the current browser window.
      *
-     * @return An Image object of the current browser.
+     * @return The PNG screenshot of the current browser.
      */
-    public java.awt.Image getScreenshot() {
+    public Screenshot getScreenshot() {
         TakesScreenshot driver = (TakesScreenshot) ((webDriver instanceof TakesScreenshot) ? webDriver : null);
 
         if (driver == null) {
@@ -845,11 +986,54 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         log.trace("webDriver.getScreenshotAs(bytes);");
 
         byte[] bytes = driver.getScreenshotAs(OutputType.BYTES);
-        try {
-            return ImageIO.read(new ByteArrayInputStream(bytes));
-        } catch (Exception e) {
+        if (bytes == null || bytes.length == 0) {
             throw new UnableToTakeScreenshotException();
         }
+
+        return new Screenshot(bytes);
+    }
+
+    /**
+     * Returns a screenshot of the region around an element of the current browser window.
+     * <p>
+     * Without padding the driver takes the screenshot of the element itself, so that only the element is transferred.
+     * Otherwise the screenshot of the window is cropped to the element and the padding around it.
+     *
+     * @param element The element.
+     * @param padding The number of CSS pixels around the element to include.
+     * @return The PNG screenshot of the region, or of the window if the element is not in view.
+     */
+    @Override
+    public Screenshot getScreenshot(WebControl element, int padding) {
+        org.openqa.selenium.WebElement webElement = ((SeleniumElement) element).getUnderlyingWebElement();
+        if (padding <= 0) {
+            try {
+                log.trace("webElement.getScreenshotAs(bytes);");
+                byte[] bytes = webElement.getScreenshotAs(OutputType.BYTES);
+                if (bytes != null && bytes.length > 0) {
+                    return new Screenshot(bytes);
+                }
+            } catch (WebDriverException e) {
+                log.debug("Could not take a screenshot of the element: {}", e.getMessage());
+            }
+        }
+
+        Object result = executeScript(ELEMENT_RECT_SCRIPT, webElement);
+        Screenshot screenshot = getScreenshot();
+        if (!(result instanceof List<?>) || ((List<?>) result).size() != 5) {
+            return screenshot;
+        }
+
+        // The rectangle is in CSS pixels, the screenshot in device pixels.
+        List<?> rect = (List<?>) result;
+        double ratio = ((Number) rect.get(4)).doubleValue();
+        double left = ((Number) rect.get(0)).doubleValue() - padding;
+        double top = ((Number) rect.get(1)).doubleValue() - padding;
+        double right = left + ((Number) rect.get(2)).doubleValue() + 2 * padding;
+        double bottom = top + ((Number) rect.get(3)).doubleValue() + 2 * padding;
+        int x = (int) Math.floor(left * ratio);
+        int y = (int) Math.floor(top * ratio);
+        return screenshot.crop(x, y, (int) Math.ceil(right * ratio) - x, (int) Math.ceil(bottom * ratio) - y);
     }
 
     /**
@@ -1141,7 +1325,14 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         if (!((SeleniumElement) element).getTagName().equalsIgnoreCase(SELECT)) {
             throw new IncorrectElementTagException(SELECT, ((SeleniumElement) element).getTagName());
         }
-        if (optgroup != null) {
+        List<SelectOption> snapshot = getOptionSnapshot((SeleniumElement) element, optgroup);
+        if (snapshot != null) {
+            for (String desiredOption : options) {
+                if (indexOfOption(snapshot, select, desiredOption, 0, false) < 0) {
+                    throw new ElementDoesNotHaveOptionException(desiredOption);
+                }
+            }
+        } else if (optgroup != null) {
             SeleniumElement group = (SeleniumElement) ((SeleniumElement) element).findElement(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(OPTGROUP_LABEL.concat(optgroup).concat("']")));
             hasOptions(group, options, select);
         } else {
@@ -1154,7 +1345,14 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         if (!((SeleniumElement) element).getTagName().equalsIgnoreCase(SELECT)) {
             throw new IncorrectElementTagException(SELECT, ((SeleniumElement) element).getTagName());
         }
-        if (optgroup != null) {
+        List<SelectOption> snapshot = getOptionSnapshot((SeleniumElement) element, optgroup);
+        if (snapshot != null) {
+            for (String desiredOption : options) {
+                if (indexOfOption(snapshot, select, desiredOption, 0, false) >= 0) {
+                    throw new ElementHasOptionException(desiredOption);
+                }
+            }
+        } else if (optgroup != null) {
             SeleniumElement group = (SeleniumElement) ((SeleniumElement) element).findElement(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(OPTGROUP_LABEL.concat(optgroup).concat("']")));
             doesNotHaveOptions(group, options, select);
         } else {
@@ -1193,7 +1391,7 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
     @Override
     public void setBodyValueByJavaScript(WebControl element, String value) {
         log.trace("executeScript(element.getSelector().toJQuery().toString(JQueryStringType.SetBodyText));");
-        executeScript(String.format(element.getSelector().toJQuery().toString(JQueryStringType.SET_BODY_TEXT), Quotes.escape(value)));
+        executeScript(String.format(element.getSelector().toJQuery().toString(JQueryStringType.SET_BODY_TEXT), VALUE_ARGUMENT), value);
     }
 
     /**
@@ -1205,7 +1403,7 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
     @Override
     public void setTextByJavaScript(WebControl element, String value) {
         log.trace("executeScript(element.getSelector().toJQuery().toString(JQueryStringType.SetValueText));");
-        executeScript(String.format(element.getSelector().toJQuery().toString(JQueryStringType.SET_ELEMENT_TEXT), Quotes.escape(value)));
+        executeScript(String.format(element.getSelector().toJQuery().toString(JQueryStringType.SET_ELEMENT_TEXT), VALUE_ARGUMENT), value);
     }
 
     /**
@@ -1217,7 +1415,7 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
     @Override
     public void setDivValueByJavaScript(WebControl element, String value) {
         log.trace("executeScript(element.getSelector().toJQuery().toString(JQueryStringType.SetDivText));");
-        executeScript(String.format(element.getSelector().toJQuery().toString(JQueryStringType.SET_DIV_TEXT), Quotes.escape(value)));
+        executeScript(String.format(element.getSelector().toJQuery().toString(JQueryStringType.SET_DIV_TEXT), VALUE_ARGUMENT), value);
     }
 
     /**
@@ -1244,7 +1442,10 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         if (!((SeleniumElement) element).getTagName().equalsIgnoreCase(SELECT)) {
             throw new IncorrectElementTagException(SELECT, ((SeleniumElement) element).getTagName());
         }
-        if (optgroup != null) {
+        List<SelectOption> snapshot = getOptionSnapshot((SeleniumElement) element, optgroup);
+        if (snapshot != null) {
+            elementHasOptionsInOrder(snapshot, options, select);
+        } else if (optgroup != null) {
             SeleniumElement group = (SeleniumElement) ((SeleniumElement) element).findElement(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(OPTGROUP_LABEL + optgroup + "']"));
             elementHasOptionsInOrder(group, options, select);
         } else {
@@ -1252,6 +1453,16 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         }
     }
 
+    private void elementHasOptionsInOrder(List<SelectOption> snapshot, String[] options, WebSelectOption select) {
+        int index = indexOfOption(snapshot, select, options[0], 0, false);
+        for (int i = 1; i < options.length && index >= 0; i++) {
+            index = indexOfOption(snapshot, select, options[i], index, true);
+        }
+        if (index < 0) {
+            throw new ElementDoesNotHaveOptionException(String.join(", ", options));
+        }
+    }
+
     private void elementHasOptionsInOrder(SeleniumElement element, String[] options, WebSelectOption select) {
         try {
             if (options.length > 1) {
@@ -1290,9 +1501,10 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         if (!((SeleniumElement) element).getTagName().equalsIgnoreCase(SELECT)) {
             throw new IncorrectElementTagException(SELECT, ((SeleniumElement) element).getTagName());
         }
-        Collection<WebControl> options = findAllOptions(element, optgroup);
-        if (options.size() != optnumber) {
-            throw new ElementDoesNotHaveNumberOfOptionsException(options.size(), optnumber);
+        List<SelectOption> snapshot = getOptionSnapshot((SeleniumElement) element, optgroup);
+        int count = snapshot != null ? snapshot.size() : findAllOptions(element, optgroup).size();
+        if (count != optnumber) {
+            throw new ElementDoesNotHaveNumberOfOptionsException(count, optnumber);
         }
     }
 
@@ -1305,15 +1517,70 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
      * @param optGroup An optional option group which would be searched in isolation instead of all the options under select.
      */
     public void hasAllOptionsInOrder(WebControl element, CompareType compare, String optGroup) {
-        Collection<WebControl> elements = findAllOptions(element, optGroup);
-        Iterator<WebControl> elementsIterator = elements.iterator();
-        SeleniumElement prevOption = (SeleniumElement) elementsIterator.next();
-        SeleniumElement currOption;
-        while (elementsIterator.hasNext()) {
-            currOption = (SeleniumElement) elementsIterator.next();
-            ifAscendingOrDescendingByTextOrValueThenThrowException(compare, prevOption, currOption);
-            prevOption = currOption;
+        boolean byText = compare == CompareType.ASCENDING_BY_TEXT || compare == CompareType.DESCENDING_BY_TEXT;
+        List<SelectOption> snapshot = getOptionSnapshot((SeleniumElement) element, optGroup);
+        List<String> values;
+        if (snapshot != null) {
+            values = snapshot.stream().map(x -> byText ? x.text : x.value).collect(Collectors.toList());
+        } else {
+            values = findAllOptions(element, optGroup).stream()
+                    .map(x -> byText ? ((SeleniumElement) x).getText() : ((SeleniumElement) x).getAttribute(VALUE))
+                    .collect(Collectors.toList());
+        }
+        for (int i = 1; i < values.size(); i++) {
+            ifAscendingOrDescendingByTextOrValueThenThrowException(compare, values.get(i - 1), values.get(i));
+        }
+    }
+
+    /**
+     * Gets the value, text and option group of every option of a select in a single script.
+     *
+     * @param element  The select element.
+     * @param optgroup The optional option group whose options are read instead of all the options under select.
+     * @return The options in document order, or null if they could not be read with a script.
+     */
+    private List<SelectOption> getOptionSnapshot(SeleniumElement element, String optgroup) {
+        try {
+            Object result = executeScript(GET_OPTIONS_SCRIPT, element.getUnderlyingWebElement(), optgroup);
+            if (result instanceof List) {
+                List<SelectOption> snapshot = new ArrayList<>();
+                for (Object option : (List<?>) result) {
+                    List<?> fields = (List<?>) option;
+                    snapshot.add(new SelectOption((String) fields.get(0), (String) fields.get(1), (String) fields.get(2)));
+                }
+
+                return snapshot;
+            }
+        } catch (ScriptExecutionException e) {
+            log.debug("Could not read the options of {} with a script, reading them one by one", element.getSelector());
         }
+
+        return null;
+    }
+
+    /**
+     * Finds an option in a snapshot.
+     *
+     * @param snapshot  The options of the select.
+     * @param select    The method by which the option is identified, either its value, or its visible text.
+     * @param option    The value or text of the option.
+     * @param start     The index of the option from where the search starts.
+     * @param sameGroup Whether the option has to follow the option at start in the same option group.
+     * @return The index of the option, or -1 if it was not found.
+     */
+    private static int indexOfOption(List<SelectOption> snapshot, WebSelectOption select, String option, int start, boolean sameGroup) {
+        String group = snapshot.isEmpty() ? null : snapshot.get(start).group;
+        for (int i = sameGroup ? start + 1 : start; i < snapshot.size(); i++) {
+            SelectOption current = snapshot.get(i);
+            if (sameGroup && !Objects.equals(group, current.group)) {
+                continue;
+            }
+            if (option.equals(select == WebSelectOption.TEXT ? current.text : current.value)) {
+                return i;
+            }
+        }
+
+        return -1;
     }
 
     private Collection<WebControl> findAllOptions(WebControl element, String optgroup) {
@@ -1327,28 +1594,28 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
      * A helper method for hasAllOptionsInOrder containing a switch to check for different cases by text or value.
      *
      * @param compare    The element helping to compare.
-     * @param prevOption The previous selenium option.
-     * @param currOption The current selenium option.
+     * @param prevOption The text or value of the previous option.
+     * @param currOption The text or value of the current option.
      */
-    private void ifAscendingOrDescendingByTextOrValueThenThrowException(CompareType compare, SeleniumElement prevOption, SeleniumElement currOption) {
+    private void ifAscendingOrDescendingByTextOrValueThenThrowException(CompareType compare, String prevOption, String currOption) {
         switch (compare) {
             case ASCENDING_BY_TEXT:
-                if (prevOption.getText().toLowerCase().compareTo(currOption.getText().toLowerCase()) > 0) {
+                if (prevOption.toLowerCase().compareTo(currOption.toLowerCase()) > 0) {
                     throw new ElementsNotInOrderException(compare);
                 }
                 break;
             case DESCENDING_BY_TEXT:
-                if (prevOption.getText().toLowerCase().compareTo(currOption.getText().toLowerCase()) < 0) {
+                if (prevOption.toLowerCase().compareTo(currOption.toLowerCase()) < 0) {
                     throw new ElementsNotInOrderException(compare);
                 }
                 break;
             case ASCENDING_BY_VALUE:
-                if (prevOption.getAttribute(VALUE).toLowerCase().compareTo(currOption.getAttribute(VALUE)) > 0) {
+                if (prevOption.toLowerCase().compareTo(currOption) > 0) {
                     throw new ElementsNotInOrderException(compare);
                 }
                 break;
             case DESCENDING_BY_VALUE:
-                if (prevOption.getAttribute(VALUE).toLowerCase().compareTo(currOption.getAttribute(VALUE)) < 0) {
+                if (prevOption.toLowerCase().compareTo(currOption) < 0) {
                     throw new ElementsNotInOrderException(compare);
                 }
                 break;
@@ -1443,23 +1710,49 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
     }
 
     private Collection<String> findOptions(SeleniumElement element, String selector, ComparisonOption option, String attribute) {
-        Collection<String> elements = null;
-        if (option == ComparisonOption.TEXT) {
-            if (attribute.equalsIgnoreCase(INNERHTML)) {
-                elements = element.
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> normalizeSpacing(((SeleniumElement) e).getText())).collect(Collectors.toList());
-            } else {
-                elements = element.
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> normalizeSpacing(((SeleniumElement) e).getAttribute(attribute))).collect(Collectors.toList());
+        List<String> values = findChildValues(element, selector, option, attribute);
+        return values == null ? null : values.stream().map(StringUtils::normalizeSpacing).collect(Collectors.toList());
+    }
+
+    private Collection<String> findOptionsIgnoringCase(SeleniumElement element, String selector, ComparisonOption option, String attribute) {
+        List<String> values = findChildValues(element, selector, option, attribute);
+        return values == null ? null : values.stream().map(x -> normalizeSpacing(x).toLowerCase()).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the visible text or the named attribute of all children that match a selector.
+     * <p>
+     * The values are read with a single script. Each child is read separately only if the script cannot be executed.
+     *
+     * @param element   The web control whose children are to be read.
+     * @param selector  The css selector that the children will be matched to.
+     * @param option    Whether the children's visible text will be read or an attribute.
+     * @param attribute The attribute that will be read.
+     * @return The values of the children, or null if the comparison option is not supported.
+     */
+    private List<String> findChildValues(SeleniumElement element, String selector, ComparisonOption option, String attribute) {
+        if (option != ComparisonOption.TEXT && option != ComparisonOption.RAW) {
+            return null;
+        }
+
+        boolean visibleText = option == ComparisonOption.TEXT && attribute.equalsIgnoreCase(INNERHTML);
+        try {
+            Object result = executeScript(GET_CHILD_VALUES_SCRIPT, element.getUnderlyingWebElement(), selector, visibleText, attribute);
+            if (result instanceof List) {
+                List<String> values = new ArrayList<>();
+                for (Object value : (List<?>) result) {
+                    values.add(value == null ? null : value.toString());
+                }
+
+                return values;
             }
-        } else if (option == ComparisonOption.RAW) {
-            elements = element.findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector))
-                    .stream().map(x -> normalizeSpacing(((SeleniumElement) x).getAttribute(attribute))).collect(Collectors.toList());
+        } catch (ScriptExecutionException e) {
+            log.debug("Could not read the children of {} with a script, reading them one by one", element.getSelector());
         }
 
-        return elements;
+        return element.findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).stream()
+                .map(x -> visibleText ? ((SeleniumElement) x).getText() : ((SeleniumElement) x).getAttribute(attribute))
+                .collect(Collectors.toList());
     }
 
     /**
@@ -1473,25 +1766,8 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
      * @param attribute The attribute that will be searched.
      */
     public void hasLike(WebControl element, String[] messages, String selector, ComparisonOption option, String attribute) {
-        Collection<String> elements = null;
         Collection<String> values = Arrays.stream(messages).map(x -> normalizeSpacing(x).toLowerCase()).collect(Collectors.toList());
-        if (option == ComparisonOption.TEXT) {
-            if (attribute.equalsIgnoreCase(INNERHTML)) {
-                elements = ((SeleniumElement) element).
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> StringUtils.
-                        normalizeSpacing(((SeleniumElement) e).getText()).toLowerCase()).collect(Collectors.toList());
-            } else {
-                elements = ((SeleniumElement) element).
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> StringUtils.
-                        normalizeSpacing(((SeleniumElement) e).getAttribute(attribute)).toLowerCase()).collect(Collectors.toList());
-            }
-        } else if (option == ComparisonOption.RAW) {
-            elements = ((SeleniumElement) element).findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector))
-                    .stream().map(x -> StringUtils.
-                            normalizeSpacing(((SeleniumElement) x).getAttribute(attribute).toLowerCase())).collect(Collectors.toList());
-        }
+        Collection<String> elements = findOptionsIgnoringCase((SeleniumElement) element, selector, option, attribute);
 
         hasLikeAssertion(elements, values);
     }
@@ -1523,22 +1799,8 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
      * @param attribute The string attribute to get.
      */
     public void doesNotHaveLike(WebControl element, String[] messages, String selector, ComparisonOption option, String attribute) {
-        Collection<String> elements = null;
         Collection<String> values = Arrays.stream(messages).map(x -> normalizeSpacing(x).toLowerCase()).collect(Collectors.toList());
-        if (option == ComparisonOption.TEXT) {
-            if (attribute.equalsIgnoreCase(INNERHTML)) {
-                elements = ((SeleniumElement) element).
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> normalizeSpacing(((SeleniumElement) e).getText()).toLowerCase()).collect(Collectors.toList());
-            } else {
-                elements = ((SeleniumElement) element).
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> normalizeSpacing(((SeleniumElement) e).getAttribute(attribute)).toLowerCase()).collect(Collectors.toList());
-            }
-        } else if (option == ComparisonOption.RAW) {
-            elements = ((SeleniumElement) element).findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector))
-                    .stream().map(x -> normalizeSpacing(((SeleniumElement) x).getAttribute(attribute)).toLowerCase()).collect(Collectors.toList());
-        }
+        Collection<String> elements = findOptionsIgnoringCase((SeleniumElement) element, selector, option, attribute);
         if (elements != null) {
             for (String expectedValue : values) {
                 for (String elementValue : elements) {
@@ -1561,22 +1823,8 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
      * @param attribute The attribute that will be searched.
      */
     public void hasOnly(WebControl element, String[] messages, String selector, ComparisonOption option, String attribute) {
-        Collection<String> elements = null;
         Collection<String> values = Arrays.stream(messages).map(StringUtils::normalizeSpacing).collect(Collectors.toList());
-        if (option == ComparisonOption.TEXT) {
-            if (attribute.equalsIgnoreCase(INNERHTML)) {
-                elements = ((SeleniumElement) element).
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> normalizeSpacing(((SeleniumElement) e).getText())).collect(Collectors.toList());
-            } else {
-                elements = ((SeleniumElement) element).
-                        findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector)).
-                        stream().map(e -> normalizeSpacing(((SeleniumElement) e).getAttribute(attribute))).collect(Collectors.toList());
-            }
-        } else if (option == ComparisonOption.RAW) {
-            elements = ((SeleniumElement) element).findElements(com.ultimatesoftware.aeon.core.common.web.selectors.By.cssSelector(selector))
-                    .stream().map(x -> normalizeSpacing(((SeleniumElement) x).getAttribute(attribute))).collect(Collectors.toList());
-        }
+        Collection<String> elements = findOptions((SeleniumElement) element, selector, option, attribute);
         if (elements != null) {
             for (String value : values) {
                 if (!elements.contains(value)) {
@@ -1964,6 +2212,11 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
         }
     }
 
+    @Override
+    public void commandExecuted(boolean readOnly) {
+        logCollector.drainIfDue();
+    }
+
     /**
      * Sets the action factory.
      *
@@ -1983,46 +2236,27 @@ public class SeleniumAdapter implements IWebAdapter, AutoCloseable {
     }
 
     private void collectSeleniumLogs() {
-        long timeNow = System.currentTimeMillis();
-        loggingPreferences.getEnabledLogTypes().forEach(logType -> {
-            String filename = String.format("%s/%s-%d.log", seleniumLogsDirectory, logType, timeNow);
-            try {
-                List<LogEntry> logEntries = webDriver.manage().logs().get(logType).getAll();
-                List<String> logStrings = logEntries.stream().map(logEntry -> logEntry.toJson().toString()).collect(Collectors.toList());
-                List<Map<String, Object>> logMapList = logEntries.stream().map(logEntry -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("timestamp", logEntry.getTimestamp());
-                    map.put("level", logEntry.getLevel().toString());
-                    map.put("message", logEntry.getMessage());
-                    return map;
-                }).collect(Collectors.toList());
-
-                AeonTestExecution.executionEvent(logType + "LogsCollected", logMapList);
-                writingToLog(filename, logStrings);
-            } catch (Exception e) {
-                log.info("The log type \"{}\" is either not supported or does not exist in this context.", logType);
-            }
-        });
-    }
-
-    private void writingToLog(String filename, List<String> logStrings) throws IOException {
-        File file = new File(filename);
-        file.getParentFile().mkdirs();
-        FileWriter fileWriter = new FileWriter(file);
-        try {
-            for (String logString : logStrings) {
-                fileWriter.write(logString);
-                fileWriter.write('\n');
-            }
-        } catch (IOException e) {
-            log.error("Couldn't write Selenium log entries to " + filename, e);
-        } finally {
-            fileWriter.close();
-        }
+        logCollector.finish();
+        teardown("close Selenium logs", logCollector::close);
     }
 
     private boolean osIsMacOrLinux() {
         return OsCheck.getOperatingSystemType().equals(OsCheck.OSType.MAC_OS)
                 || OsCheck.getOperatingSystemType().equals(OsCheck.OSType.LINUX);
     }
+
+    /**
+     * An option of a select element, as read by a single script.
+     */
+    private static final class SelectOption {
+        private final String value;
+        private final String text;
+        private final String group;
+
+        private SelectOption(String value, String text, String group) {
+            this.value = value;
+            this.text = text;
+            this.group = group;
+        }
+    }
 }
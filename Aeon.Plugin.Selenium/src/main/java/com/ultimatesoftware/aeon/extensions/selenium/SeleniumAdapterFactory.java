@@ -20,6 +20,7 @@ import com.ultimatesoftware.aeon.extensions.selenium.extensions.ISeleniumExtensi
 import com.ultimatesoftware.aeon.extensions.selenium.jquery.JavaScriptFlowExecutor;
 import com.ultimatesoftware.aeon.extensions.selenium.jquery.SeleniumCheckInjectJQueryExecutor;
 import com.ultimatesoftware.aeon.extensions.selenium.jquery.SeleniumJavaScriptFinalizerFactory;
+import org.openqa.selenium.InvalidArgumentException;
 import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.Proxy;
 import org.openqa.selenium.UnexpectedAlertBehaviour;
@@ -73,6 +74,9 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
     private static final String DEVICE_NAME = "deviceName";
     private static final String CHROME_BROWSER = "Chrome";
     private static final String LOGGING_LEVEL_DEBUG = "DEBUG";
+    private static final double DEFAULT_LAUNCH_TIMEOUT = 30;
+    private static final int INITIAL_RETRY_DELAY = 250;
+    private static final int MAX_RETRY_DELAY = 4000;
     private SeleniumConfiguration configuration;
     private static Logger log = LoggerFactory.getLogger(SeleniumAdapterFactory.class);
     protected IBrowserType browserType;
@@ -82,6 +86,7 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
     private String deviceName;
     private String platformVersion;
     private boolean isRemote;
+    private long launchTimeout = (long) (DEFAULT_LAUNCH_TIMEOUT * 1000);
     protected WebDriver driver;
     protected JavaScriptFlowExecutor javaScriptFlowExecutor;
     protected JavaScriptFlowExecutor asyncJavaScriptFlowExecutor;
@@ -115,6 +120,26 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
      * @param configuration The configuration of the adapter.
      */
     protected void prepare(SeleniumConfiguration configuration) {
+        readConfiguration(configuration);
+
+        int sessionPoolSize = (int) configuration.getDouble(SeleniumConfiguration.Keys.SESSION_POOL_SIZE, 0);
+        if (sessionPoolSize > 0 && isSessionPoolSupported()) {
+            acquirePooledBrowser(configuration, sessionPoolSize);
+        } else {
+            prepareBrowser();
+        }
+
+        // Aeon retries every command until its timeout, so an implicit wait would only multiply each retry.
+        driver.manage().timeouts().implicitlyWait(0, TimeUnit.SECONDS);
+
+        //Let plugins know that the product was successfully launched
+        List<ISeleniumExtension> extensions = Aeon.getExtensions(ISeleniumExtension.class);
+        for (ISeleniumExtension extension : extensions) {
+            extension.onAfterLaunch(configuration, driver);
+        }
+    }
+
+    private void readConfiguration(SeleniumConfiguration configuration) {
         this.configuration = configuration;
         configuration.setBrowserType(configuration.getString(WebConfiguration.Keys.BROWSER, CHROME_BROWSER));
         this.browserType = configuration.getBrowserType();
@@ -123,6 +148,7 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
         proxyLocation = configuration.getString(SeleniumConfiguration.Keys.PROXY_LOCATION, "");
         deviceName = configuration.getString(SeleniumConfiguration.Keys.DEVICE_NAME, "");
         platformVersion = configuration.getString(SeleniumConfiguration.Keys.PLATFORM_VERSION, "");
+        launchTimeout = (long) (configuration.getDouble(SeleniumConfiguration.Keys.LAUNCH_TIMEOUT, DEFAULT_LAUNCH_TIMEOUT) * 1000);
 
         try {
             fallbackBrowserSize = BrowserSize.valueOf(configuration.getString(SeleniumConfiguration.Keys.BROWSER_MAXIMIZE_FALLBACK, "FULL_HD"));
@@ -144,19 +170,80 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
             }
         }
 
-        javaScriptFlowExecutor = new SeleniumCheckInjectJQueryExecutor(new SeleniumJavaScriptFinalizerFactory(), Duration.ofSeconds(5));
-        asyncJavaScriptFlowExecutor = new SeleniumCheckInjectJQueryExecutor(new SeleniumJavaScriptFinalizerFactory(), Duration.ofSeconds(5), true);
+        boolean jQueryNoConflict = configuration.getBoolean(SeleniumConfiguration.Keys.JQUERY_NO_CONFLICT, false);
+        javaScriptFlowExecutor = new SeleniumCheckInjectJQueryExecutor(new SeleniumJavaScriptFinalizerFactory(jQueryNoConflict));
+        asyncJavaScriptFlowExecutor = new SeleniumCheckInjectJQueryExecutor(new SeleniumJavaScriptFinalizerFactory(jQueryNoConflict), true);
 
         isRemote = seleniumHubUrl != null;
         finalSeleniumHubUrl = seleniumHubUrl;
+    }
 
-        prepareBrowser();
+    /**
+     * Gets whether the browsers of this factory can be kept in the {@link BrowserSessionPool} between tests.
+     *
+     * @return True if browser sessions can be reset and reused.
+     */
+    protected boolean isSessionPoolSupported() {
+        return true;
+    }
 
-        //Let plugins know that the product was successfully launched
-        List<ISeleniumExtension> extensions = Aeon.getExtensions(ISeleniumExtension.class);
-        for (ISeleniumExtension extension : extensions) {
-            extension.onAfterLaunch(configuration, driver);
+    private void acquirePooledBrowser(SeleniumConfiguration configuration, int sessionPoolSize) {
+        setLoggingConfiguration();
+
+        double maxAge = configuration.getDouble(SeleniumConfiguration.Keys.SESSION_POOL_MAX_AGE, 0);
+        int maxUses = (int) configuration.getDouble(SeleniumConfiguration.Keys.SESSION_POOL_MAX_USES, 0);
+        driver = BrowserSessionPool.getInstance().acquire(
+                getSessionKey(configuration),
+                sessionPoolSize,
+                maxAge > 0 ? Duration.ofMillis((long) (maxAge * 1000)) : null,
+                maxUses,
+                this::launchPooledBrowser);
+    }
+
+    /**
+     * Creates the factory that launches a browser for the {@link BrowserSessionPool} in the background.
+     * <p>
+     * Subclasses that launch browsers of their own return an instance of their class.
+     *
+     * @return A new factory.
+     */
+    protected SeleniumAdapterFactory createPooledBrowserFactory() {
+        return new SeleniumAdapterFactory();
+    }
+
+    private WebDriver launchPooledBrowser() {
+        // Sessions are launched in the background, so they get a factory of their own with the settings read by this
+        // one, as reading the configuration again would change it while the test uses it.
+        SeleniumAdapterFactory factory = createPooledBrowserFactory();
+        factory.copySettings(this);
+        factory.prepareBrowser();
+        return factory.driver;
+    }
+
+    private void copySettings(SeleniumAdapterFactory factory) {
+        configuration = factory.configuration;
+        browserType = factory.browserType;
+        browserAcceptedLanguageCodes = factory.browserAcceptedLanguageCodes;
+        useMobileUserAgent = factory.useMobileUserAgent;
+        proxyLocation = factory.proxyLocation;
+        deviceName = factory.deviceName;
+        platformVersion = factory.platformVersion;
+        launchTimeout = factory.launchTimeout;
+        fallbackBrowserSize = factory.fallbackBrowserSize;
+        seleniumHubUrl = factory.seleniumHubUrl;
+        javaScriptFlowExecutor = factory.javaScriptFlowExecutor;
+        asyncJavaScriptFlowExecutor = factory.asyncJavaScriptFlowExecutor;
+        isRemote = factory.isRemote;
+        finalSeleniumHubUrl = factory.finalSeleniumHubUrl;
+    }
+
+    private String getSessionKey(SeleniumConfiguration configuration) {
+        StringBuilder key = new StringBuilder(browserType.getKey()).append('|').append(seleniumHubUrl);
+        for (SeleniumConfiguration.Keys setting : SeleniumConfiguration.Keys.values()) {
+            key.append('|').append(configuration.getString(setting, ""));
         }
+
+        return key.toString();
     }
 
     /**
@@ -203,31 +290,46 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
 
     /**
      * Gets the driver.
+     * <p>
+     * Failed attempts are retried with an increasing delay until the launch timeout has passed. Errors that would
+     * fail the same way on every attempt, such as a missing driver executable or invalid capabilities, are not retried.
      *
      * @param createDriver Supplier of web driver
      * @return Web driver
      */
     protected WebDriver getDriver(Supplier<WebDriver> createDriver) {
-        int i = 0;
-        int numberOfRetries = 30;
+        long deadline = System.currentTimeMillis() + launchTimeout;
+        int delay = INITIAL_RETRY_DELAY;
+        int attempt = 1;
 
         while (true) {
             try {
                 return createDriver.get();
             } catch (Exception e) {
-                log.trace("Web driver instantiation failed: {}" + e.getMessage(), e);
+                log.trace("Web driver instantiation failed: {}", e.getMessage(), e);
 
-                if (i < numberOfRetries - 1) {
-                    Sleep.getInstance().wait(1000);
-                    log.trace("Retrying");
-                    i++;
-                } else {
+                long remaining = deadline - System.currentTimeMillis();
+                if (!isRetryable(e) || remaining <= 0) {
                     throw new UnableToCreateDriverException(e);
                 }
+
+                int wait = (int) Math.min(delay, remaining);
+                attempt++;
+                log.trace("Retrying in {} ms, attempt {}", wait, attempt);
+                Sleep.getInstance().wait(wait);
+                delay = Math.min(delay * 2, MAX_RETRY_DELAY);
             }
         }
     }
 
+    private static boolean isRetryable(Exception e) {
+        return !(e instanceof IllegalArgumentException
+                || e instanceof IllegalStateException
+                || e instanceof InvalidArgumentException
+                || e instanceof ConfigurationException
+                || e instanceof UnsupportedPlatformException);
+    }
+
     private void setLoggingCapabilities(MutableCapabilities target) {
         target.setCapability(CapabilityType.LOGGING_PREFS, loggingPreferences);
     }
@@ -283,7 +385,6 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
 
     private void launchFirefox() {
         String marionetteDirectory = configuration.getString(SeleniumConfiguration.Keys.MARIONETTE_DIRECTORY, null);
-        long timeout = (long) configuration.getDouble(Configuration.Keys.TIMEOUT, 10);
 
         driver = getDriver(() -> {
             if (isRemote) {
@@ -298,7 +399,6 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
 
             return driver;
         });
-        driver.manage().timeouts().implicitlyWait(timeout, TimeUnit.SECONDS);
     }
 
     private org.openqa.selenium.Capabilities getFirefoxCapabilities() {
@@ -485,7 +585,6 @@ public class SeleniumAdapterFactory implements IAdapterExtension {
             capabilities = (DesiredCapabilities) getMobileCapabilities("Android", CHROME_BROWSER);
         }
         driver = getDriver(() -> new RemoteWebDriver(finalSeleniumHubUrl, capabilities));
-        driver.manage().timeouts().implicitlyWait(20, TimeUnit.SECONDS);
         driver.manage().timeouts().pageLoadTimeout(20, TimeUnit.SECONDS);
     }
 
@@ -34,6 +34,14 @@ public class SeleniumConfiguration extends WebConfiguration {
         SELENIUM_GRID_URL("aeon.selenium.grid.url"),
         ENSURE_CLEAN_ENVIRONMENT("aeon.selenium.ie.ensure_clean_environment"),
         BROWSER_MAXIMIZE_FALLBACK("aeon.browser.maximize.fallback"),
+        JQUERY_NO_CONFLICT("aeon.selenium.jquery.no_conflict"),
+        LAUNCH_TIMEOUT("aeon.selenium.launch.timeout"),
+        TEARDOWN_ASYNC("aeon.selenium.teardown.async"),
+
+        // Session pool
+        SESSION_POOL_SIZE("aeon.selenium.session_pool.size"),
+        SESSION_POOL_MAX_AGE("aeon.selenium.session_pool.max_age"),
+        SESSION_POOL_MAX_USES("aeon.selenium.session_pool.max_uses"),
 
         // Browsers
         CHROME_DIRECTORY("aeon.selenium.chrome.driver"),
@@ -64,7 +72,11 @@ public class SeleniumConfiguration extends WebConfiguration {
         LOGGING_DRIVER("aeon.selenium.logging.type.driver"),
         LOGGING_PERFORMANCE("aeon.selenium.logging.type.performance"),
         LOGGING_SERVER("aeon.selenium.logging.type.server"),
-        LOGGING_DIRECTORY("aeon.selenium.logging.directory");
+        LOGGING_DIRECTORY("aeon.selenium.logging.directory"),
+        LOGGING_INTERVAL("aeon.selenium.logging.interval"),
+        LOGGING_MAX_ENTRIES("aeon.selenium.logging.max_entries"),
+        LOGGING_REPORT_ENTRIES("aeon.selenium.logging.report_entries"),
+        LOGGING_GZIP("aeon.selenium.logging.gzip");
 
         private final String key;
 
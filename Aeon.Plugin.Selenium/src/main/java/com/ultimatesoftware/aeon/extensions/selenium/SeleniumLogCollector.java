@@ -0,0 +1,287 @@
+package com.ultimatesoftware.aeon.extensions.selenium;
+
+import com.ultimatesoftware.aeon.core.testabstraction.product.AeonTestExecution;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Collects the Selenium logs of a browser session into files while the test runs.
+ * <p>
+ * The enabled log types are drained between commands once an interval has passed, so that the driver does not hold
+ * the logs of a whole test and they are never read at once. The logs are read on the thread that executes the
+ * commands, as the driver must not be used by two threads at once. Entries below the level of their log type are
+ * skipped, and every log type writes at most a fixed number of entries. A summary of every log type is published as
+ * an execution event, the most recent entries only if the report asks for them.
+ */
+public class SeleniumLogCollector {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static Logger log = LoggerFactory.getLogger(SeleniumLogCollector.class);
+
+    private final WebDriver driver;
+    private final String directory;
+    private final boolean gzip;
+    private final int maxEntries;
+    private final int reportEntries;
+    private final long timeStarted;
+    private final Map<String, LogFile> logFiles = new LinkedHashMap<>();
+    private Duration interval = Duration.ZERO;
+    private long lastDrained;
+    private boolean finished;
+
+    /**
+     * Initializes a new instance of the {@link SeleniumLogCollector} class.
+     *
+     * @param driver             The driver whose logs are collected.
+     * @param loggingPreferences The enabled log types and their levels.
+     * @param directory          The directory the log files are written to.
+     * @param gzip               Whether the log files are compressed.
+     * @param maxEntries         The number of entries written per log type, or 0 to write all entries.
+     * @param reportEntries      The number of most recent entries per log type that are published, or 0 to publish
+     *                           only the summary.
+     */
+    public SeleniumLogCollector(
+            WebDriver driver,
+            LoggingPreferences loggingPreferences,
+            String directory,
+            boolean gzip,
+            int maxEntries,
+            int reportEntries
+    ) {
+        this.driver = driver;
+        this.directory = directory;
+        this.gzip = gzip;
+        this.maxEntries = maxEntries;
+        this.reportEntries = reportEntries;
+        this.timeStarted = System.currentTimeMillis();
+
+        for (String logType : loggingPreferences.getEnabledLogTypes()) {
+            logFiles.put(logType, new LogFile(logType, loggingPreferences.getLevel(logType)));
+        }
+    }
+
+    /**
+     * Starts draining the logs between commands.
+     *
+     * @param interval The least time between two drains, or zero to drain only when the collector is finished.
+     */
+    public synchronized void start(Duration interval) {
+        this.interval = interval.isNegative() ? Duration.ZERO : interval;
+        this.lastDrained = System.nanoTime();
+    }
+
+    /**
+     * Drains the logs if the interval has passed since the last drain.
+     * <p>
+     * It is called after every command, on the thread that executed it.
+     */
+    public synchronized void drainIfDue() {
+        if (logFiles.isEmpty() || interval.isZero() || System.nanoTime() - lastDrained < interval.toNanos()) {
+            return;
+        }
+
+        drain();
+    }
+
+    /**
+     * Reads the entries that were logged since the last drain and writes them to the log files.
+     */
+    public synchronized void drain() {
+        if (finished) {
+            return;
+        }
+
+        lastDrained = System.nanoTime();
+
+        for (LogFile logFile : logFiles.values()) {
+            if (logFile.supported) {
+                drain(logFile);
+            }
+        }
+    }
+
+    /**
+     * Drains the logs one last time and publishes a summary and, if enabled, the most recent entries of every log type.
+     * <p>
+     * It has to be called before the driver quits, as the logs are gone afterwards.
+     */
+    public synchronized void finish() {
+        if (finished) {
+            return;
+        }
+
+        drain();
+        finished = true;
+
+        for (LogFile logFile : logFiles.values()) {
+            if (!logFile.supported) {
+                continue;
+            }
+
+            if (reportEntries > 0) {
+                AeonTestExecution.executionEvent(logFile.logType + "LogsCollected", new ArrayList<>(logFile.recentEntries));
+            }
+
+            AeonTestExecution.executionEvent(logFile.logType + "LogsSummary", logFile.getSummary());
+        }
+    }
+
+    /**
+     * Flushes and closes the log files.
+     */
+    public synchronized void close() {
+        for (LogFile logFile : logFiles.values()) {
+            if (logFile.writer == null) {
+                continue;
+            }
+
+            try {
+                logFile.writer.close();
+            } catch (IOException e) {
+                log.error("Couldn't write Selenium log entries to " + logFile.path, e);
+            }
+
+            logFile.writer = null;
+        }
+    }
+
+    private void drain(LogFile logFile) {
+        List<LogEntry> logEntries;
+        try {
+            logEntries = driver.manage().logs().get(logFile.logType).getAll();
+        } catch (Exception e) {
+            // A log type that could be read before may fail for a moment, e.g. while the page navigates.
+            if (logFile.drained && !isUnsupportedCommand(e)) {
+                log.debug("Couldn't read the log type \"" + logFile.logType + "\", it is read again with the next drain.", e);
+                return;
+            }
+
+            log.info("The log type \"{}\" is either not supported or does not exist in this context.", logFile.logType);
+            logFile.supported = false;
+            return;
+        }
+
+        logFile.drained = true;
+
+        for (LogEntry logEntry : logEntries) {
+            if (logEntry.getLevel().intValue() < logFile.level.intValue()) {
+                continue;
+            }
+
+            logFile.entries++;
+            if (maxEntries > 0 && logFile.written >= maxEntries) {
+                continue;
+            }
+
+            write(logFile, logEntry);
+            remember(logFile, logEntry);
+        }
+    }
+
+    private void write(LogFile logFile, LogEntry logEntry) {
+        if (logFile.failed) {
+            return;
+        }
+
+        try {
+            if (logFile.writer == null) {
+                logFile.writer = open(logFile.path);
+            }
+
+            logFile.writer.write(logEntry.toJson().toString());
+            logFile.writer.write('\n');
+            logFile.written++;
+        } catch (IOException e) {
+            log.error("Couldn't write Selenium log entries to " + logFile.path, e);
+            logFile.failed = true;
+        }
+    }
+
+    private void remember(LogFile logFile, LogEntry logEntry) {
+        if (reportEntries <= 0) {
+            return;
+        }
+
+        if (logFile.recentEntries.size() >= reportEntries) {
+            logFile.recentEntries.removeFirst();
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("timestamp", logEntry.getTimestamp());
+        map.put("level", logEntry.getLevel().toString());
+        map.put("message", logEntry.getMessage());
+        logFile.recentEntries.addLast(map);
+    }
+
+    private Writer open(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+
+        OutputStream stream = Files.newOutputStream(path);
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, BUFFER_SIZE);
+        }
+
+        return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static boolean isUnsupportedCommand(Exception e) {
+        return e instanceof UnsupportedCommandException || e instanceof UnsupportedOperationException;
+    }
+
+    private class LogFile {
+
+        private final String logType;
+        private final Level level;
+        private final Path path;
+        private final Deque<Map<String, Object>> recentEntries = new ArrayDeque<>();
+        private Writer writer;
+        private boolean supported = true;
+        private boolean drained;
+        private boolean failed;
+        private int entries;
+        private int written;
+
+        LogFile(String logType, Level level) {
+            this.logType = logType;
+            this.level = level == null ? Level.ALL : level;
+            this.path = Paths.get(String.format("%s/%s-%d.log%s", directory, logType, timeStarted, gzip ? ".gz" : ""));
+        }
+
+        Map<String, Object> getSummary() {
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("logType", logType);
+            summary.put("entries", entries);
+            summary.put("written", written);
+            summary.put("dropped", entries - written);
+            summary.put("file", written > 0 ? path.toString() : null);
+            return summary;
+        }
+    }
+}
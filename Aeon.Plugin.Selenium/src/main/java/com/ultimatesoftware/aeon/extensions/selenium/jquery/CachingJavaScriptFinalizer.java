@@ -0,0 +1,64 @@
+package com.ultimatesoftware.aeon.extensions.selenium.jquery;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the JavaScript prepared by its successor, so that a script that is executed again is not prepared again.
+ * <p>
+ * The scripts of the adapter only depend on the selector of an element, values such as the text typed into an
+ * element are passed as arguments, so that they are never kept here. Prepared scripts are shared by all sessions.
+ * Once the cache is full, the least recently used script is dropped.
+ */
+public class CachingJavaScriptFinalizer extends JavaScriptFinalizer {
+    static final int MAX_SCRIPTS = 256;
+
+    private static final Map<String, String> PREPARED_SCRIPTS = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_SCRIPTS;
+        }
+    };
+
+    private final String keyPrefix;
+
+    /**
+     * Initializes a new instance of the {@link CachingJavaScriptFinalizer} class.
+     *
+     * @param successor The finalizer whose prepared scripts are cached.
+     * @param options   The options the successor was created with, scripts prepared with other options are cached separately.
+     */
+    CachingJavaScriptFinalizer(IJavaScriptFinalizer successor, JavaScriptFinalizerOptions options) {
+        super(successor);
+        this.keyPrefix = options.name() + ':';
+    }
+
+    /**
+     * Specifies the particular preparation formatting.
+     *
+     * @param javaScript The JavaScript code to format.
+     * @return Formatted JavaScript code.
+     * @throws IllegalArgumentException If {@code javaScript} is null.
+     */
+    @Override
+    public String prepare(String javaScript) {
+        if (javaScript == null) {
+            throw new IllegalArgumentException("javaScript");
+        }
+
+        String key = keyPrefix + javaScript;
+        String prepared;
+        synchronized (PREPARED_SCRIPTS) {
+            prepared = PREPARED_SCRIPTS.get(key);
+        }
+
+        if (prepared == null) {
+            prepared = successor.prepare(javaScript);
+            synchronized (PREPARED_SCRIPTS) {
+                PREPARED_SCRIPTS.put(key, prepared);
+            }
+        }
+
+        return prepared;
+    }
+}
@@ -1,49 +1,30 @@
 package com.ultimatesoftware.aeon.extensions.selenium.jquery;
 
 /**
- * Wraps JavaScript within a code to inject jquery.
+ * Prepends the jquery shipped with the plugin to JavaScript that needs it, so that it is injected by the same script.
  */
 public class InjectJQueryScripter extends JavaScriptFinalizer {
-    /* JavaScript to be wrapped around JQuery strings
-     *
-     * var aeonCallback = arguments[arguments.length-1];
-     * var aeonNonCallbackArguments = (arguments.length == 1) ? [] : Array.prototype.slice.call(arguments, 0, arguments.length-2);
-     * function aeonFunction() {
-     *     // insert code here
-     * }
-     * var aeonJQueryLoaded = false;
-     * function aeonOnFinishJQueryLoading() {
-     *     if (aeonJQueryLoaded) return;
-     *     aeonJQueryLoaded = true;
-     *     var $ = window.jquery;
-     *     aeonCallback(aeonFunction(aeonNonCallbackArguments));
-     * }
-     * if(!window.jquery) {
-     *     var script = document.createElement('script');
-     *     script.type = 'text/javascript';
-     *     script.src = 'https://ajax.googleapis.com/ajax/libs/jquery/1.11.1/jquery.min.js';
-     *     script.onreadystatechange= function () { if (this.readyState == 'loaded' || this.readyState == 'complete') aeonOnFinishJQueryLoading(); };
-     *     script.onload = aeonOnFinishJQueryLoading;
-     *     document.getElementsByTagName('head')[0].appendChild(script);
-     * } else
-     *     aeonCallback(aeonFunction(aeonNonCallbackArguments));
-     */
-    private static final String NEED_JQUERY_SCRIPT_BEFORE = "var aeonCallback=arguments[arguments.length-1];var aeonNonCallbackArguments=arguments.length==1?[]:Array.prototype.slice.call(arguments,0,arguments.length-2);function aeonFunction(){";
-    private static final String NEED_JQUERY_SCRIPT_AFTER = "}var aeonJQueryLoaded=false;function aeonOnFinishJQueryLoading(){if(aeonJQueryLoaded)return;aeonJQueryLoaded=true;var $=window.jquery;aeonCallback(aeonFunction(aeonNonCallbackArguments))}" +
-            "if(!window.jquery){var script=document.createElement('script');script.type='text/javascript';script.src='https://ajax.googleapis.com/ajax/libs/jquery/1.11.1/jquery.min.js';script.onreadystatechange=function(){if(this.readyState=='loaded'||this.readyState=='complete')" +
-            "aeonOnFinishJQueryLoading()};script.onload=aeonOnFinishJQueryLoading;document.getElementsByTagName('head')[0].appendChild(script)}else aeonCallback(aeonFunction(aeonNonCallbackArguments));";
+    private static final String JQUERY = "/jquery.min.js";
 
-    /* JavaScript to be wrapped around non-jQuery strings
+    /* JavaScript to be wrapped around the bundled jquery
      *
-     * var aeonCallback = arguments[arguments.length-1];
-     * var aeonNonCallbackArguments = (arguments.length == 1) ? [] : Array.prototype.slice.call(arguments, 0, arguments.length-2);
-     * function aeonFunction() {
-     *     // insert code here
+     * var jQuery = window.jQuery || window.aeonJQuery;
+     * if (!jQuery) {
+     *     // insert jquery here
+     *     jQuery = window.jQuery;
+     *     // andSelf was removed in jquery 3, but is still offered by ByJQuery
+     *     jQuery.fn.andSelf = jQuery.fn.addBack;
+     *     // only if the no-conflict namespace is used
+     *     window.aeonJQuery = jQuery.noConflict(true);
      * }
-     * aeonCallback(aeonFunction(aeonNonCallbackArguments));
+     * var $ = jQuery;
      */
-    private static final String DO_NOT_NEED_JQUERY_SCRIPT_BEFORE = "var aeonCallback=arguments[arguments.length-1];var aeonNonCallbackArguments=arguments.length==1?[]:Array.prototype.slice.call(arguments,0,arguments.length-2);function aeonFunction(){";
-    private static final String DO_NOT_NEED_JQUERY_SCRIPT_AFTER = "}aeonCallback(aeonFunction(aeonNonCallbackArguments));";
+    private static final String INJECT_JQUERY_SCRIPT_BEFORE = "var jQuery=window.jQuery||window.aeonJQuery;if(!jQuery){";
+    private static final String INJECT_JQUERY_SCRIPT_AFTER = "\njQuery=window.jQuery;jQuery.fn.andSelf=jQuery.fn.addBack;";
+    private static final String NO_CONFLICT_SCRIPT = "window.aeonJQuery=jQuery.noConflict(true);";
+    private static final String INJECT_JQUERY_SCRIPT_END = "}var $=jQuery;";
+
+    private final boolean noConflict;
 
     /**
      * Initializes a new instance of the {@link InjectJQueryScripter} class.
@@ -51,7 +32,18 @@ public class InjectJQueryScripter extends JavaScriptFinalizer {
      * @param successor The next finalizer for formatting.
      */
     InjectJQueryScripter(IJavaScriptFinalizer successor) {
+        this(successor, false);
+    }
+
+    /**
+     * Initializes a new instance of the {@link InjectJQueryScripter} class.
+     *
+     * @param successor  The next finalizer for formatting.
+     * @param noConflict Whether the injected jquery is kept in {@code window.aeonJQuery} instead of replacing {@code $} and {@code jQuery} of the page.
+     */
+    InjectJQueryScripter(IJavaScriptFinalizer successor, boolean noConflict) {
         super(successor);
+        this.noConflict = noConflict;
     }
 
     /**
@@ -67,8 +59,11 @@ public class InjectJQueryScripter extends JavaScriptFinalizer {
             throw new IllegalArgumentException("javaScript");
         }
 
-        return javaScript.contains("$(") ?
-                NEED_JQUERY_SCRIPT_BEFORE + successor.prepare(javaScript) + NEED_JQUERY_SCRIPT_AFTER :
-                DO_NOT_NEED_JQUERY_SCRIPT_BEFORE + successor.prepare(javaScript) + DO_NOT_NEED_JQUERY_SCRIPT_AFTER;
+        if (!javaScript.contains("$(") && !javaScript.contains("jQuery(")) {
+            return successor.prepare(javaScript);
+        }
+
+        return INJECT_JQUERY_SCRIPT_BEFORE + JavaScriptResources.get(JQUERY) + INJECT_JQUERY_SCRIPT_AFTER +
+                (noConflict ? NO_CONFLICT_SCRIPT : "") + INJECT_JQUERY_SCRIPT_END + successor.prepare(javaScript);
     }
 }
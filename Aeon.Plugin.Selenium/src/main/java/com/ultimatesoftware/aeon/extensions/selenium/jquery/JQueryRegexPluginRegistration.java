@@ -1,9 +1,13 @@
 package com.ultimatesoftware.aeon.extensions.selenium.jquery;
 
+import static com.ultimatesoftware.aeon.core.common.helpers.StringUtils.minimizeWhiteSpace;
+
 /**
  * Adds the :regex jquery expression, if needed.
  */
 public class JQueryRegexPluginRegistration extends JavaScriptFinalizer {
+    private static final String REGEX_PLUGIN = "/jquery-regex.js";
+
     /**
      * Initializes a new instance of the {@link JQueryRegexPluginRegistration} class.
      *
@@ -26,21 +30,8 @@ public class JQueryRegexPluginRegistration extends JavaScriptFinalizer {
             throw new IllegalArgumentException("javaScript");
         }
 
-        /* if(!jquery.expr[':'].regex) {
-         *     jquery.expr[':'].regex = function(elem, index, match) {
-         *         var matchParams = match[3].split(','),
-         *             validLabels = /^(data|css):/,
-         *             attr = {
-         *                 method: matchParams[0].match(validLabels) ? matchParams[0].split(':')[0] : 'attr',
-         *                 property: matchParams.shift().replace(validLabels,'')
-         *             },
-         *             regexFlags = 'ig',
-         *             regex = new RegExp(matchParams.join('').replace(/^\s+|\s+$/g,''), regexFlags);
-         *         return regex.test(jquery(elem)[attr.method](attr.property));
-         *     }
-         * }
-         */
-        return javaScript.contains(":regex") ? ("if(!jquery.expr[':'].regex)jquery.expr[':'].regex=function(elem,index,match){var matchParams=match[3].split(','),validLabels=/^(data|css):/,attr={method:matchParams[0].match(validLabels)?matchParams[0].split(':')[0]:'attr',property:matchParams.shift().replace(validLabels,'')}," +
-                "regexFlags='ig',regex=new RegExp(matchParams.join('').replace(/^\\s+|\\s+$/g,''),regexFlags);return regex.test(jquery(elem)[attr.method](attr.property))};" + successor.prepare(javaScript)) : successor.prepare(javaScript);
+        return javaScript.contains(":regex") ?
+                minimizeWhiteSpace(JavaScriptResources.get(REGEX_PLUGIN)) + successor.prepare(javaScript) :
+                successor.prepare(javaScript);
     }
 }
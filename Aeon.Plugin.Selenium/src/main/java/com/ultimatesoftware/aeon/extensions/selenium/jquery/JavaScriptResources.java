@@ -0,0 +1,50 @@
+package com.ultimatesoftware.aeon.extensions.selenium.jquery;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the JavaScript shipped with the plugin, once per JVM.
+ */
+final class JavaScriptResources {
+
+    private static Logger log = LoggerFactory.getLogger(JavaScriptResources.class);
+    private static final Map<String, String> SCRIPTS = new ConcurrentHashMap<>();
+
+    private JavaScriptResources() {
+    }
+
+    /**
+     * Gets a script from the class path.
+     *
+     * @param path The absolute path of the script on the class path.
+     * @return The content of the script, lines separated by line feeds.
+     * @throws IllegalStateException If the script cannot be read.
+     */
+    static String get(String path) {
+        return SCRIPTS.computeIfAbsent(path, JavaScriptResources::read);
+    }
+
+    private static String read(String path) {
+        InputStream stream = JavaScriptResources.class.getResourceAsStream(path);
+        if (stream == null) {
+            throw new IllegalStateException("Script not found on class path: " + path);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.joining("\n"));
+        } catch (IOException e) {
+            log.error("Problem reading script {}", path);
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -4,55 +4,81 @@ import com.ultimatesoftware.aeon.extensions.selenium.QuadFunction;
 
 import java.time.Duration;
 
-
 /**
  * Class to check injected jquery execution flow.
  */
 public class SeleniumCheckInjectJQueryExecutor extends JavaScriptFlowExecutor {
-    private Duration timeout;
+    static final String JQUERY_MISSING = "aeon:jquery-missing";
+    private static final String JQUERY_GUARD = "var jQuery=window.jQuery||window.aeonJQuery;if(!jQuery)return '" + JQUERY_MISSING + "';var $=jQuery;";
+    private static final String ASYNC_JQUERY_GUARD = "var jQuery=window.jQuery||window.aeonJQuery;if(!jQuery){arguments[arguments.length-1]('" + JQUERY_MISSING + "');return;}var $=jQuery;";
+
     private final boolean executeAsync;
 
     /**
      * Constructor for the Selenium check inject jquery executor with given parameters.
      *
      * @param finalizerFactory The javascript finalizer factory to be set.
-     * @param timeout          The timeout duration to be set.
+     */
+    public SeleniumCheckInjectJQueryExecutor(IJavaScriptFinalizerFactory finalizerFactory) {
+        this(finalizerFactory, false);
+    }
+
+    /**
+     * Constructor for the Selenium check inject jquery executor with given parameters.
+     *
+     * @param finalizerFactory The javascript finalizer factory to be set.
+     * @param executeAsync     Execute scripts asynchronously.
      */
+    public SeleniumCheckInjectJQueryExecutor(IJavaScriptFinalizerFactory finalizerFactory,
+                                             boolean executeAsync) {
+        super(finalizerFactory);
+        this.executeAsync = executeAsync;
+    }
+
+    /**
+     * Constructor for the Selenium check inject jquery executor with given parameters.
+     *
+     * @param finalizerFactory The javascript finalizer factory to be set.
+     * @param timeout          Ignored, jQuery is injected by the script that uses it instead of being waited for.
+     * @deprecated Use {@link #SeleniumCheckInjectJQueryExecutor(IJavaScriptFinalizerFactory)} instead.
+     */
+    @Deprecated
     public SeleniumCheckInjectJQueryExecutor(IJavaScriptFinalizerFactory finalizerFactory,
                                              Duration timeout) {
-        this(finalizerFactory, timeout, false);
+        this(finalizerFactory, false);
     }
 
     /**
      * Constructor for the Selenium check inject jquery executor with given parameters.
      *
      * @param finalizerFactory The javascript finalizer factory to be set.
-     * @param timeout          The timeout duration to be set.
+     * @param timeout          Ignored, jQuery is injected by the script that uses it instead of being waited for.
      * @param executeAsync     Execute scripts asynchronously.
+     * @deprecated Use {@link #SeleniumCheckInjectJQueryExecutor(IJavaScriptFinalizerFactory, boolean)} instead.
      */
+    @Deprecated
     public SeleniumCheckInjectJQueryExecutor(IJavaScriptFinalizerFactory finalizerFactory,
                                              Duration timeout,
                                              boolean executeAsync) {
-        super(finalizerFactory);
-        this.timeout = timeout;
-        this.executeAsync = executeAsync;
+        this(finalizerFactory, executeAsync);
     }
 
     @Override
     public QuadFunction<IScriptExecutor, String, Iterable<Object>, Object> getExecutor() {
         return (executor, script, args) -> {
             if (script.contains("$(") || script.contains("jQuery(")) {
-                boolean hasJQuery = (boolean) (executor.executeScript("if(window.jQuery)return true;return false;"));
-                if (hasJQuery) {
-                    if (executeAsync) {
-                        return executor.executeAsyncScript(getFinalizer().apply(JavaScriptFinalizerOptions.NONE).prepare(script), args);
-                    } else {
-                        return executor.executeScript(getFinalizer().apply(JavaScriptFinalizerOptions.NONE).prepare(script), args);
-                    }
+                // The script reports a missing jQuery itself, so that no separate check is needed.
+                String prepared = getFinalizer().apply(JavaScriptFinalizerOptions.NONE).prepare(script);
+                Object result = executeAsync ?
+                        executor.executeAsyncScript(ASYNC_JQUERY_GUARD + prepared, args) :
+                        executor.executeScript(JQUERY_GUARD + prepared, args);
+                if (!JQUERY_MISSING.equals(result)) {
+                    return result;
                 }
 
-                executor.setTimeout(timeout);
-                return executor.executeAsyncScript(getFinalizer().apply(JavaScriptFinalizerOptions.INCLUDE_JQUERY_INJECTION).prepare(script), args);
+                // The bundled jquery is injected by the same script that uses it.
+                String injecting = getFinalizer().apply(JavaScriptFinalizerOptions.INCLUDE_JQUERY_INJECTION).prepare(script);
+                return executeAsync ? executor.executeAsyncScript(injecting, args) : executor.executeScript(injecting, args);
             }
 
             if (executeAsync) {
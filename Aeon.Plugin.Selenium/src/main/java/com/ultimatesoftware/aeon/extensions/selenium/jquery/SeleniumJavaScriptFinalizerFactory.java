@@ -4,16 +4,36 @@ package com.ultimatesoftware.aeon.extensions.selenium.jquery;
  * The default {@link IJavaScriptFinalizerFactory} implementation for Web.
  */
 public class SeleniumJavaScriptFinalizerFactory implements IJavaScriptFinalizerFactory {
+    private final IJavaScriptFinalizer finalizer;
+    private final IJavaScriptFinalizer injectingFinalizer;
+
+    /**
+     * Initializes a new instance of the {@link SeleniumJavaScriptFinalizerFactory} class.
+     */
+    public SeleniumJavaScriptFinalizerFactory() {
+        this(false);
+    }
+
+    /**
+     * Initializes a new instance of the {@link SeleniumJavaScriptFinalizerFactory} class.
+     *
+     * @param noConflict Whether injected jquery is kept in its own namespace instead of replacing {@code $} and {@code jQuery} of the page.
+     */
+    public SeleniumJavaScriptFinalizerFactory(boolean noConflict) {
+        IJavaScriptFinalizer jQueryRegexPluginRegistration = new JQueryRegexPluginRegistration(new JavaScriptMinimizer());
+        this.finalizer = new CachingJavaScriptFinalizer(jQueryRegexPluginRegistration, JavaScriptFinalizerOptions.NONE);
+        this.injectingFinalizer = new InjectJQueryScripter(this.finalizer, noConflict);
+    }
+
     /**
      * Creates an instance for the JavaScript finalizer.
+     * <p>
+     * The finalizers are shared by all calls, the scripts they prepare are cached.
      *
      * @param options The options.
-     * @return A new {@link IJavaScriptFinalizerFactory} object.
+     * @return The {@link IJavaScriptFinalizer} for the options.
      */
     public final IJavaScriptFinalizer createInstance(JavaScriptFinalizerOptions options) {
-        IJavaScriptFinalizer jQueryRegexPluginRegistration = new JQueryRegexPluginRegistration(new JavaScriptMinimizer());
-
-        return options == JavaScriptFinalizerOptions.INCLUDE_JQUERY_INJECTION ?
-                new InjectJQueryScripter(jQueryRegexPluginRegistration) : jQueryRegexPluginRegistration;
+        return options == JavaScriptFinalizerOptions.INCLUDE_JQUERY_INJECTION ? injectingFinalizer : finalizer;
     }
 }
@@ -0,0 +1,149 @@
+package com.ultimatesoftware.aeon.extensions.selenium;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BrowserSessionPoolTests {
+
+    private static final String KEY = "Chrome|null";
+
+    private BrowserSessionPool pool;
+    private WebDriver first;
+    private WebDriver second;
+    private Supplier<WebDriver> launcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        pool = new BrowserSessionPool(Runnable::run, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+        first = createDriver();
+        second = createDriver();
+        launcher = mock(Supplier.class);
+        when(launcher.get()).thenReturn(first, second);
+    }
+
+    @Test
+    void acquire_withEmptyPool_launchesSessionAndFillsPool() {
+
+        // Arrange
+
+        // Act
+        WebDriver driver = pool.acquire(KEY, 2, null, 0, launcher);
+
+        // Assert
+        assertSame(first, driver);
+        assertTrue(pool.contains(first));
+        assertFalse(pool.contains(second));
+        verify(launcher, times(2)).get();
+    }
+
+    @Test
+    void release_pooledSession_resetsSessionForNextAcquire() {
+
+        // Arrange
+        pool.acquire(KEY, 1, null, 0, launcher);
+
+        // Act
+        boolean released = pool.release(first);
+        WebDriver driver = pool.acquire(KEY, 1, null, 0, launcher);
+
+        // Assert
+        assertTrue(released);
+        assertSame(first, driver);
+        verify(first.manage(), times(1)).deleteAllCookies();
+        verify(first.navigate(), times(1)).to("about:blank");
+        verify(first, never()).quit();
+        verify(launcher, times(1)).get();
+    }
+
+    @Test
+    void release_afterMaxUses_quitsSession() {
+
+        // Arrange
+        pool.acquire(KEY, 1, null, 1, launcher);
+
+        // Act
+        pool.release(first);
+        WebDriver driver = pool.acquire(KEY, 1, null, 1, launcher);
+
+        // Assert
+        verify(first, times(1)).quit();
+        assertSame(second, driver);
+    }
+
+    @Test
+    void acquire_withExpiredSession_quitsSessionAndLaunchesAnother() {
+
+        // Arrange
+        pool.acquire(KEY, 1, Duration.ZERO, 0, launcher);
+
+        // Act
+        pool.release(first);
+        WebDriver driver = pool.acquire(KEY, 1, Duration.ZERO, 0, launcher);
+
+        // Assert
+        verify(first, times(1)).quit();
+        assertSame(second, driver);
+    }
+
+    @Test
+    void acquire_withClosedIdleSession_launchesAnother() {
+
+        // Arrange
+        pool.acquire(KEY, 1, null, 0, launcher);
+        pool.release(first);
+        when(first.getWindowHandles()).thenThrow(new IllegalStateException("Session closed"));
+
+        // Act
+        WebDriver driver = pool.acquire(KEY, 1, null, 0, launcher);
+
+        // Assert
+        assertSame(second, driver);
+        verify(first, times(1)).quit();
+    }
+
+    @Test
+    void release_driverNotFromPool_returnsFalse() {
+
+        // Arrange
+        WebDriver driver = mock(WebDriver.class);
+
+        // Act
+        boolean released = pool.release(driver);
+
+        // Assert
+        assertFalse(released);
+        verifyZeroInteractions(driver);
+    }
+
+    @Test
+    void close_quitsIdleSessions() {
+
+        // Arrange
+        pool.acquire(KEY, 2, null, 0, launcher);
+
+        // Act
+        pool.close();
+
+        // Assert
+        verify(second, times(1)).quit();
+        verify(first, never()).quit();
+    }
+
+    private WebDriver createDriver() {
+        WebDriver driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        when(driver.getWindowHandles()).thenReturn(Collections.singleton("window"));
+        return driver;
+    }
+}
@@ -1,18 +1,38 @@
 package com.ultimatesoftware.aeon.extensions.selenium;
 
 import com.ultimatesoftware.aeon.core.common.Capabilities;
+import com.ultimatesoftware.aeon.core.common.exceptions.UnableToCreateDriverException;
+import com.ultimatesoftware.aeon.core.common.helpers.Sleep;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
 
 class SeleniumAdapterFactoryTests {
 
     private SeleniumAdapterFactory seleniumAdapterFactory;
+    private Sleep sleep;
+    private Sleep originalSleep;
 
     @BeforeEach
     void setup() {
         this.seleniumAdapterFactory = new SeleniumAdapterFactory();
+        this.originalSleep = Sleep.getInstance();
+        this.sleep = mock(Sleep.class);
+        Sleep.setInstance(this.sleep);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Sleep.setInstance(this.originalSleep);
     }
 
     @Test
@@ -26,4 +46,43 @@ class SeleniumAdapterFactoryTests {
         // Assert
         assertEquals(Capabilities.WEB, providedCapability);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getDriver_creationFailsTemporarily_retriesWithIncreasingDelay() {
+
+        // Arrange
+        WebDriver driver = mock(WebDriver.class);
+        Supplier<WebDriver> createDriver = mock(Supplier.class);
+        when(createDriver.get())
+                .thenThrow(new SessionNotCreatedException("Grid is busy"))
+                .thenThrow(new SessionNotCreatedException("Grid is busy"))
+                .thenReturn(driver);
+
+        // Act
+        WebDriver result = this.seleniumAdapterFactory.getDriver(createDriver);
+
+        // Assert
+        assertEquals(driver, result);
+        verify(createDriver, times(3)).get();
+        verify(this.sleep, times(1)).wait(250);
+        verify(this.sleep, times(1)).wait(500);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void getDriver_driverExecutableMissing_failsWithoutRetrying() {
+
+        // Arrange
+        Supplier<WebDriver> createDriver = mock(Supplier.class);
+        when(createDriver.get()).thenThrow(new IllegalStateException("The driver executable does not exist"));
+
+        // Act
+        Executable action = () -> this.seleniumAdapterFactory.getDriver(createDriver);
+
+        // Assert
+        assertThrows(UnableToCreateDriverException.class, action);
+        verify(createDriver, times(1)).get();
+        verify(this.sleep, never()).wait(anyInt());
+    }
 }
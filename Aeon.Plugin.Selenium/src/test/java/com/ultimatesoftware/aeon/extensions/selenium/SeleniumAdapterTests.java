@@ -2,11 +2,13 @@ package com.ultimatesoftware.aeon.extensions.selenium;
 
 import com.ultimatesoftware.aeon.core.common.CompareType;
 import com.ultimatesoftware.aeon.core.common.ComparisonOption;
+import com.ultimatesoftware.aeon.core.common.Screenshot;
 import com.ultimatesoftware.aeon.core.common.exceptions.*;
 import com.ultimatesoftware.aeon.core.common.exceptions.ElementNotVisibleException;
 import com.ultimatesoftware.aeon.core.common.exceptions.NoSuchCookieException;
 import com.ultimatesoftware.aeon.core.common.exceptions.NoSuchElementException;
 import com.ultimatesoftware.aeon.core.common.exceptions.NoSuchWindowException;
+import com.ultimatesoftware.aeon.core.common.helpers.BackgroundTeardown;
 import com.ultimatesoftware.aeon.core.common.helpers.OsCheck;
 import com.ultimatesoftware.aeon.core.common.helpers.Sleep;
 import com.ultimatesoftware.aeon.core.common.interfaces.IBy;
@@ -246,6 +248,59 @@ class SeleniumAdapterTests {
         assertThrows(UnsupportedOperationException.class, action);
     }
 
+    @Test
+    void findElementInView_withCssSelector_findsAndScrollsInOneScript() {
+
+        // Arrange
+        IByWeb selector = By.cssSelector(".class");
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(this.webElement);
+
+        // Act
+        WebControl control = this.seleniumAdapter.findElementInView(selector);
+
+        // Assert
+        assertEquals(this.webElement, ((SeleniumElement) control).getUnderlyingWebElement());
+        verify(this.javascriptExecutor, times(1)).apply(any(), any(), any());
+        verify(this.webDriver, never()).findElement(any());
+    }
+
+    @Test
+    void findElementInView_scriptFindsNoElement_throwsException() {
+
+        // Arrange
+        IByWeb selector = By.cssSelector(".class");
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(null);
+
+        // Act
+        Executable action = () -> this.seleniumAdapter.findElementInView(selector);
+
+        // Assert
+        Exception exception = assertThrows(NoSuchElementException.class, action);
+        assertEquals("The specified element with css selector '.class' does not exist.", exception.getMessage());
+        verify(this.webDriver, never()).findElement(any());
+    }
+
+    @Test
+    void findElementInView_scriptFails_findsElementWithoutScript() {
+
+        // Arrange
+        IByWeb selector = By.cssSelector(".class");
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any()))
+                .thenThrow(new WebDriverException("javascript error"))
+                .thenReturn(null);
+        when(this.webDriver.findElement(any(org.openqa.selenium.By.ByCssSelector.class))).thenReturn(this.webElement);
+
+        // Act
+        WebControl control = this.seleniumAdapter.findElementInView(selector);
+
+        // Assert
+        assertEquals(this.webElement, ((SeleniumElement) control).getUnderlyingWebElement());
+        verify(this.webDriver, times(1)).findElement(any(org.openqa.selenium.By.ByCssSelector.class));
+    }
+
     @Test
     void elementHasOptions_notSelect_throwsException() {
 
@@ -423,6 +478,29 @@ class SeleniumAdapterTests {
         assertEquals("Element does not have option \"com.ultimatesoftware.aeon.core.common.exceptions.NoSuchElementException: The specified element with css selector 'test' does not exist.\".", exception.getMessage());
     }
 
+    @Test
+    void elementHasOptions_scriptReturnsOptions_doesNotFindOptionsOneByOne() {
+
+        // Arrange
+        String[] options = new String[]{"Canada", "us"};
+        when(this.seleniumElement.getTagName()).thenReturn("SELECT");
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(Arrays.asList(
+                Arrays.asList("ca", "Canada", null),
+                Arrays.asList("us", "United States", null)));
+
+        // Act
+        Executable textAction = () -> this.seleniumAdapter.elementHasOptions(this.seleniumElement, new String[]{"Canada"}, null, WebSelectOption.TEXT);
+        Executable valueAction = () -> this.seleniumAdapter.elementHasOptions(this.seleniumElement, options, null, WebSelectOption.VALUE);
+
+        // Assert
+        assertDoesNotThrow(textAction);
+        Exception exception = assertThrows(ElementDoesNotHaveOptionException.class, valueAction);
+        assertEquals("Element does not have option \"Canada\".", exception.getMessage());
+        verify(this.seleniumElement, never()).findElement(any());
+        verify(this.seleniumElement, never()).findElementByXPath(any());
+    }
+
     @Test
     void elementDoesNotHaveOptions_notSelect_throwsException() {
 
@@ -1270,6 +1348,40 @@ class SeleniumAdapterTests {
         assertEquals("The specified elements with jquery selector '$(\".class:contains(something)\")' does not exist.", exception.getMessage());
     }
 
+    @Test
+    void findElements_withJQuerySelectorExpressibleInCss_usesCssSelector() {
+
+        // Arrange
+        List<WebElement> returnedElements = new ArrayList<>();
+        returnedElements.add(Mockito.mock(WebElement.class));
+        returnedElements.add(Mockito.mock(WebElement.class));
+
+        IBy jQuerySelector = By.jQuery("#form").find("input").eq(1);
+        when(this.webDriver.findElements(org.openqa.selenium.By.cssSelector("#form input"))).thenReturn(returnedElements);
+
+        // Act
+        Collection<WebControl> controls = this.seleniumAdapter.findElements(jQuerySelector);
+
+        // Assert
+        assertEquals(1, controls.size());
+        assertEquals(returnedElements.get(1), ((SeleniumElement) controls.iterator().next()).getUnderlyingWebElement());
+        verify(this.javaScriptFlowExecutor, never()).getExecutor();
+    }
+
+    @Test
+    void findElements_withJQuerySelectorExpressibleInCssAndElementIsNotFound_throwsException() {
+
+        // Arrange
+        IBy jQuerySelector = By.jQuery("#form").find("input").first();
+        when(this.webDriver.findElements(org.openqa.selenium.By.cssSelector("#form input"))).thenReturn(new ArrayList<>());
+
+        // Act
+        Executable action = () -> this.seleniumAdapter.findElements(jQuerySelector);
+
+        // Assert
+        assertThrows(NoSuchElementsException.class, action);
+    }
+
     @Test
     void findElements_unknownSelector_throwsUnsupportedOperationException() {
 
@@ -1513,6 +1625,76 @@ class SeleniumAdapterTests {
         verify(this.remoteWebDriver, times(1)).quit();
     }
 
+    @Test
+    void quit_asyncTeardown_quitsInBackground() throws MalformedURLException {
+
+        // Arrange
+        BackgroundTeardown teardown = mock(BackgroundTeardown.class);
+        BackgroundTeardown originalTeardown = BackgroundTeardown.getInstance();
+        BackgroundTeardown.setInstance(teardown);
+        when(this.remoteWebDriver.getSessionId()).thenReturn(new SessionId("s1"));
+        when(this.configuration.getBrowserType()).thenReturn(BrowserType.CHROME);
+        when(this.configuration.getBoolean(SeleniumConfiguration.Keys.TEARDOWN_ASYNC, false)).thenReturn(true);
+
+        this.seleniumAdapter = new SeleniumAdapter(
+                this.remoteWebDriver,
+                this.javaScriptFlowExecutor,
+                this.asyncJavaScriptFlowExecutor,
+                this.configuration,
+                BrowserSize.FULL_HD,
+                new URL("http://host/wd/hub"),
+                this.loggingPreferences
+        );
+
+        // Act
+        try {
+            this.seleniumAdapter.quit();
+        } finally {
+            BackgroundTeardown.setInstance(originalTeardown);
+        }
+
+        // Assert
+        verify(teardown, times(1)).execute(eq("quit"), any(Runnable.class));
+        verify(this.remoteWebDriver, never()).quit();
+    }
+
+    @Test
+    void quit_pooledSessionWithAsyncTeardown_releasesInBackground() throws MalformedURLException {
+
+        // Arrange
+        BackgroundTeardown teardown = mock(BackgroundTeardown.class);
+        BackgroundTeardown originalTeardown = BackgroundTeardown.getInstance();
+        BackgroundTeardown.setInstance(teardown);
+        BrowserSessionPool sessionPool = mock(BrowserSessionPool.class);
+        BrowserSessionPool originalSessionPool = BrowserSessionPool.getInstance();
+        BrowserSessionPool.setInstance(sessionPool);
+        when(sessionPool.contains(this.remoteWebDriver)).thenReturn(true);
+        when(this.configuration.getBoolean(SeleniumConfiguration.Keys.TEARDOWN_ASYNC, false)).thenReturn(true);
+
+        this.seleniumAdapter = new SeleniumAdapter(
+                this.remoteWebDriver,
+                this.javaScriptFlowExecutor,
+                this.asyncJavaScriptFlowExecutor,
+                this.configuration,
+                BrowserSize.FULL_HD,
+                new URL("http://host/wd/hub"),
+                this.loggingPreferences
+        );
+
+        // Act
+        try {
+            this.seleniumAdapter.quit();
+        } finally {
+            BackgroundTeardown.setInstance(originalTeardown);
+            BrowserSessionPool.setInstance(originalSessionPool);
+        }
+
+        // Assert
+        verify(teardown, times(1)).execute(eq("release browser session"), any(Runnable.class));
+        verify(sessionPool, never()).release(any());
+        verify(this.remoteWebDriver, never()).quit();
+    }
+
     @Test
     void verifyAlertExists_happyPath() {
 
@@ -2116,10 +2298,12 @@ class SeleniumAdapterTests {
         );
 
         // Act
-        this.seleniumAdapter.getScreenshot();
+        Screenshot screenshot = this.seleniumAdapter.getScreenshot();
 
         // Assert
         verify(firefoxDriver, times(1)).getScreenshotAs(any());
+        assertSame(imageBytes, screenshot.getBytes());
+        assertEquals(Screenshot.PNG, screenshot.getMimeType());
     }
 
     @Test
@@ -2149,6 +2333,22 @@ class SeleniumAdapterTests {
         assertEquals("Unable to take screenshot.", exception.getMessage());
     }
 
+    @Test
+    void getScreenshot_elementWithoutPadding_takesElementScreenshot() {
+
+        // Arrange
+        byte[] imageBytes = new byte[10];
+        when(this.seleniumElement.getUnderlyingWebElement()).thenReturn(this.webElement);
+        when(this.webElement.getScreenshotAs(OutputType.BYTES)).thenReturn(imageBytes);
+
+        // Act
+        Screenshot screenshot = this.seleniumAdapter.getScreenshot(this.seleniumElement, 0);
+
+        // Assert
+        assertSame(imageBytes, screenshot.getBytes());
+        verify(this.javaScriptFlowExecutor, never()).getExecutor();
+    }
+
     @Test
     void getScreenshot_screenshotIncompatibleDriver_throwsException() {
 
@@ -2781,8 +2981,8 @@ class SeleniumAdapterTests {
         this.seleniumAdapter.setBodyValueByJavaScript(this.seleniumElement, "value");
 
         // Assert
-        String expectedScript = String.format(selector.toJQuery().toString(JQueryStringType.SET_BODY_TEXT), "\"value\"");
-        verify(this.javascriptExecutor, times(1)).apply(any(), eq(expectedScript), any());
+        String expectedScript = String.format(selector.toJQuery().toString(JQueryStringType.SET_BODY_TEXT), "arguments[0]");
+        verify(this.javascriptExecutor, times(1)).apply(any(), eq(expectedScript), eq(Collections.<Object>singletonList("value")));
     }
 
     @Test
@@ -2797,8 +2997,8 @@ class SeleniumAdapterTests {
         this.seleniumAdapter.setTextByJavaScript(this.seleniumElement, "value");
 
         // Assert
-        String expectedScript = String.format(selector.toJQuery().toString(JQueryStringType.SET_ELEMENT_TEXT), "\"value\"");
-        verify(this.javascriptExecutor, times(1)).apply(any(), eq(expectedScript), any());
+        String expectedScript = String.format(selector.toJQuery().toString(JQueryStringType.SET_ELEMENT_TEXT), "arguments[0]");
+        verify(this.javascriptExecutor, times(1)).apply(any(), eq(expectedScript), eq(Collections.<Object>singletonList("value")));
     }
 
     @Test
@@ -2813,8 +3013,8 @@ class SeleniumAdapterTests {
         this.seleniumAdapter.setDivValueByJavaScript(this.seleniumElement, "value");
 
         // Assert
-        String expectedScript = String.format(selector.toJQuery().toString(JQueryStringType.SET_DIV_TEXT), "\"value\"");
-        verify(this.javascriptExecutor, times(1)).apply(any(), eq(expectedScript), any());
+        String expectedScript = String.format(selector.toJQuery().toString(JQueryStringType.SET_DIV_TEXT), "arguments[0]");
+        verify(this.javascriptExecutor, times(1)).apply(any(), eq(expectedScript), eq(Collections.<Object>singletonList("value")));
     }
 
     @Test
@@ -3025,6 +3225,67 @@ class SeleniumAdapterTests {
         assertEquals(".//following-sibling::option[normalize-space(.) = \"z\"]", selectors.get(2).toString());
     }
 
+    @Test
+    void elementHasOptionsInOrder_scriptReturnsOptionsInOtherGroup_throwsException() {
+
+        // Arrange
+        SeleniumElement elementWrapped = Mockito.mock(SeleniumElement.class);
+        when(elementWrapped.getTagName()).thenReturn("select");
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(Arrays.asList(
+                Arrays.asList("a", "A", "first"),
+                Arrays.asList("b", "B", "first"),
+                Arrays.asList("c", "C", "second")));
+
+        // Act
+        Executable inOrder = () -> this.seleniumAdapter.elementHasOptionsInOrder(elementWrapped, new String[]{"A", "B"}, null, WebSelectOption.TEXT);
+        Executable otherGroup = () -> this.seleniumAdapter.elementHasOptionsInOrder(elementWrapped, new String[]{"b", "c"}, null, WebSelectOption.VALUE);
+
+        // Assert
+        assertDoesNotThrow(inOrder);
+        assertThrows(ElementDoesNotHaveOptionException.class, otherGroup);
+        verify(elementWrapped, never()).findElement(any());
+    }
+
+    @Test
+    void hasNumberOfOptions_scriptReturnsOptions_countsSnapshot() {
+
+        // Arrange
+        SeleniumElement elementWrapped = Mockito.mock(SeleniumElement.class);
+        when(elementWrapped.getTagName()).thenReturn("select");
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(Arrays.asList(
+                Arrays.asList("a", "A", null),
+                Arrays.asList("b", "B", null)));
+
+        // Act
+        Executable action = () -> this.seleniumAdapter.hasNumberOfOptions(elementWrapped, 3, null);
+
+        // Assert
+        assertThrows(ElementDoesNotHaveNumberOfOptionsException.class, action);
+        verify(elementWrapped, never()).findElements(any());
+    }
+
+    @Test
+    void hasAllOptionsInOrder_scriptReturnsOptionsWithImproperOrdering_throwsException() {
+
+        // Arrange
+        SeleniumElement elementWrapped = Mockito.mock(SeleniumElement.class);
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(Arrays.asList(
+                Arrays.asList("a", "b", null),
+                Arrays.asList("b", "a", null)));
+
+        // Act
+        Executable byValue = () -> this.seleniumAdapter.hasAllOptionsInOrder(elementWrapped, CompareType.ASCENDING_BY_VALUE, null);
+        Executable byText = () -> this.seleniumAdapter.hasAllOptionsInOrder(elementWrapped, CompareType.ASCENDING_BY_TEXT, null);
+
+        // Assert
+        assertDoesNotThrow(byValue);
+        assertThrows(ElementsNotInOrderException.class, byText);
+        verify(elementWrapped, never()).findElements(any());
+    }
+
     @Test
     void hasNumberOfOptions_withoutOptGroupWithMatchingCount_passes() {
 
@@ -3659,6 +3920,41 @@ class SeleniumAdapterTests {
         assertEquals("The specified element has \"cdb\".", exception.getMessage());
     }
 
+    @Test
+    void has_scriptReturnsChildValues_doesNotReadChildrenOneByOne() {
+
+        // Arrange
+        SeleniumElement elementWrapped = Mockito.mock(SeleniumElement.class);
+        when(elementWrapped.getSelector()).thenReturn(By.cssSelector("#id"));
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(Arrays.asList("abc", " bcd  ", "foo"));
+
+        // Act
+        String[] messages = new String[]{"bcd", "abc"};
+        this.seleniumAdapter.has(elementWrapped, messages, ".class", ComparisonOption.TEXT, "INNERHTML");
+
+        // Assert
+        verify(this.javascriptExecutor, times(1)).apply(any(), any(), any());
+        verify(elementWrapped, never()).findElements(any());
+    }
+
+    @Test
+    void hasLike_scriptReturnsChildValues_comparesIgnoringCase() {
+
+        // Arrange
+        SeleniumElement elementWrapped = Mockito.mock(SeleniumElement.class);
+        when(elementWrapped.getSelector()).thenReturn(By.cssSelector("#id"));
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(Arrays.asList("ABC", "Bcd"));
+
+        // Act
+        String[] messages = new String[]{"bcd", "abc"};
+        this.seleniumAdapter.hasLike(elementWrapped, messages, ".class", ComparisonOption.RAW, "attr");
+
+        // Assert
+        verify(elementWrapped, never()).findElements(any());
+    }
+
     @Test
     void hasLike_comparisonByTextMatchesExpectation_passes() {
 
@@ -3896,6 +4192,24 @@ class SeleniumAdapterTests {
         assertEquals("The specified element has \"text!\".", exception.getMessage());
     }
 
+    @Test
+    void hasOnly_scriptReturnsAdditionalChildValue_throwsException() {
+
+        // Arrange
+        SeleniumElement elementWrapped = Mockito.mock(SeleniumElement.class);
+        when(elementWrapped.getSelector()).thenReturn(By.cssSelector("#id"));
+        when(this.javaScriptFlowExecutor.getExecutor()).thenReturn(this.javascriptExecutor);
+        when(this.javascriptExecutor.apply(any(SeleniumScriptExecutor.class), any(String.class), any())).thenReturn(Arrays.asList("abc", "bcd", "foo"));
+
+        // Act
+        String[] messages = new String[]{"abc", "bcd"};
+        Executable action = () -> this.seleniumAdapter.hasOnly(elementWrapped, messages, ".class", ComparisonOption.TEXT, "INNERHTML");
+
+        // Assert
+        assertThrows(ElementDoesNotOnlyHaveException.class, action);
+        verify(elementWrapped, never()).findElements(any());
+    }
+
     @Test
     void hasOnly_comparisonByTextMatchesExpectation_passes() {
 
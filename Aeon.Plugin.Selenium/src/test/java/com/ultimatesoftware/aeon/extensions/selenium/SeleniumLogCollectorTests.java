@@ -0,0 +1,277 @@
+package com.ultimatesoftware.aeon.extensions.selenium;
+
+import com.ultimatesoftware.aeon.core.extensions.ITestExecutionExtension;
+import com.ultimatesoftware.aeon.core.testabstraction.product.Aeon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.pf4j.PluginManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SeleniumLogCollectorTests {
+
+    private Path directory;
+    private WebDriver driver;
+    private LoggingPreferences loggingPreferences;
+    private ITestExecutionExtension testExecutionExtension;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("selenium-logs");
+        driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        loggingPreferences = new LoggingPreferences();
+        loggingPreferences.enable(LogType.BROWSER, Level.INFO);
+
+        testExecutionExtension = mock(ITestExecutionExtension.class);
+        PluginManager pluginManager = mock(PluginManager.class);
+        when(pluginManager.getExtensions(ITestExecutionExtension.class)).thenReturn(Collections.singletonList(testExecutionExtension));
+        Aeon.setPluginManager(pluginManager);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Aeon.setPluginManager(null);
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void finish_entriesBelowLevel_areSkipped() throws IOException {
+
+        // Arrange
+        givenEntries(
+                new LogEntry(Level.FINE, 1, "fine"),
+                new LogEntry(Level.INFO, 2, "info"),
+                new LogEntry(Level.SEVERE, 3, "severe"));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 10);
+
+        // Act
+        collector.finish();
+        collector.close();
+
+        // Assert
+        List<String> lines = readLines(false);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("info"));
+        assertTrue(lines.get(1).contains("severe"));
+        verify(testExecutionExtension, times(1)).onExecutionEvent(eq("browserLogsCollected"), argThat(payload -> ((List<?>) payload).size() == 2));
+    }
+
+    @Test
+    void drain_calledRepeatedly_appendsEntries() throws IOException {
+
+        // Arrange
+        when(driver.manage().logs().get(LogType.BROWSER)).thenReturn(
+                new LogEntries(Collections.singletonList(new LogEntry(Level.INFO, 1, "first"))),
+                new LogEntries(Collections.singletonList(new LogEntry(Level.INFO, 2, "second"))),
+                new LogEntries(Collections.emptyList()));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 10);
+
+        // Act
+        collector.drain();
+        collector.drain();
+        collector.finish();
+        collector.close();
+
+        // Assert
+        List<String> lines = readLines(false);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("first"));
+        assertTrue(lines.get(1).contains("second"));
+    }
+
+    @Test
+    void finish_moreEntriesThanMaximum_dropsEntriesAndPublishesSummary() throws IOException {
+
+        // Arrange
+        givenEntries(
+                new LogEntry(Level.INFO, 1, "first"),
+                new LogEntry(Level.INFO, 2, "second"),
+                new LogEntry(Level.INFO, 3, "third"));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 2, 1);
+
+        // Act
+        collector.finish();
+        collector.close();
+
+        // Assert
+        assertEquals(2, readLines(false).size());
+        verify(testExecutionExtension, times(1)).onExecutionEvent(eq("browserLogsSummary"), argThat(payload -> {
+            Map<?, ?> summary = (Map<?, ?>) payload;
+            return summary.get("entries").equals(3) && summary.get("written").equals(2) && summary.get("dropped").equals(1);
+        }));
+        verify(testExecutionExtension, times(1)).onExecutionEvent(eq("browserLogsCollected"), argThat(payload -> {
+            List<?> entries = (List<?>) payload;
+            return entries.size() == 1 && ((Map<?, ?>) entries.get(0)).get("message").equals("second");
+        }));
+    }
+
+    @Test
+    void finish_withoutReportEntries_publishesOnlySummary() {
+
+        // Arrange
+        givenEntries(new LogEntry(Level.INFO, 1, "info"));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 0);
+
+        // Act
+        collector.finish();
+        collector.close();
+
+        // Assert
+        verify(testExecutionExtension, times(1)).onExecutionEvent(eq("browserLogsSummary"), any());
+        verify(testExecutionExtension, never()).onExecutionEvent(eq("browserLogsCollected"), any());
+    }
+
+    @Test
+    void finish_withGzip_writesCompressedFile() throws IOException {
+
+        // Arrange
+        givenEntries(new LogEntry(Level.INFO, 1, "info"));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), true, 0, 10);
+
+        // Act
+        collector.finish();
+        collector.close();
+
+        // Assert
+        List<String> lines = readLines(true);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("info"));
+    }
+
+    @Test
+    void drain_unsupportedLogType_stopsReadingIt() {
+
+        // Arrange
+        when(driver.manage().logs().get(LogType.BROWSER)).thenThrow(new IllegalArgumentException("Unsupported log type"));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 10);
+
+        // Act
+        collector.drain();
+        collector.finish();
+        collector.close();
+
+        // Assert
+        verify(driver.manage().logs(), times(1)).get(LogType.BROWSER);
+        verify(testExecutionExtension, never()).onExecutionEvent(anyString(), any());
+    }
+
+    @Test
+    void drain_failsAfterSuccessfulDrain_readsLogTypeAgain() throws IOException {
+
+        // Arrange
+        when(driver.manage().logs().get(LogType.BROWSER))
+                .thenReturn(new LogEntries(Collections.singletonList(new LogEntry(Level.INFO, 1, "first"))))
+                .thenThrow(new IllegalStateException("Page is navigating"))
+                .thenReturn(
+                        new LogEntries(Collections.singletonList(new LogEntry(Level.INFO, 2, "second"))),
+                        new LogEntries(Collections.emptyList()));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 10);
+
+        // Act
+        collector.drain();
+        collector.drain();
+        collector.drain();
+        collector.finish();
+        collector.close();
+
+        // Assert
+        List<String> lines = readLines(false);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("second"));
+        verify(driver.manage().logs(), times(4)).get(LogType.BROWSER);
+    }
+
+    @Test
+    void drain_unsupportedCommandAfterSuccessfulDrain_stopsReadingIt() {
+
+        // Arrange
+        when(driver.manage().logs().get(LogType.BROWSER))
+                .thenReturn(new LogEntries(Collections.emptyList()))
+                .thenThrow(new UnsupportedCommandException("getLog"));
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 10);
+
+        // Act
+        collector.drain();
+        collector.drain();
+        collector.finish();
+        collector.close();
+
+        // Assert
+        verify(driver.manage().logs(), times(2)).get(LogType.BROWSER);
+    }
+
+    @Test
+    void drainIfDue_intervalNotPassed_doesNotReadLogs() {
+
+        // Arrange
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 10);
+        collector.start(Duration.ofHours(1));
+
+        // Act
+        collector.drainIfDue();
+
+        // Assert
+        verify(driver.manage().logs(), never()).get(LogType.BROWSER);
+    }
+
+    @Test
+    void drainIfDue_withoutInterval_doesNotReadLogs() {
+
+        // Arrange
+        SeleniumLogCollector collector = new SeleniumLogCollector(driver, loggingPreferences, directory.toString(), false, 0, 10);
+        collector.start(Duration.ZERO);
+
+        // Act
+        collector.drainIfDue();
+
+        // Assert
+        verify(driver.manage().logs(), never()).get(LogType.BROWSER);
+    }
+
+    private void givenEntries(LogEntry... entries) {
+        when(driver.manage().logs().get(LogType.BROWSER)).thenReturn(
+                new LogEntries(Arrays.asList(entries)),
+                new LogEntries(Collections.emptyList()));
+    }
+
+    private List<String> readLines(boolean gzip) throws IOException {
+        Path file;
+        try (Stream<Path> files = Files.list(directory)) {
+            file = files.findFirst().orElseThrow(() -> new AssertionError("No log file written"));
+        }
+
+        assertEquals(gzip, file.toString().endsWith(".gz"));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                gzip ? new GZIPInputStream(Files.newInputStream(file)) : Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
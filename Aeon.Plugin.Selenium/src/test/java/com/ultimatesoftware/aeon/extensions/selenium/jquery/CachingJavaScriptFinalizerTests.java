@@ -0,0 +1,82 @@
+package com.ultimatesoftware.aeon.extensions.selenium.jquery;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJavaScriptFinalizerTests {
+
+    @Mock
+    private IJavaScriptFinalizer successor;
+
+    @Test
+    void prepare_javaScriptIsNull_throwsException() {
+
+        // Arrange
+        CachingJavaScriptFinalizer finalizer = new CachingJavaScriptFinalizer(this.successor, JavaScriptFinalizerOptions.NONE);
+
+        // Act
+        Executable action = () -> finalizer.prepare(null);
+
+        // Assert
+        Exception exception = assertThrows(IllegalArgumentException.class, action);
+        assertEquals("javaScript", exception.getMessage());
+    }
+
+    @Test
+    void prepare_sameJavaScriptTwice_preparesOnce() {
+
+        // Arrange
+        when(this.successor.prepare("caching-once")).thenReturn("prepared-caching-once");
+        CachingJavaScriptFinalizer finalizer = new CachingJavaScriptFinalizer(this.successor, JavaScriptFinalizerOptions.NONE);
+
+        // Act
+        String first = finalizer.prepare("caching-once");
+        String second = new CachingJavaScriptFinalizer(this.successor, JavaScriptFinalizerOptions.NONE).prepare("caching-once");
+
+        // Assert
+        assertEquals("prepared-caching-once", first);
+        assertEquals("prepared-caching-once", second);
+        verify(this.successor, times(1)).prepare("caching-once");
+    }
+
+    @Test
+    void prepare_otherOptions_preparesSeparately() {
+
+        // Arrange
+        when(this.successor.prepare("caching-options")).thenReturn("prepared-caching-options");
+
+        // Act
+        new CachingJavaScriptFinalizer(this.successor, JavaScriptFinalizerOptions.NONE).prepare("caching-options");
+        new CachingJavaScriptFinalizer(this.successor, JavaScriptFinalizerOptions.INCLUDE_JQUERY_INJECTION).prepare("caching-options");
+
+        // Assert
+        verify(this.successor, times(2)).prepare("caching-options");
+    }
+
+    @Test
+    void prepare_cacheFull_dropsLeastRecentlyUsedScript() {
+
+        // Arrange
+        when(this.successor.prepare(anyString())).thenAnswer(invocation -> "prepared-" + invocation.getArgument(0));
+        CachingJavaScriptFinalizer finalizer = new CachingJavaScriptFinalizer(this.successor, JavaScriptFinalizerOptions.NONE);
+        finalizer.prepare("caching-evicted");
+
+        // Act
+        for (int i = 0; i < CachingJavaScriptFinalizer.MAX_SCRIPTS; i++) {
+            finalizer.prepare("caching-filler-" + i);
+        }
+        finalizer.prepare("caching-evicted");
+
+        // Assert
+        verify(this.successor, times(2)).prepare("caching-evicted");
+    }
+}
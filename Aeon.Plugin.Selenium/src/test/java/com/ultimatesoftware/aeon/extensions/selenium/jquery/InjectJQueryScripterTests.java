@@ -6,8 +6,7 @@ import org.junit.jupiter.api.function.Executable;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,11 +54,11 @@ class InjectJQueryScripterTests {
         String javascript = injectJQueryScripter.prepare("my-javascript");
 
         // Assert
-        assertEquals("var aeonCallback=arguments[arguments.length-1];var aeonNonCallbackArguments=arguments.length==1?[]:Array.prototype.slice.call(arguments,0,arguments.length-2);function aeonFunction(){prepared-my-javascript}aeonCallback(aeonFunction(aeonNonCallbackArguments));", javascript);
+        assertEquals("prepared-my-javascript", javascript);
     }
 
     @Test
-    void prepare_javaScriptDoesRequiresJQuery_preparesJavaScriptWithJQuery() {
+    void prepare_javaScriptDoesRequiresJQuery_preparesJavaScriptWithBundledJQuery() {
 
         // Arrange
         when(this.successor.prepare("$('my-javascript')")).thenReturn("prepared-my-javascript");
@@ -69,9 +68,22 @@ class InjectJQueryScripterTests {
         String javascript = injectJQueryScripter.prepare("$('my-javascript')");
 
         // Assert
-        assertEquals("var aeonCallback=arguments[arguments.length-1];var aeonNonCallbackArguments=arguments.length==1?[]:Array.prototype.slice.call(arguments,0,arguments.length-2);" +
-                "function aeonFunction(){prepared-my-javascript}var aeonJQueryLoaded=false;function aeonOnFinishJQueryLoading(){if(aeonJQueryLoaded)return;aeonJQueryLoaded=true;var $=window.jquery;aeonCallback(aeonFunction(aeonNonCallbackArguments))}" +
-                "if(!window.jquery){var script=document.createElement('script');script.type='text/javascript';script.src='https://ajax.googleapis.com/ajax/libs/jquery/1.11.1/jquery.min.js';script.onreadystatechange=function(){if(this.readyState=='loaded'||this.readyState=='complete')aeonOnFinishJQueryLoading()};" +
-                "script.onload=aeonOnFinishJQueryLoading;document.getElementsByTagName('head')[0].appendChild(script)}else aeonCallback(aeonFunction(aeonNonCallbackArguments));", javascript);
+        assertTrue(javascript.startsWith("var jQuery=window.jQuery||window.aeonJQuery;if(!jQuery){/*! jQuery v3"));
+        assertTrue(javascript.endsWith("\njQuery=window.jQuery;jQuery.fn.andSelf=jQuery.fn.addBack;}var $=jQuery;prepared-my-javascript"));
+        assertFalse(javascript.contains("ajax.googleapis.com"));
+    }
+
+    @Test
+    void prepare_noConflict_keepsJQueryInOwnNamespace() {
+
+        // Arrange
+        when(this.successor.prepare("$('my-javascript')")).thenReturn("prepared-my-javascript");
+        InjectJQueryScripter injectJQueryScripter = new InjectJQueryScripter(this.successor, true);
+
+        // Act
+        String javascript = injectJQueryScripter.prepare("$('my-javascript')");
+
+        // Assert
+        assertTrue(javascript.endsWith("window.aeonJQuery=jQuery.noConflict(true);}var $=jQuery;prepared-my-javascript"));
     }
 }
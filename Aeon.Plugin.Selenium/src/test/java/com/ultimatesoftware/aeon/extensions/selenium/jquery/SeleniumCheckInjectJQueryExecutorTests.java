@@ -0,0 +1,91 @@
+package com.ultimatesoftware.aeon.extensions.selenium.jquery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeleniumCheckInjectJQueryExecutorTests {
+
+    private SeleniumCheckInjectJQueryExecutor executor;
+
+    @Mock
+    private IScriptExecutor scriptExecutor;
+
+    @BeforeEach
+    void setup() {
+        this.executor = new SeleniumCheckInjectJQueryExecutor(new SeleniumJavaScriptFinalizerFactory());
+    }
+
+    @Test
+    void getExecutor_jQueryScriptWithJQueryLoaded_executesScriptOnce() {
+
+        // Arrange
+        when(this.scriptExecutor.executeScript(anyString(), any())).thenReturn(3L);
+
+        // Act
+        Object result = this.executor.getExecutor().apply(this.scriptExecutor, "return $('div').length;", Collections.emptyList());
+
+        // Assert
+        assertEquals(3L, result);
+        verify(this.scriptExecutor, times(1)).executeScript(startsWith("var jQuery=window.jQuery||window.aeonJQuery;"), any());
+        verify(this.scriptExecutor, never()).executeAsyncScript(anyString(), any());
+    }
+
+    @Test
+    void getExecutor_jQueryScriptWithoutJQuery_injectsBundledJQuery() {
+
+        // Arrange
+        when(this.scriptExecutor.executeScript(startsWith("var jQuery=window.jQuery||window.aeonJQuery;if(!jQuery)return"), any()))
+                .thenReturn(SeleniumCheckInjectJQueryExecutor.JQUERY_MISSING);
+        when(this.scriptExecutor.executeScript(contains("jQuery v3"), any())).thenReturn(3L);
+
+        // Act
+        Object result = this.executor.getExecutor().apply(this.scriptExecutor, "return $('div').length;", Collections.emptyList());
+
+        // Assert
+        assertEquals(3L, result);
+        verify(this.scriptExecutor, times(2)).executeScript(anyString(), any());
+        verify(this.scriptExecutor, never()).executeAsyncScript(anyString(), any());
+        verify(this.scriptExecutor, never()).setTimeout(any());
+    }
+
+    @Test
+    void getExecutor_scriptWithoutJQuery_executesScriptUnchanged() {
+
+        // Arrange
+        when(this.scriptExecutor.executeScript(anyString(), any())).thenReturn(true);
+
+        // Act
+        Object result = this.executor.getExecutor().apply(this.scriptExecutor, "return true;", Collections.emptyList());
+
+        // Assert
+        assertEquals(true, result);
+        verify(this.scriptExecutor, times(1)).executeScript(eq("return true;"), any());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void getExecutor_createdWithTimeout_ignoresTimeout() {
+
+        // Arrange
+        this.executor = new SeleniumCheckInjectJQueryExecutor(new SeleniumJavaScriptFinalizerFactory(), Duration.ofSeconds(10));
+        when(this.scriptExecutor.executeScript(anyString(), any())).thenReturn(3L);
+
+        // Act
+        Object result = this.executor.getExecutor().apply(this.scriptExecutor, "return $('div').length;", Collections.emptyList());
+
+        // Assert
+        assertEquals(3L, result);
+        verify(this.scriptExecutor, never()).setTimeout(any());
+    }
+}